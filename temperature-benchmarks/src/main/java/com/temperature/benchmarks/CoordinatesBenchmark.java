@@ -0,0 +1,92 @@
+package com.temperature.benchmarks;
+
+import com.temperature.proxy.domain.model.Coordinates;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoordinatesBenchmark {
+
+    private static final int LOCATIONS = 1024;
+
+    private final double[] latitudes = new double[LOCATIONS];
+    private final double[] longitudes = new double[LOCATIONS];
+    private final Map<String, Object> legacyCache = new HashMap<>();
+    private final Map<Long, Object> packedCache = new HashMap<>();
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        for (var i = 0; i < LOCATIONS; i++) {
+            latitudes[i] = random.nextDouble(-90.0, 90.0);
+            longitudes[i] = random.nextDouble(-180.0, 180.0);
+            legacyCache.put(new LegacyCoordinates(latitudes[i], longitudes[i]).toCacheKey(), Boolean.TRUE);
+            packedCache.put(Coordinates.of(latitudes[i], longitudes[i]).cacheKey(), Boolean.TRUE);
+        }
+    }
+
+    @Benchmark
+    public Object legacyStringKeyLookup() {
+        var i = next();
+        var coordinates = new LegacyCoordinates(latitudes[i], longitudes[i]);
+        return legacyCache.get(coordinates.toCacheKey());
+    }
+
+    @Benchmark
+    public Object packedLongKeyLookup() {
+        var i = next();
+        var coordinates = Coordinates.of(latitudes[i], longitudes[i]);
+        return packedCache.get(coordinates.cacheKey());
+    }
+
+    @Benchmark
+    public String legacyToCacheKey() {
+        var i = next();
+        return new LegacyCoordinates(latitudes[i], longitudes[i]).toCacheKey();
+    }
+
+    @Benchmark
+    public String packedToCacheKey() {
+        var i = next();
+        return Coordinates.of(latitudes[i], longitudes[i]).toCacheKey();
+    }
+
+    @Benchmark
+    public boolean legacyEqualsAndHashCode() {
+        var i = next();
+        var first = new LegacyCoordinates(latitudes[i], longitudes[i]);
+        var second = new LegacyCoordinates(latitudes[i], longitudes[i]);
+        return first.hashCode() == second.hashCode() && first.equals(second);
+    }
+
+    @Benchmark
+    public boolean packedEqualsAndHashCode() {
+        var i = next();
+        var first = Coordinates.of(latitudes[i], longitudes[i]);
+        var second = Coordinates.of(latitudes[i], longitudes[i]);
+        return first.hashCode() == second.hashCode() && first.equals(second);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (LOCATIONS - 1);
+        return cursor;
+    }
+}
@@ -0,0 +1,36 @@
+package com.temperature.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+// Cache key derivation as it was before the packed-long key, kept as the baseline for CoordinatesBenchmark.
+record LegacyCoordinates(double latitude, double longitude) {
+
+    private static final int CACHE_KEY_PRECISION = 2;
+
+    String toCacheKey() {
+        return formatCoordinate(latitude) + ":" + formatCoordinate(longitude);
+    }
+
+    private static String formatCoordinate(double value) {
+        return String.format("%.2f", roundToScale(value, CACHE_KEY_PRECISION));
+    }
+
+    private static double roundToScale(double value, int scale) {
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        LegacyCoordinates that = (LegacyCoordinates) obj;
+        return Objects.equals(toCacheKey(), that.toCacheKey());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(toCacheKey());
+    }
+}
@@ -0,0 +1,67 @@
+package com.temperature.benchmarks;
+
+import com.temperature.proxy.infrastructure.adapter.in.web.filter.RateLimitFilter;
+import com.temperature.proxy.infrastructure.config.JacksonConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+// One pass through RateLimitFilter per operation, cycling over clientIps distinct X-Forwarded-For addresses so the
+// bucket cache lookup, bucket creation and eviction costs show up. The quota is high enough that every request is
+// admitted; the rejection path is covered by RateLimitRejectionLoadTest.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimitFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+    // 100000 matches the default app.rate-limit.max-buckets, 200000 overflows it and measures eviction
+    @Param({"1000", "100000", "200000"})
+    public int clientIps;
+
+    private RateLimitFilter filter;
+    private String[] ips;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        filter = new RateLimitFilter(
+                new JacksonConfig().objectMapper(), 1_000_000, 100_000, Optional.empty(), Optional.empty());
+        ips = new String[clientIps];
+        for (var i = 0; i < clientIps; i++) {
+            ips[i] = "10." + ((i >>> 16) & 0xFF) + "." + ((i >>> 8) & 0xFF) + "." + (i & 0xFF);
+        }
+        request = new MockHttpServletRequest("GET", "/api/v1/weather");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public int filter() throws ServletException, IOException {
+        cursor = cursor + 1 == clientIps ? 0 : cursor + 1;
+        request.removeHeader("X-Forwarded-For");
+        request.addHeader("X-Forwarded-For", ips[cursor]);
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,77 @@
+package com.temperature.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.CurrentWeather;
+import com.temperature.proxy.domain.model.Temperature;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WindSpeed;
+import com.temperature.proxy.infrastructure.adapter.in.web.EncodedResponseCache;
+import com.temperature.proxy.infrastructure.adapter.in.web.dto.WeatherResponse;
+import com.temperature.proxy.infrastructure.config.JacksonConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// The per-request response path of GET /api/v1/weather on a cache hit: domain-to-DTO mapping and JSON encoding with
+// the application's ObjectMapper, against the pre-encoded bytes served from EncodedResponseCache
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeatherResponseBenchmark {
+
+    private ObjectMapper objectMapper;
+    private WeatherData weatherData;
+    private WeatherResponse response;
+    private EncodedResponseCache encodedResponseCache;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper();
+        weatherData = WeatherData.of(
+                Coordinates.of(52.52, 13.41),
+                CurrentWeather.of(Temperature.ofCelsius(15.5), WindSpeed.ofKmh(10.2)),
+                Instant.now());
+        response = WeatherResponse.fromDomain(weatherData);
+        encodedResponseCache = new EncodedResponseCache(objectMapper, 1_000, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public WeatherResponse fromDomain() {
+        return WeatherResponse.fromDomain(weatherData);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] fromDomainAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(WeatherResponse.fromDomain(weatherData));
+    }
+
+    @Benchmark
+    public byte[] encodedHit() {
+        return encodedResponseCache.get(weatherData).body(Instant.now());
+    }
+
+    @Benchmark
+    public byte[] encodedGzipHit() {
+        return encodedResponseCache.get(weatherData).gzippedBody(Instant.now());
+    }
+}
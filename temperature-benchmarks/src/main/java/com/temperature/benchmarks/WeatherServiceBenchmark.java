@@ -0,0 +1,102 @@
+package com.temperature.benchmarks;
+
+import com.temperature.proxy.application.service.WeatherService;
+import com.temperature.proxy.domain.model.CoordinateGrid;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.CurrentWeather;
+import com.temperature.proxy.domain.model.Temperature;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WindSpeed;
+import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import com.temperature.proxy.infrastructure.config.CacheConfig;
+import com.temperature.proxy.infrastructure.metrics.HotKeyTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Cache hits through WeatherService on the CaffeineCacheManager built by CacheConfig, with and without the hot-key
+// tracker that production wires in by default. The TTL is long enough that no entry expires during a run.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeatherServiceBenchmark {
+
+    private static final int LOCATIONS = 1024;
+
+    private final Coordinates[] locations = new Coordinates[LOCATIONS];
+    private WeatherService untrackedService;
+    private WeatherService trackedService;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        var provider = new FixedWeatherProvider();
+        var meterRegistry = new SimpleMeterRegistry();
+        var cacheManager = new CacheConfig()
+                .cacheManager(
+                        Duration.ofHours(1),
+                        10_000,
+                        null,
+                        Duration.ZERO,
+                        false,
+                        provider,
+                        CoordinateGrid.DEFAULT,
+                        meterRegistry);
+        untrackedService = new WeatherService(provider, cacheManager, Optional.empty());
+        trackedService = new WeatherService(
+                provider, cacheManager, Optional.of(new HotKeyTracker(20, 2048, Duration.ofMinutes(1))));
+
+        var random = new SplittableRandom(42);
+        for (var i = 0; i < LOCATIONS; i++) {
+            locations[i] = Coordinates.of(random.nextDouble(-90.0, 90.0), random.nextDouble(-180.0, 180.0));
+            untrackedService.getCurrentWeather(locations[i]);
+        }
+    }
+
+    @Benchmark
+    public WeatherData cachedLookup() {
+        return untrackedService.getCurrentWeather(next());
+    }
+
+    @Benchmark
+    public WeatherData cachedLookupWithHotKeyTracking() {
+        return trackedService.getCurrentWeather(next());
+    }
+
+    private Coordinates next() {
+        cursor = (cursor + 1) & (LOCATIONS - 1);
+        return locations[cursor];
+    }
+
+    private static final class FixedWeatherProvider implements WeatherDataProvider {
+
+        private static final CurrentWeather CURRENT_WEATHER =
+                CurrentWeather.of(Temperature.ofCelsius(15.5), WindSpeed.ofKmh(10.2));
+
+        @Override
+        public WeatherData fetchWeatherData(Coordinates coordinates) {
+            return WeatherData.of(coordinates, CURRENT_WEATHER);
+        }
+
+        @Override
+        public List<WeatherData> fetchWeatherData(List<Coordinates> locations) {
+            return locations.stream().map(this::fetchWeatherData).toList();
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.temperature.benchmarks.regression;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+// Compares a JMH result file and the end-to-end load reports against the baselines stored in the repository, writes a
+// Markdown diff report and fails when a metric regressed beyond its tolerance. With update-baseline=true it copies the
+// current results over the baselines instead.
+//
+// A JMH score only counts as regressed when it is worse by more than the tolerance and the difference is larger than
+// the combined 99.9% confidence intervals of both runs; load reports are single runs and use the tolerance alone. A
+// metric without a baseline fails the gate as well, unless allow-missing-baseline=true, so a lost or never recorded
+// baseline cannot silently turn the gate into a no-op.
+public final class PerformanceGate {
+
+    // Allocation differences below this are noise from escape analysis, whatever the percentage
+    static final double ALLOCATION_FLOOR_BYTES = 16;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Tolerances tolerances;
+
+    PerformanceGate(Tolerances tolerances) {
+        this.tolerances = tolerances;
+    }
+
+    public static void main(String[] args) throws IOException {
+        var options = options(args);
+        var jmhBaseline = Path.of(options.getOrDefault("jmh-baseline", "baseline/jmh.json"));
+        var jmhResult = Path.of(options.getOrDefault("jmh-result", "target/jmh-result.json"));
+        var loadBaseline = Path.of(options.getOrDefault("load-baseline", "baseline/load"));
+        var loadResults = Path.of(options.getOrDefault("load-results", "../temperature-proxy/target/load-test"));
+        var report = Path.of(options.getOrDefault("report", "target/performance-report.md"));
+
+        if (Boolean.parseBoolean(options.getOrDefault("update-baseline", "false"))) {
+            updateBaseline(jmhResult, jmhBaseline, loadResults, loadBaseline);
+            return;
+        }
+
+        var gate = new PerformanceGate(Tolerances.from(options));
+        var comparisons = new ArrayList<Comparison>();
+        comparisons.addAll(gate.compareJmh(readIfPresent(jmhBaseline), readIfPresent(jmhResult)));
+        comparisons.addAll(gate.compareLoad(readReports(loadBaseline), readReports(loadResults)));
+
+        var markdown = markdown(comparisons);
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        Files.writeString(report, markdown);
+        System.out.println(markdown);
+        System.out.println("Performance report written to " + report.toAbsolutePath());
+
+        var failure =
+                failure(comparisons, Boolean.parseBoolean(options.getOrDefault("allow-missing-baseline", "false")));
+        if (failure != null) {
+            throw new IllegalStateException(failure + ", see " + report);
+        }
+    }
+
+    // Null when the gate passes
+    static String failure(List<Comparison> comparisons, boolean allowMissingBaseline) {
+        if (comparisons.isEmpty()) {
+            return "No benchmark or load results to compare";
+        }
+        var regressions = comparisons.stream().filter(Comparison::regressed).count();
+        if (regressions > 0) {
+            return regressions + " performance metric(s) regressed";
+        }
+        var missing = comparisons.stream()
+                .filter(comparison -> comparison.baseline() == null)
+                .count();
+        if (missing > 0 && !allowMissingBaseline) {
+            return missing + " performance metric(s) have no baseline; record one with update-baseline=true or pass"
+                    + " allow-missing-baseline=true";
+        }
+        return null;
+    }
+
+    List<Comparison> compareJmh(JsonNode baseline, JsonNode current) {
+        var comparisons = new ArrayList<Comparison>();
+        var baselineByName = jmhByName(baseline);
+        jmhByName(current).forEach((name, result) -> {
+            var previous = baselineByName.get(name);
+            var lowerIsBetter = !"thrpt".equals(result.path("mode").asText());
+            var unit = result.path("primaryMetric").path("scoreUnit").asText();
+            comparisons.add(compareScore(
+                    name,
+                    "score (" + unit + ")",
+                    previous == null ? null : previous.path("primaryMetric"),
+                    result.path("primaryMetric"),
+                    lowerIsBetter,
+                    tolerances.score(),
+                    0));
+            var allocation = secondaryMetric(result, "gc.alloc.rate.norm");
+            if (allocation != null) {
+                comparisons.add(compareScore(
+                        name,
+                        "allocation (B/op)",
+                        previous == null ? null : secondaryMetric(previous, "gc.alloc.rate.norm"),
+                        allocation,
+                        true,
+                        tolerances.allocation(),
+                        ALLOCATION_FLOOR_BYTES));
+            }
+        });
+        return comparisons;
+    }
+
+    List<Comparison> compareLoad(Map<String, JsonNode> baseline, Map<String, JsonNode> current) {
+        var comparisons = new ArrayList<Comparison>();
+        current.forEach((name, report) -> {
+            var previous = baseline.get(name);
+            // latency and throughput of an open-model run only compare at the same offered rate
+            if (previous != null
+                    && previous.path("offeredRate").asLong()
+                            != report.path("offeredRate").asLong()) {
+                throw new IllegalStateException(name + " baseline was recorded at "
+                        + previous.path("offeredRate").asLong() + " req/s but this run offered "
+                        + report.path("offeredRate").asLong() + " req/s; re-record it with update-baseline=true");
+            }
+            comparisons.add(compareValue(name, "throughput", previous, report, false, tolerances.throughput()));
+            comparisons.add(compareValue(name, "p50Millis", previous, report, true, tolerances.latency()));
+            comparisons.add(compareValue(name, "p99Millis", previous, report, true, tolerances.latency()));
+            comparisons.add(compareValue(name, "p999Millis", previous, report, true, tolerances.latency()));
+            comparisons.add(
+                    compareValue(name, "upstreamCallsPerRequest", previous, report, true, tolerances.throughput()));
+            comparisons.add(compareValue(name, "hitRatio", previous, report, false, tolerances.throughput()));
+        });
+        return comparisons;
+    }
+
+    private static Comparison compareScore(
+            String name,
+            String metric,
+            JsonNode baseline,
+            JsonNode current,
+            boolean lowerIsBetter,
+            double tolerance,
+            double floor) {
+        var currentScore = current.path("score").asDouble();
+        if (baseline == null || baseline.isMissingNode()) {
+            return Comparison.withoutBaseline(name, metric, currentScore);
+        }
+        var baselineScore = baseline.path("score").asDouble();
+        var worseBy = lowerIsBetter ? currentScore - baselineScore : baselineScore - currentScore;
+        var noise = Math.hypot(error(baseline), error(current));
+        var regressed = worseBy > Math.abs(baselineScore) * tolerance && worseBy > noise && worseBy > floor;
+        return new Comparison(name, metric, baselineScore, currentScore, regressed);
+    }
+
+    private static Comparison compareValue(
+            String name, String metric, JsonNode baseline, JsonNode current, boolean lowerIsBetter, double tolerance) {
+        var currentValue = current.path(metric).asDouble();
+        if (baseline == null || baseline.path(metric).isMissingNode()) {
+            return Comparison.withoutBaseline(name, metric, currentValue);
+        }
+        var baselineValue = baseline.path(metric).asDouble();
+        var worseBy = lowerIsBetter ? currentValue - baselineValue : baselineValue - currentValue;
+        return new Comparison(name, metric, baselineValue, currentValue, worseBy > Math.abs(baselineValue) * tolerance);
+    }
+
+    private static double error(JsonNode metric) {
+        var error = metric.path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    // JMH 1.37 names it "gc.alloc.rate.norm", older versions prefix a middle dot
+    private static JsonNode secondaryMetric(JsonNode result, String name) {
+        for (Iterator<Map.Entry<String, JsonNode>> it =
+                        result.path("secondaryMetrics").fields();
+                it.hasNext(); ) {
+            var entry = it.next();
+            if (entry.getKey().replace("·", "").equals(name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, JsonNode> jmhByName(JsonNode results) {
+        var byName = new LinkedHashMap<String, JsonNode>();
+        if (results == null) {
+            return byName;
+        }
+        for (var result : results) {
+            var name = result.path("benchmark").asText().replace("com.temperature.benchmarks.", "");
+            var params = new TreeMap<String, String>();
+            result.path("params")
+                    .fields()
+                    .forEachRemaining(
+                            param -> params.put(param.getKey(), param.getValue().asText()));
+            byName.put(params.isEmpty() ? name : name + params, result);
+        }
+        return byName;
+    }
+
+    static String markdown(List<Comparison> comparisons) {
+        var report = new StringBuilder("# Performance report\n\n");
+        var regressions = comparisons.stream().filter(Comparison::regressed).count();
+        report.append(regressions == 0 ? "No regressions.\n\n" : regressions + " regression(s).\n\n");
+        report.append("| Benchmark | Metric | Baseline | Current | Change | |\n");
+        report.append("|-----------|--------|----------|---------|--------|-|\n");
+        for (var comparison : comparisons) {
+            report.append(String.format(
+                    Locale.ROOT,
+                    "| %s | %s | %s | %.3f | %s | %s |%n",
+                    comparison.name(),
+                    comparison.metric(),
+                    comparison.baseline() == null ? "-" : String.format(Locale.ROOT, "%.3f", comparison.baseline()),
+                    comparison.current(),
+                    comparison.changePercent() == null
+                            ? "new"
+                            : String.format(Locale.ROOT, "%+.1f%%", comparison.changePercent()),
+                    comparison.regressed() ? "REGRESSED" : ""));
+        }
+        return report.toString();
+    }
+
+    private static void updateBaseline(Path jmhResult, Path jmhBaseline, Path loadResults, Path loadBaseline)
+            throws IOException {
+        if (Files.exists(jmhResult)) {
+            Files.createDirectories(jmhBaseline.toAbsolutePath().getParent());
+            Files.copy(jmhResult, jmhBaseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Updated " + jmhBaseline);
+        }
+        if (Files.isDirectory(loadResults)) {
+            Files.createDirectories(loadBaseline);
+            try (Stream<Path> reports = Files.list(loadResults)) {
+                for (var report : reports.filter(file -> file.toString().endsWith(".json"))
+                        .toList()) {
+                    var target = loadBaseline.resolve(report.getFileName());
+                    Files.copy(report, target, StandardCopyOption.REPLACE_EXISTING);
+                    System.out.println("Updated " + target);
+                }
+            }
+        }
+    }
+
+    private static JsonNode readIfPresent(Path file) throws IOException {
+        return Files.exists(file) ? OBJECT_MAPPER.readTree(file.toFile()) : null;
+    }
+
+    private static Map<String, JsonNode> readReports(Path directory) throws IOException {
+        var reports = new TreeMap<String, JsonNode>();
+        if (!Files.isDirectory(directory)) {
+            return reports;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (var file :
+                    files.filter(path -> path.toString().endsWith(".json")).toList()) {
+                var report = OBJECT_MAPPER.readTree(file.toFile());
+                reports.put(report.path("name").asText(file.getFileName().toString()), report);
+            }
+        }
+        return reports;
+    }
+
+    private static Map<String, String> options(String[] args) {
+        var options = new LinkedHashMap<String, String>();
+        for (var arg : args) {
+            var separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator).replaceFirst("^--", ""), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+
+    record Tolerances(double score, double allocation, double throughput, double latency) {
+
+        static Tolerances from(Map<String, String> options) {
+            return new Tolerances(
+                    percent(options, "score-tolerance", "10"),
+                    percent(options, "allocation-tolerance", "10"),
+                    percent(options, "throughput-tolerance", "10"),
+                    percent(options, "latency-tolerance", "25"));
+        }
+
+        private static double percent(Map<String, String> options, String name, String defaultValue) {
+            return Double.parseDouble(options.getOrDefault(name, defaultValue)) / 100.0;
+        }
+    }
+
+    record Comparison(String name, String metric, Double baseline, double current, boolean regressed) {
+
+        static Comparison withoutBaseline(String name, String metric, double current) {
+            return new Comparison(name, metric, null, current, false);
+        }
+
+        Double changePercent() {
+            if (baseline == null) {
+                return null;
+            }
+            return baseline == 0 ? 0.0 : (current - baseline) / Math.abs(baseline) * 100;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.temperature.benchmarks.regression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PerformanceGate")
+class PerformanceGateTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final PerformanceGate gate = new PerformanceGate(new PerformanceGate.Tolerances(0.10, 0.10, 0.10, 0.25));
+
+    @Nested
+    @DisplayName("JMH results")
+    class JmhResults {
+
+        @Test
+        void should_flag_score_worse_than_tolerance_and_noise() {
+            // given
+            var baseline = jmh("avgt", 100, 2, 24);
+            var current = jmh("avgt", 130, 2, 24);
+
+            // when
+            var comparisons = gate.compareJmh(baseline, current);
+
+            // then
+            assertThat(comparisons)
+                    .filteredOn(comparison -> comparison.metric().startsWith("score"))
+                    .singleElement()
+                    .satisfies(comparison -> assertThat(comparison.regressed()).isTrue());
+        }
+
+        @Test
+        void should_not_flag_score_within_confidence_interval() {
+            // given
+            var baseline = jmh("avgt", 100, 40, 24);
+            var current = jmh("avgt", 130, 40, 24);
+
+            // when
+            var comparisons = gate.compareJmh(baseline, current);
+
+            // then
+            assertThat(comparisons).noneMatch(PerformanceGate.Comparison::regressed);
+        }
+
+        @Test
+        void should_treat_lower_throughput_as_regression() {
+            // given
+            var baseline = jmh("thrpt", 1000, 5, 24);
+            var current = jmh("thrpt", 800, 5, 24);
+
+            // when
+            var comparisons = gate.compareJmh(baseline, current);
+
+            // then
+            assertThat(comparisons).anyMatch(PerformanceGate.Comparison::regressed);
+        }
+
+        @Test
+        void should_flag_allocation_growth_above_floor() {
+            // given
+            var baseline = jmh("avgt", 100, 2, 24);
+            var current = jmh("avgt", 100, 2, 96);
+
+            // when
+            var comparisons = gate.compareJmh(baseline, current);
+
+            // then
+            assertThat(comparisons)
+                    .filteredOn(PerformanceGate.Comparison::regressed)
+                    .extracting(PerformanceGate.Comparison::metric)
+                    .containsExactly("allocation (B/op)");
+        }
+
+        @Test
+        void should_ignore_allocation_change_below_floor() {
+            // given
+            var baseline = jmh("avgt", 100, 2, 0);
+            var current = jmh("avgt", 100, 2, 8);
+
+            // when
+            var comparisons = gate.compareJmh(baseline, current);
+
+            // then
+            assertThat(comparisons).noneMatch(PerformanceGate.Comparison::regressed);
+        }
+
+        @Test
+        void should_report_benchmark_without_baseline_as_new() {
+            // when
+            var comparisons = gate.compareJmh(null, jmh("avgt", 100, 2, 24));
+
+            // then
+            assertThat(comparisons).allSatisfy(comparison -> {
+                assertThat(comparison.regressed()).isFalse();
+                assertThat(comparison.changePercent()).isNull();
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Load reports")
+    class LoadReports {
+
+        @Test
+        void should_flag_p99_latency_beyond_tolerance() {
+            // given
+            var baseline = Map.of("end-to-end-zipf", load(500, 10, 40));
+            var current = Map.of("end-to-end-zipf", load(500, 10, 60));
+
+            // when
+            var comparisons = gate.compareLoad(baseline, current);
+
+            // then
+            assertThat(comparisons)
+                    .filteredOn(PerformanceGate.Comparison::regressed)
+                    .extracting(PerformanceGate.Comparison::metric)
+                    .containsExactly("p99Millis");
+        }
+
+        @Test
+        void should_accept_improvements() {
+            // given
+            var baseline = Map.of("end-to-end-zipf", load(500, 10, 40));
+            var current = Map.of("end-to-end-zipf", load(600, 5, 20));
+
+            // when
+            var comparisons = gate.compareLoad(baseline, current);
+
+            // then
+            assertThat(comparisons).noneMatch(PerformanceGate.Comparison::regressed);
+        }
+
+        @Test
+        void should_refuse_baseline_recorded_at_another_offered_rate() {
+            // given
+            var baseline = Map.of("end-to-end-zipf", loadAt(50));
+            var current = Map.of("end-to-end-zipf", loadAt(500));
+
+            // when/then
+            assertThatThrownBy(() -> gate.compareLoad(baseline, current))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("recorded at 50 req/s but this run offered 500 req/s");
+        }
+    }
+
+    @Nested
+    @DisplayName("Verdict")
+    class Verdict {
+
+        @Test
+        void should_fail_on_metric_without_baseline() {
+            // given
+            var comparisons = gate.compareJmh(null, jmh("avgt", 100, 2, 24));
+
+            // when
+            var failure = PerformanceGate.failure(comparisons, false);
+
+            // then
+            assertThat(failure).startsWith("2 performance metric(s) have no baseline");
+        }
+
+        @Test
+        void should_pass_metric_without_baseline_when_allowed() {
+            // given
+            var comparisons = gate.compareJmh(null, jmh("avgt", 100, 2, 24));
+
+            // when/then
+            assertThat(PerformanceGate.failure(comparisons, true)).isNull();
+        }
+
+        @Test
+        void should_fail_on_regression_even_when_missing_baselines_are_allowed() {
+            // given
+            var comparisons = gate.compareLoad(
+                    Map.of("end-to-end-zipf", load(500, 10, 40)), Map.of("end-to-end-zipf", load(500, 10, 60)));
+
+            // when/then
+            assertThat(PerformanceGate.failure(comparisons, true)).isEqualTo("1 performance metric(s) regressed");
+        }
+
+        @Test
+        void should_fail_without_results() {
+            assertThat(PerformanceGate.failure(List.of(), true)).isEqualTo("No benchmark or load results to compare");
+        }
+
+        @Test
+        void should_pass_when_every_metric_is_within_tolerance() {
+            // given
+            var comparisons = gate.compareJmh(jmh("avgt", 100, 2, 24), jmh("avgt", 101, 2, 24));
+
+            // when/then
+            assertThat(PerformanceGate.failure(comparisons, false)).isNull();
+        }
+    }
+
+    @Test
+    void should_mark_regressions_in_markdown_report() {
+        // given
+        var comparisons = gate.compareLoad(
+                Map.of("end-to-end-uniform", load(500, 10, 40)), Map.of("end-to-end-uniform", load(500, 10, 80)));
+
+        // when
+        var markdown = PerformanceGate.markdown(comparisons);
+
+        // then
+        assertThat(markdown)
+                .contains("1 regression(s).")
+                .contains("| end-to-end-uniform | p99Millis | 40.000 | 80.000 | +100.0% | REGRESSED |");
+    }
+
+    private static JsonNode jmh(String mode, double score, double error, double allocation) {
+        var result = OBJECT_MAPPER.createObjectNode();
+        result.put("benchmark", "com.temperature.benchmarks.CoordinatesBenchmark.lookup");
+        result.put("mode", mode);
+        result.putObject("primaryMetric")
+                .put("score", score)
+                .put("scoreError", error)
+                .put("scoreUnit", "ns/op");
+        result.putObject("secondaryMetrics")
+                .putObject("gc.alloc.rate.norm")
+                .put("score", allocation)
+                .put("scoreError", 0.001)
+                .put("scoreUnit", "B/op");
+        return OBJECT_MAPPER.createArrayNode().add(result);
+    }
+
+    private static JsonNode load(double throughput, double p50Millis, double p99Millis) {
+        return OBJECT_MAPPER
+                .createObjectNode()
+                .put("throughput", throughput)
+                .put("p50Millis", p50Millis)
+                .put("p99Millis", p99Millis)
+                .put("p999Millis", 100.0)
+                .put("upstreamCallsPerRequest", 0.1)
+                .put("hitRatio", 0.9);
+    }
+
+    private static JsonNode loadAt(int offeredRate) {
+        return ((ObjectNode) load(500, 10, 40)).put("offeredRate", offeredRate);
+    }
+}
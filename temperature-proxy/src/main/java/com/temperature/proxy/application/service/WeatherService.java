@@ -1,30 +1,190 @@
 package com.temperature.proxy.application.service;
 
+import com.temperature.proxy.domain.exception.WeatherProviderException;
 import com.temperature.proxy.domain.model.Coordinates;
 import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WeatherResult;
 import com.temperature.proxy.domain.port.in.GetCurrentWeatherUseCase;
 import com.temperature.proxy.domain.port.out.WeatherDataProvider;
-import lombok.RequiredArgsConstructor;
+import com.temperature.proxy.domain.port.out.WeatherLookupRecorder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class WeatherService implements GetCurrentWeatherUseCase {
 
     public static final String WEATHER_CACHE_NAME = "weather";
+    public static final String STALE_WEATHER_CACHE_NAME = "weather-stale";
 
     private final WeatherDataProvider weatherDataProvider;
+    private final CacheManager cacheManager;
+    private final WeatherLookupRecorder lookupRecorder;
 
+    // The lookup recorder is absent when hot-key tracking is disabled
+    public WeatherService(
+            WeatherDataProvider weatherDataProvider,
+            CacheManager cacheManager,
+            Optional<WeatherLookupRecorder> lookupRecorder) {
+        this.weatherDataProvider = weatherDataProvider;
+        this.cacheManager = cacheManager;
+        this.lookupRecorder = lookupRecorder.orElse(WeatherLookupRecorder.NONE);
+    }
+
+    // Programmatic rather than @Cacheable(sync = true): a stale fallback must be returned without being cached
     @Override
-    @Cacheable(value = WEATHER_CACHE_NAME, key = "#coordinates.toCacheKey()", sync = true)
     public WeatherData getCurrentWeather(Coordinates coordinates) {
+        var cache = cacheManager.getCache(WEATHER_CACHE_NAME);
+        try {
+            if (cache == null) {
+                return fetch(coordinates);
+            }
+            return cachedOrLoad(cache, coordinates);
+        } catch (Cache.ValueRetrievalException ex) {
+            if (ex.getCause() instanceof WeatherProviderException providerException) {
+                return staleOrThrow(coordinates, providerException);
+            }
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        } catch (WeatherProviderException ex) {
+            return staleOrThrow(coordinates, ex);
+        }
+    }
+
+    private WeatherData cachedOrLoad(Cache cache, Coordinates coordinates) {
+        var load = new Load(coordinates);
+        try {
+            return cache.get(coordinates.cacheKey(), load);
+        } finally {
+            lookupRecorder.recordLookup(coordinates.cacheKey(), !load.invoked);
+        }
+    }
+
+    private WeatherData fetch(Coordinates coordinates) {
         log.info(
                 "Fetching weather data for coordinates: lat={}, lon={}",
                 coordinates.latitude(),
                 coordinates.longitude());
         return weatherDataProvider.fetchWeatherData(coordinates);
     }
+
+    private WeatherData staleOrThrow(Coordinates coordinates, WeatherProviderException failure) {
+        var stale = findStale(coordinates);
+        if (stale == null) {
+            throw failure;
+        }
+        return stale;
+    }
+
+    private WeatherData findStale(Coordinates coordinates) {
+        var stale = lookup(cacheManager.getCache(STALE_WEATHER_CACHE_NAME), coordinates.cacheKey());
+        if (stale == null) {
+            return null;
+        }
+        log.warn(
+                "Serving stale weather data for lat={}, lon={} retrieved at {}",
+                coordinates.latitude(),
+                coordinates.longitude(),
+                stale.retrievedAt());
+        return stale.asStale();
+    }
+
+    @Override
+    public List<WeatherResult> getCurrentWeather(List<Coordinates> locations) {
+        var cache = cacheManager.getCache(WEATHER_CACHE_NAME);
+        Map<Long, WeatherData> resolved = new HashMap<>();
+        Map<Long, Coordinates> misses = new LinkedHashMap<>();
+
+        for (var coordinates : locations) {
+            var key = coordinates.cacheKey();
+            if (resolved.containsKey(key) || misses.containsKey(key)) {
+                continue;
+            }
+            var cached = lookup(cache, key);
+            lookupRecorder.recordLookup(key, cached != null);
+            if (cached != null) {
+                resolved.put(key, cached);
+            } else {
+                misses.put(key, coordinates);
+            }
+        }
+
+        WeatherProviderException failure = null;
+        if (!misses.isEmpty()) {
+            log.info("Fetching weather data for {} of {} locations", misses.size(), locations.size());
+            try {
+                var fetched = weatherDataProvider.fetchWeatherData(new ArrayList<>(misses.values()));
+                for (var weatherData : fetched) {
+                    var key = weatherData.location().cacheKey();
+                    resolved.put(key, weatherData);
+                    if (cache != null) {
+                        cache.put(key, weatherData);
+                    }
+                }
+            } catch (WeatherProviderException ex) {
+                failure = ex;
+            }
+        }
+
+        var results = new ArrayList<WeatherResult>(locations.size());
+        for (var coordinates : locations) {
+            var weatherData = resolved.get(coordinates.cacheKey());
+            if (weatherData == null && failure != null) {
+                weatherData = findStale(coordinates);
+                if (weatherData != null) {
+                    resolved.put(coordinates.cacheKey(), weatherData);
+                }
+            }
+            if (weatherData != null) {
+                results.add(WeatherResult.success(coordinates, weatherData));
+            } else if (failure != null) {
+                results.add(WeatherResult.failure(coordinates, failure));
+            } else {
+                results.add(WeatherResult.failure(
+                        coordinates, WeatherProviderException.invalidResponse("Weather service returned no data")));
+            }
+        }
+        return results;
+    }
+
+    // Spring's Cache#get would trigger the refresh-ahead loader one key at a time, so peek at Caffeine directly
+    @SuppressWarnings("unchecked")
+    private static WeatherData lookup(Cache cache, long key) {
+        if (cache == null) {
+            return null;
+        }
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            return (WeatherData)
+                    ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) caffeine).getIfPresent(key);
+        }
+        return cache.get(key, WeatherData.class);
+    }
+
+    // The loader doubles as the hit/miss flag: it only runs when this lookup had to go to the provider
+    private final class Load implements Callable<WeatherData> {
+
+        private final Coordinates coordinates;
+        private volatile boolean invoked;
+
+        private Load(Coordinates coordinates) {
+            this.coordinates = coordinates;
+        }
+
+        @Override
+        public WeatherData call() {
+            invoked = true;
+            return fetch(coordinates);
+        }
+    }
 }
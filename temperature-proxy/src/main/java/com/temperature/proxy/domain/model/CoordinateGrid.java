@@ -0,0 +1,26 @@
+package com.temperature.proxy.domain.model;
+
+public sealed interface CoordinateGrid permits DecimalGrid, KilometreGrid {
+
+    CoordinateGrid DEFAULT = new DecimalGrid(2);
+
+    long cellOf(double latitude, double longitude);
+
+    double cellLatitude(long cell);
+
+    double cellLongitude(long cell);
+
+    String format(long cell);
+
+    static long pack(int row, int column) {
+        return ((long) row << 32) | (column & 0xFFFFFFFFL);
+    }
+
+    static int row(long cell) {
+        return (int) (cell >> 32);
+    }
+
+    static int column(long cell) {
+        return (int) cell;
+    }
+}
@@ -1,36 +1,72 @@
 package com.temperature.proxy.domain.model;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.Objects;
-
-public record Coordinates(double latitude, double longitude) {
+public final class Coordinates {
 
     private static final double MIN_LATITUDE = -90.0;
     private static final double MAX_LATITUDE = 90.0;
     private static final double MIN_LONGITUDE = -180.0;
     private static final double MAX_LONGITUDE = 180.0;
-    private static final int CACHE_KEY_PRECISION = 2;
 
-    public Coordinates {
+    private final double latitude;
+    private final double longitude;
+    private final CoordinateGrid grid;
+    private final long cacheKey;
+
+    public Coordinates(double latitude, double longitude) {
+        this(latitude, longitude, CoordinateGrid.DEFAULT);
+    }
+
+    public Coordinates(double latitude, double longitude, CoordinateGrid grid) {
         validateLatitude(latitude);
         validateLongitude(longitude);
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.grid = grid;
+        this.cacheKey = grid.cellOf(latitude, longitude);
     }
 
     public static Coordinates of(double latitude, double longitude) {
         return new Coordinates(latitude, longitude);
     }
 
+    public static Coordinates of(double latitude, double longitude, CoordinateGrid grid) {
+        return new Coordinates(latitude, longitude, grid);
+    }
+
+    public static Coordinates fromCacheKey(long cacheKey) {
+        return fromCacheKey(cacheKey, CoordinateGrid.DEFAULT);
+    }
+
+    public static Coordinates fromCacheKey(long cacheKey, CoordinateGrid grid) {
+        return new Coordinates(grid.cellLatitude(cacheKey), grid.cellLongitude(cacheKey), grid);
+    }
+
+    public double latitude() {
+        return latitude;
+    }
+
+    public double longitude() {
+        return longitude;
+    }
+
+    public CoordinateGrid grid() {
+        return grid;
+    }
+
+    public long cacheKey() {
+        return cacheKey;
+    }
+
     public String toCacheKey() {
-        return formatCoordinate(latitude) + ":" + formatCoordinate(longitude);
+        return grid.format(cacheKey);
     }
 
     public double normalizedLatitude() {
-        return roundToScale(latitude, CACHE_KEY_PRECISION);
+        return grid.cellLatitude(cacheKey);
     }
 
     public double normalizedLongitude() {
-        return roundToScale(longitude, CACHE_KEY_PRECISION);
+        return grid.cellLongitude(cacheKey);
     }
 
     private static void validateLatitude(double latitude) {
@@ -53,24 +89,21 @@ public record Coordinates(double latitude, double longitude) {
         }
     }
 
-    private static String formatCoordinate(double value) {
-        return String.format("%.2f", roundToScale(value, CACHE_KEY_PRECISION));
-    }
-
-    private static double roundToScale(double value, int scale) {
-        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP).doubleValue();
-    }
-
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
         if (obj == null || getClass() != obj.getClass()) return false;
         Coordinates that = (Coordinates) obj;
-        return Objects.equals(toCacheKey(), that.toCacheKey());
+        return cacheKey == that.cacheKey && grid.equals(that.grid);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(toCacheKey());
+        return Long.hashCode(cacheKey);
+    }
+
+    @Override
+    public String toString() {
+        return "Coordinates[latitude=" + latitude + ", longitude=" + longitude + "]";
     }
 }
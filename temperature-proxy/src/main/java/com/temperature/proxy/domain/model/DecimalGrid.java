@@ -0,0 +1,49 @@
+package com.temperature.proxy.domain.model;
+
+public record DecimalGrid(int precision) implements CoordinateGrid {
+
+    private static final int MAX_PRECISION = 6;
+    private static final double ROUNDING_TOLERANCE = 1e-9;
+    private static final double[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000};
+
+    public DecimalGrid {
+        if (precision < 0 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(
+                    String.format("Coordinate precision must be between 0 and %d, got: %d", MAX_PRECISION, precision));
+        }
+    }
+
+    @Override
+    public long cellOf(double latitude, double longitude) {
+        return CoordinateGrid.pack(quantize(latitude), quantize(longitude));
+    }
+
+    @Override
+    public double cellLatitude(long cell) {
+        return CoordinateGrid.row(cell) / scale();
+    }
+
+    @Override
+    public double cellLongitude(long cell) {
+        return CoordinateGrid.column(cell) / scale();
+    }
+
+    @Override
+    public String format(long cell) {
+        var pattern = "%." + precision + "f";
+        return String.format(pattern + ":" + pattern, cellLatitude(cell), cellLongitude(cell));
+    }
+
+    // Rounds half away from zero, like BigDecimal HALF_UP on the decimal form of the input. The tolerance absorbs
+    // the binary representation error of inputs such as 52.525, which is stored as 52.52499999999999...
+    private int quantize(double value) {
+        var scaled = Math.abs(value) * scale();
+        var tolerance = Math.max(ROUNDING_TOLERANCE, 4 * Math.ulp(scaled));
+        var rounded = (int) Math.floor(scaled + 0.5 + tolerance);
+        return value < 0 ? -rounded : rounded;
+    }
+
+    private double scale() {
+        return POWERS_OF_TEN[precision];
+    }
+}
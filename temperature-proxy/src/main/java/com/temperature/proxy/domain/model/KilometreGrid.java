@@ -0,0 +1,61 @@
+package com.temperature.proxy.domain.model;
+
+public record KilometreGrid(double cellSizeKm) implements CoordinateGrid {
+
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final double MIN_CELL_SIZE_KM = 0.1;
+    private static final double MAX_CELL_SIZE_KM = 1000.0;
+
+    public KilometreGrid {
+        if (Double.isNaN(cellSizeKm) || cellSizeKm < MIN_CELL_SIZE_KM || cellSizeKm > MAX_CELL_SIZE_KM) {
+            throw new IllegalArgumentException(String.format(
+                    "Cell size must be between %.1f and %.1f km, got: %s",
+                    MIN_CELL_SIZE_KM, MAX_CELL_SIZE_KM, cellSizeKm));
+        }
+    }
+
+    @Override
+    public long cellOf(double latitude, double longitude) {
+        var row = Math.min(rowCount() - 1, (int) Math.floor((latitude + 90.0) / latitudeStep()));
+        var columns = columnCount(row);
+        var column = (int) Math.floor((longitude + 180.0) / (360.0 / columns)) % columns;
+        return CoordinateGrid.pack(row, column);
+    }
+
+    @Override
+    public double cellLatitude(long cell) {
+        return rowCenter(CoordinateGrid.row(cell));
+    }
+
+    @Override
+    public double cellLongitude(long cell) {
+        var columnWidth = 360.0 / columnCount(CoordinateGrid.row(cell));
+        return -180.0 + (CoordinateGrid.column(cell) + 0.5) * columnWidth;
+    }
+
+    @Override
+    public String format(long cell) {
+        return String.format("%.4f:%.4f", cellLatitude(cell), cellLongitude(cell));
+    }
+
+    private double latitudeStep() {
+        return cellSizeKm / KM_PER_DEGREE;
+    }
+
+    private int rowCount() {
+        return (int) Math.ceil(180.0 / latitudeStep());
+    }
+
+    private double rowCenter(int row) {
+        var south = -90.0 + row * latitudeStep();
+        var north = Math.min(90.0, south + latitudeStep());
+        return (south + north) / 2;
+    }
+
+    // A parallel at latitude φ is cos(φ) times shorter than the equator, so rows closer to the poles get fewer,
+    // wider columns and every cell keeps roughly cellSizeKm of east-west extent.
+    private int columnCount(int row) {
+        var parallelLengthKm = 360.0 * KM_PER_DEGREE * Math.cos(Math.toRadians(rowCenter(row)));
+        return Math.max(1, (int) Math.floor(parallelLengthKm / cellSizeKm));
+    }
+}
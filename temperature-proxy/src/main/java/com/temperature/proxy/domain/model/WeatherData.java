@@ -1,11 +1,17 @@
 package com.temperature.proxy.domain.model;
 
+import java.time.Duration;
 import java.time.Instant;
 
-public record WeatherData(Coordinates location, CurrentWeather currentWeather, String source, Instant retrievedAt) {
+public record WeatherData(
+        Coordinates location, CurrentWeather currentWeather, String source, Instant retrievedAt, boolean stale) {
 
     private static final String DEFAULT_SOURCE = "open-meteo";
 
+    public WeatherData(Coordinates location, CurrentWeather currentWeather, String source, Instant retrievedAt) {
+        this(location, currentWeather, source, retrievedAt, false);
+    }
+
     public static WeatherData of(Coordinates location, CurrentWeather currentWeather) {
         return new WeatherData(location, currentWeather, DEFAULT_SOURCE, Instant.now());
     }
@@ -13,4 +19,13 @@ public record WeatherData(Coordinates location, CurrentWeather currentWeather, S
     public static WeatherData of(Coordinates location, CurrentWeather currentWeather, Instant retrievedAt) {
         return new WeatherData(location, currentWeather, DEFAULT_SOURCE, retrievedAt);
     }
+
+    public WeatherData asStale() {
+        return stale ? this : new WeatherData(location, currentWeather, source, retrievedAt, true);
+    }
+
+    public Duration ageAt(Instant now) {
+        var age = Duration.between(retrievedAt, now);
+        return age.isNegative() ? Duration.ZERO : age;
+    }
 }
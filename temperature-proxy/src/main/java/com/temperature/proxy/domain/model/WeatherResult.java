@@ -0,0 +1,18 @@
+package com.temperature.proxy.domain.model;
+
+import com.temperature.proxy.domain.exception.WeatherProviderException;
+
+public record WeatherResult(Coordinates coordinates, WeatherData weatherData, WeatherProviderException error) {
+
+    public static WeatherResult success(Coordinates coordinates, WeatherData weatherData) {
+        return new WeatherResult(coordinates, weatherData, null);
+    }
+
+    public static WeatherResult failure(Coordinates coordinates, WeatherProviderException error) {
+        return new WeatherResult(coordinates, null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
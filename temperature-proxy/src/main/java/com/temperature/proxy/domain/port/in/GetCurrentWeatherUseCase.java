@@ -2,8 +2,12 @@ package com.temperature.proxy.domain.port.in;
 
 import com.temperature.proxy.domain.model.Coordinates;
 import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WeatherResult;
+import java.util.List;
 
 public interface GetCurrentWeatherUseCase {
 
     WeatherData getCurrentWeather(Coordinates coordinates);
+
+    List<WeatherResult> getCurrentWeather(List<Coordinates> locations);
 }
@@ -2,8 +2,11 @@ package com.temperature.proxy.domain.port.out;
 
 import com.temperature.proxy.domain.model.Coordinates;
 import com.temperature.proxy.domain.model.WeatherData;
+import java.util.List;
 
 public interface WeatherDataProvider {
 
     WeatherData fetchWeatherData(Coordinates coordinates);
+
+    List<WeatherData> fetchWeatherData(List<Coordinates> locations);
 }
@@ -0,0 +1,10 @@
+package com.temperature.proxy.domain.port.out;
+
+// Observes weather cache lookups by cache key; hit is false when the lookup had to load from the provider
+@FunctionalInterface
+public interface WeatherLookupRecorder {
+
+    WeatherLookupRecorder NONE = (cacheKey, hit) -> {};
+
+    void recordLookup(long cacheKey, boolean hit);
+}
@@ -0,0 +1,38 @@
+package com.temperature.proxy.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.infrastructure.adapter.in.web.dto.EncodedWeatherResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Encoded responses keyed by the identity of the WeatherData instance held in the weather cache. Weak keys tie each
+// entry to that instance: once the weather cache evicts or refreshes a reading, its bytes become collectable, so the
+// two caches never need to be invalidated together.
+public class EncodedResponseCache {
+
+    static final String CACHE_NAME = "weather-response";
+
+    private final Cache<WeatherData, EncodedWeatherResponse> responses;
+    private final ObjectMapper objectMapper;
+
+    public EncodedResponseCache(ObjectMapper objectMapper, int maxSize, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, CACHE_NAME);
+    }
+
+    // Stale readings are fresh instances on every fallback, so caching them would only churn the cache
+    public EncodedWeatherResponse get(WeatherData weatherData) {
+        if (weatherData.stale()) {
+            return EncodedWeatherResponse.encode(weatherData, objectMapper);
+        }
+        return responses.get(weatherData, key -> EncodedWeatherResponse.encode(key, objectMapper));
+    }
+}
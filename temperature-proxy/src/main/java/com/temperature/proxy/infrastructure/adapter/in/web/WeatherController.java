@@ -1,8 +1,16 @@
 package com.temperature.proxy.infrastructure.adapter.in.web;
 
+import com.temperature.proxy.domain.model.CoordinateGrid;
 import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WeatherResult;
 import com.temperature.proxy.domain.port.in.GetCurrentWeatherUseCase;
 import com.temperature.proxy.infrastructure.adapter.in.web.dto.ApiError;
+import com.temperature.proxy.infrastructure.adapter.in.web.dto.BatchLocationDto;
+import com.temperature.proxy.infrastructure.adapter.in.web.dto.ErrorCode;
+import com.temperature.proxy.infrastructure.adapter.in.web.dto.WeatherBatchItemDto;
+import com.temperature.proxy.infrastructure.adapter.in.web.dto.WeatherBatchRequest;
+import com.temperature.proxy.infrastructure.adapter.in.web.dto.WeatherBatchResponse;
 import com.temperature.proxy.infrastructure.adapter.in.web.dto.WeatherResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,26 +19,57 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
-import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @Validated
 @RestController
 @RequestMapping("/api/v1/weather")
-@RequiredArgsConstructor
 @Tag(name = "Weather", description = "Weather data API")
 public class WeatherController {
 
+    public static final String STALE_HEADER = "X-Weather-Stale";
+
     private final GetCurrentWeatherUseCase getCurrentWeatherUseCase;
+    private final CoordinateGrid coordinateGrid;
+    private final Duration cacheTtl;
+    // null when app.cache.encoded-responses.enabled is false: every response goes through Jackson
+    private final EncodedResponseCache encodedResponseCache;
+
+    public WeatherController(
+            GetCurrentWeatherUseCase getCurrentWeatherUseCase,
+            CoordinateGrid coordinateGrid,
+            @Value("${app.cache.ttl:60s}") Duration cacheTtl,
+            ObjectProvider<EncodedResponseCache> encodedResponseCache) {
+        this.getCurrentWeatherUseCase = getCurrentWeatherUseCase;
+        this.coordinateGrid = coordinateGrid;
+        this.cacheTtl = cacheTtl;
+        this.encodedResponseCache = encodedResponseCache.getIfAvailable();
+    }
 
     @Operation(
             summary = "Get current weather",
@@ -39,8 +78,13 @@ public class WeatherController {
             value = {
                 @ApiResponse(
                         responseCode = "200",
-                        description = "Successfully retrieved weather data",
+                        description = "Successfully retrieved weather data; " + STALE_HEADER
+                                + ": true marks a stale reading served because the upstream failed",
                         content = @Content(schema = @Schema(implementation = WeatherResponse.class))),
+                @ApiResponse(
+                        responseCode = "304",
+                        description = "The reading matching If-None-Match or If-Modified-Since is still current",
+                        content = @Content),
                 @ApiResponse(
                         responseCode = "400",
                         description = "Invalid coordinates",
@@ -59,7 +103,7 @@ public class WeatherController {
                         content = @Content(schema = @Schema(implementation = ApiError.class)))
             })
     @GetMapping("/current")
-    public WeatherResponse getCurrentWeather(
+    public ResponseEntity<?> getCurrentWeather(
             @Parameter(description = "Latitude (-90 to 90)", example = "52.52")
                     @RequestParam("lat")
                     @NotNull(message = "Latitude is required")
@@ -71,10 +115,136 @@ public class WeatherController {
                     @NotNull(message = "Longitude is required")
                     @DecimalMin(value = "-180.0", message = "Longitude must be at least -180.0")
                     @DecimalMax(value = "180.0", message = "Longitude must be at most 180.0")
-                    Double lon) {
+                    Double lon,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                    String acceptEncoding,
+            WebRequest webRequest) {
         log.info("Received weather request for lat={}, lon={}", lat, lon);
-        var coordinates = Coordinates.of(lat, lon);
+        var coordinates = Coordinates.of(lat, lon, coordinateGrid);
         var weatherData = getCurrentWeatherUseCase.getCurrentWeather(coordinates);
-        return WeatherResponse.fromDomain(weatherData);
+        var now = Instant.now();
+        var eTag = eTag(weatherData);
+        // Answered before anything is encoded, so a revalidating client costs a cache lookup and a few headers
+        if (webRequest.checkNotModified(eTag, weatherData.retrievedAt().toEpochMilli())) {
+            return withCachingHeaders(ResponseEntity.status(HttpStatus.NOT_MODIFIED), weatherData, eTag, now)
+                    .build();
+        }
+        var response = withCachingHeaders(ResponseEntity.ok(), weatherData, eTag, now);
+        if (encodedResponseCache == null) {
+            return response.body(WeatherResponse.fromDomain(weatherData));
+        }
+        // Pre-encoded bytes are written as they are by the byte[] converter; server.compression leaves a response
+        // that already has a Content-Encoding alone
+        var encoded = encodedResponseCache.get(weatherData);
+        response.contentType(MediaType.APPLICATION_JSON);
+        if (acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzippedBody(now));
+        }
+        return response.body(encoded.body(now));
+    }
+
+    private ResponseEntity.BodyBuilder withCachingHeaders(
+            ResponseEntity.BodyBuilder response, WeatherData weatherData, String eTag, Instant now) {
+        response.eTag(eTag).lastModified(weatherData.retrievedAt());
+        if (weatherData.stale()) {
+            // a fallback reading must not be reused once the upstream recovers
+            response.header(STALE_HEADER, "true").cacheControl(CacheControl.noCache());
+        } else {
+            var remainingTtl = cacheTtl.minus(weatherData.ageAt(now));
+            response.cacheControl(CacheControl.maxAge(remainingTtl.isNegative() ? Duration.ZERO : remainingTtl));
+        }
+        // the body may be gzipped here or by server.compression, so shared caches must key on Accept-Encoding
+        // whichever path serves it, 304s included
+        return response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    // Weak, because ageSeconds makes the bytes differ from second to second while the reading stays the same; a
+    // reading is identified by its cell and the moment it was fetched
+    static String eTag(WeatherData weatherData) {
+        return "W/\"" + Long.toHexString(weatherData.location().cacheKey()) + "-"
+                + Long.toHexString(weatherData.retrievedAt().toEpochMilli()) + "\"";
+    }
+
+    // Accept-Encoding: gzip, or gzip with a non-zero quality; "*" is not taken as a request for gzip
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (var coding : acceptEncoding.split(",")) {
+            var parts = coding.split(";");
+            if (!parts[0].strip().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (var i = 1; i < parts.length; i++) {
+                if (parts[i].strip().matches("q=0(\\.0{0,3})?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Operation(
+            summary = "Get current weather for multiple locations",
+            description = "Fetches current conditions for up to 100 locations. Results keep the request order and"
+                    + " failures are reported per item.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Batch processed; check each item for weather or error",
+                        content = @Content(schema = @Schema(implementation = WeatherBatchResponse.class))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "Empty, oversized or malformed batch",
+                        content = @Content(schema = @Schema(implementation = ApiError.class))),
+                @ApiResponse(
+                        responseCode = "429",
+                        description = "Rate limit exceeded",
+                        content = @Content(schema = @Schema(implementation = ApiError.class)))
+            })
+    @PostMapping("/current/batch")
+    public WeatherBatchResponse getCurrentWeatherBatch(@Valid @RequestBody WeatherBatchRequest request) {
+        var locations = request.locations();
+        log.info("Received batch weather request for {} locations", locations.size());
+
+        var items = new WeatherBatchItemDto[locations.size()];
+        var coordinates = new ArrayList<Coordinates>(locations.size());
+        var positions = new ArrayList<Integer>(locations.size());
+        for (var i = 0; i < locations.size(); i++) {
+            try {
+                coordinates.add(toCoordinates(locations.get(i)));
+                positions.add(i);
+            } catch (IllegalArgumentException ex) {
+                items[i] = WeatherBatchItemDto.failure(ErrorCode.INVALID_COORDINATES, ex.getMessage());
+            }
+        }
+
+        if (!coordinates.isEmpty()) {
+            var results = getCurrentWeatherUseCase.getCurrentWeather(coordinates);
+            for (var i = 0; i < results.size(); i++) {
+                items[positions.get(i)] = toBatchItem(results.get(i));
+            }
+        }
+        return new WeatherBatchResponse(Arrays.asList(items));
+    }
+
+    private Coordinates toCoordinates(BatchLocationDto location) {
+        if (location == null || location.lat() == null) {
+            throw new IllegalArgumentException("Latitude is required");
+        }
+        if (location.lon() == null) {
+            throw new IllegalArgumentException("Longitude is required");
+        }
+        return Coordinates.of(location.lat(), location.lon(), coordinateGrid);
+    }
+
+    private static WeatherBatchItemDto toBatchItem(WeatherResult result) {
+        if (result.isSuccess()) {
+            return WeatherBatchItemDto.success(WeatherResponse.fromDomain(result.weatherData()));
+        }
+        var error = result.error();
+        return WeatherBatchItemDto.failure(ErrorCode.of(error.getErrorType()), error.getMessage());
     }
 }
@@ -0,0 +1,13 @@
+package com.temperature.proxy.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Error for a single batch item")
+public record BatchItemErrorDto(
+        @Schema(description = "Error code", example = "UPSTREAM_TIMEOUT") String code,
+        @Schema(description = "Error message", example = "Weather service did not respond in time") String message) {
+
+    public static BatchItemErrorDto of(ErrorCode errorCode, String message) {
+        return new BatchItemErrorDto(errorCode.name(), message);
+    }
+}
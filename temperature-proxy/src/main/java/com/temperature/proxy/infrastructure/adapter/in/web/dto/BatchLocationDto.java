@@ -0,0 +1,8 @@
+package com.temperature.proxy.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Requested location")
+public record BatchLocationDto(
+        @Schema(description = "Latitude (-90 to 90)", example = "52.52") Double lat,
+        @Schema(description = "Longitude (-180 to 180)", example = "13.41") Double lon) {}
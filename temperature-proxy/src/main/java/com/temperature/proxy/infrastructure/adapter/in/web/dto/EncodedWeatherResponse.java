@@ -0,0 +1,122 @@
+package com.temperature.proxy.infrastructure.adapter.in.web.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.proxy.domain.model.WeatherData;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+// WeatherResponse of one cached WeatherData, serialized by Jackson once. Only ageSeconds changes during the TTL, so the
+// document is kept as the bytes before and after that value; the full body (and its gzip variant, on first demand) is
+// rendered at most once per second of age and shared by every hit within that second.
+public final class EncodedWeatherResponse {
+
+    private static final byte[] AGE_FIELD = "\"ageSeconds\":".getBytes(StandardCharsets.UTF_8);
+
+    private final WeatherData weatherData;
+    private final byte[] head;
+    private final byte[] tail;
+    private volatile Rendered rendered;
+
+    private EncodedWeatherResponse(WeatherData weatherData, byte[] head, byte[] tail) {
+        this.weatherData = weatherData;
+        this.head = head;
+        this.tail = tail;
+    }
+
+    public static EncodedWeatherResponse encode(WeatherData weatherData, ObjectMapper objectMapper) {
+        var template = WeatherResponse.fromDomain(weatherData);
+        var withoutAge = new WeatherResponse(
+                template.location(),
+                template.current(),
+                template.source(),
+                template.retrievedAt(),
+                0,
+                template.stale());
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(withoutAge);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize weather response", ex);
+        }
+        var ageAt = lastIndexOf(json, AGE_FIELD) + AGE_FIELD.length;
+        if (ageAt < AGE_FIELD.length || json[ageAt] != '0') {
+            throw new IllegalStateException("Serialized weather response has no ageSeconds field");
+        }
+        return new EncodedWeatherResponse(
+                weatherData, Arrays.copyOfRange(json, 0, ageAt), Arrays.copyOfRange(json, ageAt + 1, json.length));
+    }
+
+    public byte[] body(Instant now) {
+        return rendered(now).body;
+    }
+
+    public byte[] gzippedBody(Instant now) {
+        var current = rendered(now);
+        var gzipped = current.gzipped;
+        if (gzipped == null) {
+            gzipped = gzip(current.body);
+            current.gzipped = gzipped;
+        }
+        return gzipped;
+    }
+
+    // Concurrent renders of the same second produce identical bytes, so losing the race to publish is harmless
+    private Rendered rendered(Instant now) {
+        var ageSeconds = weatherData.ageAt(now).toSeconds();
+        var current = rendered;
+        if (current == null || current.ageSeconds != ageSeconds) {
+            current = new Rendered(ageSeconds, render(ageSeconds));
+            rendered = current;
+        }
+        return current;
+    }
+
+    private byte[] render(long ageSeconds) {
+        var age = Long.toString(ageSeconds).getBytes(StandardCharsets.US_ASCII);
+        var body = Arrays.copyOf(head, head.length + age.length + tail.length);
+        System.arraycopy(age, 0, body, head.length, age.length);
+        System.arraycopy(tail, 0, body, head.length + age.length, tail.length);
+        return body;
+    }
+
+    private static byte[] gzip(byte[] body) {
+        var out = new ByteArrayOutputStream(body.length);
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    private static int lastIndexOf(byte[] bytes, byte[] pattern) {
+        outer:
+        for (var i = bytes.length - pattern.length; i >= 0; i--) {
+            for (var j = 0; j < pattern.length; j++) {
+                if (bytes[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static final class Rendered {
+
+        private final long ageSeconds;
+        private final byte[] body;
+        private volatile byte[] gzipped;
+
+        private Rendered(long ageSeconds, byte[] body) {
+            this.ageSeconds = ageSeconds;
+            this.body = body;
+        }
+    }
+}
@@ -1,11 +1,24 @@
 package com.temperature.proxy.infrastructure.adapter.in.web.dto;
 
+import com.temperature.proxy.domain.exception.WeatherProviderException;
+
 public enum ErrorCode {
     INVALID_COORDINATES,
+    INVALID_REQUEST,
+    PAYLOAD_TOO_LARGE,
     RATE_LIMIT_EXCEEDED,
     UPSTREAM_TIMEOUT,
     UPSTREAM_UNAVAILABLE,
     UPSTREAM_ERROR,
     UPSTREAM_INVALID_RESPONSE,
-    INTERNAL_ERROR
+    INTERNAL_ERROR;
+
+    public static ErrorCode of(WeatherProviderException.ErrorType errorType) {
+        return switch (errorType) {
+            case TIMEOUT -> UPSTREAM_TIMEOUT;
+            case UNAVAILABLE -> UPSTREAM_UNAVAILABLE;
+            case INVALID_RESPONSE -> UPSTREAM_INVALID_RESPONSE;
+            case UPSTREAM_ERROR -> UPSTREAM_ERROR;
+        };
+    }
 }
@@ -0,0 +1,104 @@
+package com.temperature.proxy.infrastructure.adapter.in.web.dto;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Arrays;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+// ApiError with the fixed parts already encoded as UTF-8 JSON: only the message (when not fixed), timestamp and path
+// are written per response. Produces the same document Jackson writes for ApiError.
+public final class PreEncodedApiError {
+
+    private static final JsonStringEncoder ENCODER = JsonStringEncoder.getInstance();
+    private static final byte[] NULL = bytes("null");
+    private static final byte[] QUOTE = bytes("\"");
+    private static final byte[] PATH_FIELD = bytes("\",\"path\":\"");
+    private static final byte[] END = bytes("\"}");
+
+    private final HttpStatus status;
+    // {"code":"...","message":  - or up to and including the fixed message
+    private final byte[] head;
+    // ,"status":NNN,"timestamp":"
+    private final byte[] statusField;
+    private final boolean fixedMessage;
+    private final Clock clock;
+
+    private PreEncodedApiError(ErrorCode errorCode, HttpStatus status, String message, Clock clock) {
+        this.status = status;
+        this.fixedMessage = message != null;
+        var head = "{\"code\":\"" + errorCode.name() + "\",\"message\":";
+        this.head = fixedMessage ? concat(bytes(head), QUOTE, ENCODER.quoteAsUTF8(message), QUOTE) : bytes(head);
+        this.statusField = bytes(",\"status\":" + status.value() + ",\"timestamp\":\"");
+        this.clock = clock;
+    }
+
+    public static PreEncodedApiError of(ErrorCode errorCode, HttpStatus status, String message) {
+        return new PreEncodedApiError(errorCode, status, message, Clock.systemUTC());
+    }
+
+    public static PreEncodedApiError of(ErrorCode errorCode, HttpStatus status) {
+        return new PreEncodedApiError(errorCode, status, null, Clock.systemUTC());
+    }
+
+    static PreEncodedApiError of(ErrorCode errorCode, HttpStatus status, String message, Clock clock) {
+        return new PreEncodedApiError(errorCode, status, message, clock);
+    }
+
+    public HttpStatus status() {
+        return status;
+    }
+
+    public byte[] encode(String path) {
+        if (!fixedMessage) {
+            throw new IllegalStateException("Error has no fixed message, use encode(message, path)");
+        }
+        return concat(head, statusField, timestamp(), PATH_FIELD, ENCODER.quoteAsUTF8(path), END);
+    }
+
+    public byte[] encode(String message, String path) {
+        if (fixedMessage) {
+            return encode(path);
+        }
+        var encodedMessage = message == null ? NULL : concat(QUOTE, ENCODER.quoteAsUTF8(message), QUOTE);
+        return concat(head, encodedMessage, statusField, timestamp(), PATH_FIELD, ENCODER.quoteAsUTF8(path), END);
+    }
+
+    public ResponseEntity<byte[]> toResponseEntity(String path) {
+        return toResponseEntity(encode(path));
+    }
+
+    public ResponseEntity<byte[]> toResponseEntity(String message, String path) {
+        return toResponseEntity(encode(message, path));
+    }
+
+    private ResponseEntity<byte[]> toResponseEntity(byte[] body) {
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private byte[] timestamp() {
+        return bytes(clock.instant().toString());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        var length = 0;
+        for (var part : parts) {
+            length += part.length;
+        }
+        var result = Arrays.copyOf(parts[0], length);
+        var offset = parts[0].length;
+        for (var i = 1; i < parts.length; i++) {
+            System.arraycopy(parts[i], 0, result, offset, parts[i].length);
+            offset += parts[i].length;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,19 @@
+package com.temperature.proxy.infrastructure.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Result for a single batch item; exactly one of weather or error is present")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WeatherBatchItemDto(
+        @Schema(description = "Weather data when the lookup succeeded") WeatherResponse weather,
+        @Schema(description = "Error when the lookup failed") BatchItemErrorDto error) {
+
+    public static WeatherBatchItemDto success(WeatherResponse weather) {
+        return new WeatherBatchItemDto(weather, null);
+    }
+
+    public static WeatherBatchItemDto failure(ErrorCode errorCode, String message) {
+        return new WeatherBatchItemDto(null, BatchItemErrorDto.of(errorCode, message));
+    }
+}
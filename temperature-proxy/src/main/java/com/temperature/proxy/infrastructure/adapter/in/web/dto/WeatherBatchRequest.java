@@ -0,0 +1,18 @@
+package com.temperature.proxy.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Schema(description = "Batch weather request")
+public record WeatherBatchRequest(
+        @Schema(description = "Locations to look up, answered in the same order")
+                @NotEmpty(message = "At least one location is required")
+                @Size(
+                        max = WeatherBatchRequest.MAX_LOCATIONS,
+                        message = "At most 100 locations are allowed per request")
+                List<BatchLocationDto> locations) {
+
+    public static final int MAX_LOCATIONS = 100;
+}
@@ -0,0 +1,9 @@
+package com.temperature.proxy.infrastructure.adapter.in.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "Batch weather response")
+public record WeatherBatchResponse(
+        @Schema(description = "Results in the same order as the requested locations")
+                List<WeatherBatchItemDto> results) {}
@@ -10,7 +10,10 @@ public record WeatherResponse(
         @Schema(description = "Current weather conditions") CurrentConditionsDto current,
         @Schema(description = "Data source", example = "open-meteo") String source,
         @Schema(description = "Timestamp when data was retrieved", example = "2026-01-11T10:12:54Z")
-                Instant retrievedAt) {
+                Instant retrievedAt,
+        @Schema(description = "Seconds since the data was retrieved from the source", example = "12") long ageSeconds,
+        @Schema(description = "True when served from the stale store because the source failed", example = "false")
+                boolean stale) {
 
     public static WeatherResponse fromDomain(WeatherData weatherData) {
         var location = new LocationDto(
@@ -21,6 +24,12 @@ public record WeatherResponse(
                 weatherData.currentWeather().temperature().celsius(),
                 weatherData.currentWeather().windSpeed().kmh());
 
-        return new WeatherResponse(location, current, weatherData.source(), weatherData.retrievedAt());
+        return new WeatherResponse(
+                location,
+                current,
+                weatherData.source(),
+                weatherData.retrievedAt(),
+                weatherData.ageAt(Instant.now()).toSeconds(),
+                weatherData.stale());
     }
 }
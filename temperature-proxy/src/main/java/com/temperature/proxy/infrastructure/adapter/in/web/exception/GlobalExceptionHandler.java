@@ -1,131 +1,119 @@
 package com.temperature.proxy.infrastructure.adapter.in.web.exception;
 
 import com.temperature.proxy.domain.exception.WeatherProviderException;
-import com.temperature.proxy.infrastructure.adapter.in.web.dto.ApiError;
 import com.temperature.proxy.infrastructure.adapter.in.web.dto.ErrorCode;
+import com.temperature.proxy.infrastructure.adapter.in.web.dto.PreEncodedApiError;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+// Errors are written from pre-encoded ApiError bodies (see PreEncodedApiError); the JSON matches ApiError
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final PreEncodedApiError INVALID_COORDINATES =
+            PreEncodedApiError.of(ErrorCode.INVALID_COORDINATES, HttpStatus.BAD_REQUEST);
+    private static final PreEncodedApiError INVALID_REQUEST =
+            PreEncodedApiError.of(ErrorCode.INVALID_REQUEST, HttpStatus.BAD_REQUEST);
+    private static final PreEncodedApiError UNREADABLE_BODY = PreEncodedApiError.of(
+            ErrorCode.INVALID_REQUEST, HttpStatus.BAD_REQUEST, "Request body is missing or malformed");
+    private static final PreEncodedApiError UPSTREAM_TIMEOUT =
+            PreEncodedApiError.of(ErrorCode.UPSTREAM_TIMEOUT, HttpStatus.GATEWAY_TIMEOUT);
+    private static final PreEncodedApiError UPSTREAM_UNAVAILABLE =
+            PreEncodedApiError.of(ErrorCode.UPSTREAM_UNAVAILABLE, HttpStatus.BAD_GATEWAY);
+    private static final PreEncodedApiError UPSTREAM_INVALID_RESPONSE =
+            PreEncodedApiError.of(ErrorCode.UPSTREAM_INVALID_RESPONSE, HttpStatus.BAD_GATEWAY);
+    private static final PreEncodedApiError UPSTREAM_ERROR =
+            PreEncodedApiError.of(ErrorCode.UPSTREAM_ERROR, HttpStatus.BAD_GATEWAY);
+    private static final PreEncodedApiError RATE_LIMIT_EXCEEDED = PreEncodedApiError.of(
+            ErrorCode.RATE_LIMIT_EXCEEDED, HttpStatus.TOO_MANY_REQUESTS, "Too many requests. Please try again later.");
+    private static final PreEncodedApiError INTERNAL_ERROR = PreEncodedApiError.of(
+            ErrorCode.INTERNAL_ERROR, HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+
     @ExceptionHandler(IllegalArgumentException.class)
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ApiError handleIllegalArgument(IllegalArgumentException ex, HttpServletRequest request) {
+    public ResponseEntity<byte[]> handleIllegalArgument(IllegalArgumentException ex, HttpServletRequest request) {
         log.warn("Invalid argument: {}", ex.getMessage());
-        return ApiError.of(
-                ErrorCode.INVALID_COORDINATES,
-                ex.getMessage(),
-                HttpStatus.BAD_REQUEST.value(),
-                request.getRequestURI());
+        return INVALID_COORDINATES.toResponseEntity(ex.getMessage(), request.getRequestURI());
     }
 
     @ExceptionHandler(ConstraintViolationException.class)
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ApiError handleConstraintViolation(ConstraintViolationException ex, HttpServletRequest request) {
+    public ResponseEntity<byte[]> handleConstraintViolation(
+            ConstraintViolationException ex, HttpServletRequest request) {
         var message = ex.getConstraintViolations().stream()
                 .findFirst()
                 .map(violation -> violation.getMessage())
                 .orElse("Validation error");
 
         log.warn("Constraint violation: {}", message);
-        return ApiError.of(
-                ErrorCode.INVALID_COORDINATES, message, HttpStatus.BAD_REQUEST.value(), request.getRequestURI());
+        return INVALID_COORDINATES.toResponseEntity(message, request.getRequestURI());
     }
 
     @ExceptionHandler(MissingServletRequestParameterException.class)
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ApiError handleMissingParameter(MissingServletRequestParameterException ex, HttpServletRequest request) {
+    public ResponseEntity<byte[]> handleMissingParameter(
+            MissingServletRequestParameterException ex, HttpServletRequest request) {
         log.warn("Missing parameter: {}", ex.getParameterName());
-        return ApiError.of(
-                ErrorCode.INVALID_COORDINATES,
-                String.format("Parameter '%s' is required", ex.getParameterName()),
-                HttpStatus.BAD_REQUEST.value(),
-                request.getRequestURI());
+        return INVALID_COORDINATES.toResponseEntity(
+                String.format("Parameter '%s' is required", ex.getParameterName()), request.getRequestURI());
     }
 
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    public ApiError handleTypeMismatch(MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
+    public ResponseEntity<byte[]> handleTypeMismatch(
+            MethodArgumentTypeMismatchException ex, HttpServletRequest request) {
         log.warn("Type mismatch for parameter '{}': {}", ex.getName(), ex.getValue());
-        return ApiError.of(
-                ErrorCode.INVALID_COORDINATES,
-                String.format("Parameter '%s' must be a valid number", ex.getName()),
-                HttpStatus.BAD_REQUEST.value(),
-                request.getRequestURI());
+        return INVALID_COORDINATES.toResponseEntity(
+                String.format("Parameter '%s' must be a valid number", ex.getName()), request.getRequestURI());
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<byte[]> handleInvalidBody(MethodArgumentNotValidException ex, HttpServletRequest request) {
+        var message = ex.getBindingResult().getAllErrors().stream()
+                .findFirst()
+                .map(error -> error.getDefaultMessage())
+                .orElse("Validation error");
+
+        log.warn("Invalid request body: {}", message);
+        return INVALID_REQUEST.toResponseEntity(message, request.getRequestURI());
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<byte[]> handleUnreadableBody(HttpMessageNotReadableException ex, HttpServletRequest request) {
+        log.warn("Unreadable request body: {}", ex.getMessage());
+        return UNREADABLE_BODY.toResponseEntity(request.getRequestURI());
     }
 
     @ExceptionHandler(WeatherProviderException.class)
-    public ApiError handleWeatherProviderException(
-            WeatherProviderException ex, HttpServletRequest request, HttpServletResponse response) {
+    public ResponseEntity<byte[]> handleWeatherProviderException(
+            WeatherProviderException ex, HttpServletRequest request) {
         log.error("Weather provider error: {} - {}", ex.getErrorType(), ex.getMessage());
 
-        var apiError =
+        var error =
                 switch (ex.getErrorType()) {
-                    case TIMEOUT -> {
-                        response.setStatus(HttpStatus.GATEWAY_TIMEOUT.value());
-                        yield ApiError.of(
-                                ErrorCode.UPSTREAM_TIMEOUT,
-                                ex.getMessage(),
-                                HttpStatus.GATEWAY_TIMEOUT.value(),
-                                request.getRequestURI());
-                    }
-                    case UNAVAILABLE -> {
-                        response.setStatus(HttpStatus.BAD_GATEWAY.value());
-                        yield ApiError.of(
-                                ErrorCode.UPSTREAM_UNAVAILABLE,
-                                ex.getMessage(),
-                                HttpStatus.BAD_GATEWAY.value(),
-                                request.getRequestURI());
-                    }
-                    case INVALID_RESPONSE -> {
-                        response.setStatus(HttpStatus.BAD_GATEWAY.value());
-                        yield ApiError.of(
-                                ErrorCode.UPSTREAM_INVALID_RESPONSE,
-                                ex.getMessage(),
-                                HttpStatus.BAD_GATEWAY.value(),
-                                request.getRequestURI());
-                    }
-                    case UPSTREAM_ERROR -> {
-                        response.setStatus(HttpStatus.BAD_GATEWAY.value());
-                        yield ApiError.of(
-                                ErrorCode.UPSTREAM_ERROR,
-                                ex.getMessage(),
-                                HttpStatus.BAD_GATEWAY.value(),
-                                request.getRequestURI());
-                    }
+                    case TIMEOUT -> UPSTREAM_TIMEOUT;
+                    case UNAVAILABLE -> UPSTREAM_UNAVAILABLE;
+                    case INVALID_RESPONSE -> UPSTREAM_INVALID_RESPONSE;
+                    case UPSTREAM_ERROR -> UPSTREAM_ERROR;
                 };
-        return apiError;
+        return error.toResponseEntity(ex.getMessage(), request.getRequestURI());
     }
 
     @ExceptionHandler(RateLimitExceededException.class)
-    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
-    public ApiError handleRateLimitExceeded(RateLimitExceededException ex, HttpServletRequest request) {
+    public ResponseEntity<byte[]> handleRateLimitExceeded(RateLimitExceededException ex, HttpServletRequest request) {
         log.warn("Rate limit exceeded for IP: {}", request.getRemoteAddr());
-        return ApiError.of(
-                ErrorCode.RATE_LIMIT_EXCEEDED,
-                "Too many requests. Please try again later.",
-                HttpStatus.TOO_MANY_REQUESTS.value(),
-                request.getRequestURI());
+        return RATE_LIMIT_EXCEEDED.toResponseEntity(request.getRequestURI());
     }
 
     @ExceptionHandler(Exception.class)
-    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public ApiError handleGenericException(Exception ex, HttpServletRequest request) {
+    public ResponseEntity<byte[]> handleGenericException(Exception ex, HttpServletRequest request) {
         log.error("Unexpected error: {}", ex.getMessage(), ex);
-        return ApiError.of(
-                ErrorCode.INTERNAL_ERROR,
-                "An unexpected error occurred",
-                HttpStatus.INTERNAL_SERVER_ERROR.value(),
-                request.getRequestURI());
+        return INTERNAL_ERROR.toResponseEntity(request.getRequestURI());
     }
 }
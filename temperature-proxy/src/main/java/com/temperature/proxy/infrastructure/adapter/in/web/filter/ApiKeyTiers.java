@@ -0,0 +1,39 @@
+package com.temperature.proxy.infrastructure.adapter.in.web.filter;
+
+import java.util.Map;
+
+// API key -> tier lookup used on every request. The map is an immutable snapshot swapped as a whole on reload, so
+// readers never lock and a lookup is a single hash probe.
+public class ApiKeyTiers {
+
+    public static final String DEFAULT_HEADER = "X-API-Key";
+
+    private final String header;
+    private volatile Map<String, RateLimitTier> tiersByApiKey;
+
+    public ApiKeyTiers(String header, Map<String, RateLimitTier> tiersByApiKey) {
+        this.header = header;
+        this.tiersByApiKey = Map.copyOf(tiersByApiKey);
+    }
+
+    public static ApiKeyTiers none() {
+        return new ApiKeyTiers(DEFAULT_HEADER, Map.of());
+    }
+
+    public String header() {
+        return header;
+    }
+
+    // null for a missing or unknown key, which is treated as anonymous traffic
+    public RateLimitTier forApiKey(String apiKey) {
+        return apiKey == null ? null : tiersByApiKey.get(apiKey);
+    }
+
+    public int size() {
+        return tiersByApiKey.size();
+    }
+
+    public void update(Map<String, RateLimitTier> tiersByApiKey) {
+        this.tiersByApiKey = Map.copyOf(tiersByApiKey);
+    }
+}
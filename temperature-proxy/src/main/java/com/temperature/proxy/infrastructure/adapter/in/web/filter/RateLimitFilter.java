@@ -1,18 +1,28 @@
 package com.temperature.proxy.infrastructure.adapter.in.web.filter;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.temperature.proxy.infrastructure.adapter.in.web.dto.ApiError;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.temperature.proxy.infrastructure.adapter.in.web.dto.ErrorCode;
-import io.github.bucket4j.Bandwidth;
+import com.temperature.proxy.infrastructure.adapter.in.web.dto.PreEncodedApiError;
+import com.temperature.proxy.infrastructure.adapter.in.web.dto.WeatherBatchRequest;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.TokensInheritanceStrategy;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
@@ -22,21 +32,71 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 @Slf4j
 @Component
-public class RateLimitFilter extends OncePerRequestFilter {
+public class RateLimitFilter extends OncePerRequestFilter implements MeterBinder {
 
     private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+    private static final String RETRY_AFTER = "Retry-After";
+    private static final String RATE_LIMIT_LIMIT = "RateLimit-Limit";
+    private static final String RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+    private static final String RATE_LIMIT_RESET = "RateLimit-Reset";
     private static final String ACTUATOR_PATH = "/actuator";
     private static final String SWAGGER_PATH = "/swagger";
     private static final String API_DOCS_PATH = "/v3/api-docs";
+    private static final String BATCH_PATH = "/api/v1/weather/current/batch";
+    private static final int MAX_BATCH_BODY_BYTES = 64 * 1024;
 
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private static final Duration REFILL_PERIOD = Duration.ofMinutes(1);
+
+    // Rejections are the hot path during an abuse spike, so the body is pre-encoded
+    private static final PreEncodedApiError RATE_LIMIT_ERROR = PreEncodedApiError.of(
+            ErrorCode.RATE_LIMIT_EXCEEDED, HttpStatus.TOO_MANY_REQUESTS, "Too many requests. Please try again later.");
+    private static final PreEncodedApiError PAYLOAD_TOO_LARGE_ERROR = PreEncodedApiError.of(
+            ErrorCode.PAYLOAD_TOO_LARGE,
+            HttpStatus.PAYLOAD_TOO_LARGE,
+            "Request body exceeds " + MAX_BATCH_BODY_BYTES + " bytes");
+
+    private static final String IP_KEY_PREFIX = "ip:";
+    private static final String API_KEY_PREFIX = "key:";
+
+    private final Cache<String, Bucket> buckets;
+    private final Cache<String, TieredBucket> apiKeyBuckets;
     private final ObjectMapper objectMapper;
-    private final int requestsPerMinute;
+    private final RateLimitTier anonymousTier;
+    private final ApiKeyTiers apiKeyTiers;
+    private final RemoteBucketBuilder<String> remoteBuckets;
 
+    // Without ApiKeyTiers every client gets the per-IP bucket; remoteBuckets only exists with
+    // app.rate-limit.mode=distributed
     public RateLimitFilter(
-            ObjectMapper objectMapper, @Value("${app.rate-limit.requests-per-minute:100}") int requestsPerMinute) {
+            ObjectMapper objectMapper,
+            @Value("${app.rate-limit.requests-per-minute:100}") int requestsPerMinute,
+            @Value("${app.rate-limit.max-buckets:100000}") long maxBuckets,
+            Optional<ApiKeyTiers> apiKeyTiers,
+            Optional<RemoteBucketBuilder<String>> remoteBuckets) {
         this.objectMapper = objectMapper;
-        this.requestsPerMinute = requestsPerMinute;
+        this.anonymousTier = RateLimitTier.anonymous(requestsPerMinute);
+        this.apiKeyTiers = apiKeyTiers.orElseGet(ApiKeyTiers::none);
+        this.remoteBuckets = remoteBuckets.orElse(null);
+        // A bucket untouched for a full refill period is full again, so dropping it loses no state; the size cap
+        // bounds memory when X-Forwarded-For is spoofed or a scan rotates through an IP range
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(REFILL_PERIOD)
+                .maximumSize(maxBuckets)
+                .recordStats()
+                .build();
+        this.apiKeyBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(REFILL_PERIOD)
+                .maximumSize(maxBuckets)
+                .recordStats()
+                .build();
+    }
+
+    // Live bucket count (cache.size) and evictions (cache.evictions), tagged cache=rate-limit-buckets for per-IP and
+    // cache=rate-limit-api-key-buckets for tiered clients
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, buckets, "rate-limit-buckets");
+        CaffeineCacheMetrics.monitor(registry, apiKeyBuckets, "rate-limit-api-key-buckets");
     }
 
     @Override
@@ -49,14 +109,47 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
-        var clientIp = getClientIp(request);
-        var bucket = buckets.computeIfAbsent(clientIp, this::createBucket);
+        // Known API keys get their tier's bucket; missing or unknown keys fall back to the per-IP bucket
+        var apiKey = request.getHeader(apiKeyTiers.header());
+        var tier = apiKeyTiers.forApiKey(apiKey);
+        Bucket bucket;
+        if (tier != null) {
+            bucket = apiKeyBucket(apiKey, tier);
+        } else {
+            tier = anonymousTier;
+            bucket = buckets.get(getClientIp(request), this::createBucket);
+        }
+
+        // Every request costs at least one token, so an exhausted client is turned away before a batch body is read
+        // or parsed; an admitted batch then pays for the rest of its locations
+        var probe = bucket.tryConsumeAndReturnRemaining(1);
+        if (probe.isConsumed() && isBatchRequest(request)) {
+            var body = readBatchBody(request);
+            if (body == null) {
+                setRateLimitHeaders(response, tier, probe);
+                sendError(response, PAYLOAD_TOO_LARGE_ERROR, request.getRequestURI());
+                return;
+            }
+            request = new CachedBodyHttpServletRequest(request, body);
+            var remainingCost = countBatchLocations(body) - 1;
+            if (remainingCost > 0) {
+                probe = bucket.tryConsumeAndReturnRemaining(remainingCost);
+                if (!probe.isConsumed()) {
+                    // batches are charged all or nothing
+                    bucket.addTokens(1);
+                }
+            }
+        }
+        setRateLimitHeaders(response, tier, probe);
 
-        if (bucket.tryConsume(1)) {
+        if (probe.isConsumed()) {
             filterChain.doFilter(request, response);
+        } else if (tier == anonymousTier) {
+            log.warn("Rate limit exceeded for client IP: {}", getClientIp(request));
+            sendRateLimitResponse(response, request.getRequestURI(), probe);
         } else {
-            log.warn("Rate limit exceeded for client IP: {}", clientIp);
-            sendRateLimitResponse(response, request.getRequestURI());
+            log.warn("Rate limit exceeded for API key tier: {}", tier.name());
+            sendRateLimitResponse(response, request.getRequestURI(), probe);
         }
     }
 
@@ -64,6 +157,50 @@ public class RateLimitFilter extends OncePerRequestFilter {
         return path.startsWith(ACTUATOR_PATH) || path.startsWith(SWAGGER_PATH) || path.startsWith(API_DOCS_PATH);
     }
 
+    private boolean isBatchRequest(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && BATCH_PATH.equals(request.getRequestURI());
+    }
+
+    // Returns null when the body is larger than any valid batch; it is never truncated into a cheaper one
+    private static byte[] readBatchBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > MAX_BATCH_BODY_BYTES) {
+            return null;
+        }
+        var body = request.getInputStream().readNBytes(MAX_BATCH_BODY_BYTES + 1);
+        return body.length > MAX_BATCH_BODY_BYTES ? null : body;
+    }
+
+    // Batch calls are charged one token per location (capped at the batch limit, oversized batches are rejected
+    // downstream); malformed bodies cost one. Counts the top-level locations array by streaming over it, without
+    // building a tree of the body.
+    private int countBatchLocations(byte[] body) {
+        try (var parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return 1;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var field = parser.currentName();
+                var value = parser.nextToken();
+                if ("locations".equals(field)) {
+                    return value == JsonToken.START_ARRAY ? countArrayElements(parser) : 1;
+                }
+                parser.skipChildren();
+            }
+            return 1;
+        } catch (IOException ex) {
+            return 1;
+        }
+    }
+
+    private static int countArrayElements(JsonParser parser) throws IOException {
+        var count = 0;
+        while (count < WeatherBatchRequest.MAX_LOCATIONS && parser.nextToken() != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+            count++;
+        }
+        return Math.max(count, 1);
+    }
+
     private String getClientIp(HttpServletRequest request) {
         var forwardedFor = request.getHeader(X_FORWARDED_FOR);
         if (forwardedFor != null && !forwardedFor.isEmpty()) {
@@ -72,25 +209,77 @@ public class RateLimitFilter extends OncePerRequestFilter {
         return request.getRemoteAddr();
     }
 
+    // A reloaded tier is applied to existing buckets in place, keeping the consumed share of the old quota
+    private Bucket apiKeyBucket(String apiKey, RateLimitTier tier) {
+        var tieredBucket = apiKeyBuckets.getIfPresent(apiKey);
+        if (tieredBucket == null) {
+            tieredBucket =
+                    apiKeyBuckets.get(apiKey, key -> new TieredBucket(tier, createBucket(API_KEY_PREFIX + key, tier)));
+        } else if (!tieredBucket.tier().equals(tier)) {
+            tieredBucket
+                    .bucket()
+                    .replaceConfiguration(tier.toBucketConfiguration(), TokensInheritanceStrategy.PROPORTIONALLY);
+            tieredBucket = new TieredBucket(tier, tieredBucket.bucket());
+            apiKeyBuckets.put(apiKey, tieredBucket);
+        }
+        return tieredBucket.bucket();
+    }
+
     private Bucket createBucket(String clientIp) {
-        var limit = Bandwidth.builder()
-                .capacity(requestsPerMinute)
-                .refillGreedy(requestsPerMinute, Duration.ofMinutes(1))
-                .build();
+        return createBucket(IP_KEY_PREFIX + clientIp, anonymousTier);
+    }
 
-        return Bucket.builder().addLimit(limit).build();
+    // In distributed mode the cached proxy carries the locally consumed, not yet synchronized tokens; evicting an
+    // idle proxy forgets at most sync-tokens of them. IP and API key buckets use separate key spaces in the shared
+    // store, so a spoofed X-Forwarded-For cannot drain a tenant's quota.
+    private Bucket createBucket(String key, RateLimitTier tier) {
+        var configuration = tier.toBucketConfiguration();
+        if (remoteBuckets != null) {
+            return remoteBuckets.build(key, () -> configuration);
+        }
+        var builder = Bucket.builder();
+        for (var bandwidth : configuration.getBandwidths()) {
+            builder.addLimit(bandwidth);
+        }
+        return builder.build();
     }
 
-    private void sendRateLimitResponse(HttpServletResponse response, String path) throws IOException {
-        var error = ApiError.of(
-                ErrorCode.RATE_LIMIT_EXCEEDED,
-                "Too many requests. Please try again later.",
-                HttpStatus.TOO_MANY_REQUESTS.value(),
-                path);
+    // RateLimit-* headers (IETF RateLimit header fields draft) let clients pace themselves; Reset is the time until
+    // the bucket is full again
+    private void setRateLimitHeaders(HttpServletResponse response, RateLimitTier tier, ConsumptionProbe probe) {
+        response.setHeader(RATE_LIMIT_LIMIT, Integer.toString(limitingQuota(tier, probe)));
+        response.setHeader(RATE_LIMIT_REMAINING, Long.toString(probe.getRemainingTokens()));
+        response.setHeader(RATE_LIMIT_RESET, Long.toString(toSecondsRoundedUp(probe.getNanosToWaitForReset())));
+    }
+
+    // Remaining is the smaller of the sustained and burst allowances, so Limit names the quota it was taken from.
+    // Judged from the probe alone: another bucket read would cost a round trip to the shared store in distributed
+    // mode. Below the burst size the remaining count is reported against the burst, which is also the closer pacing
+    // hint when the per-minute quota is the one nearly spent.
+    private static int limitingQuota(RateLimitTier tier, ConsumptionProbe probe) {
+        return tier.burst() > 0 && probe.getRemainingTokens() < tier.burst() ? tier.burst() : tier.requestsPerMinute();
+    }
+
+    private void sendRateLimitResponse(HttpServletResponse response, String path, ConsumptionProbe probe)
+            throws IOException {
+        // a rejected probe always has a positive wait, so this is at least one second
+        response.setHeader(RETRY_AFTER, Long.toString(toSecondsRoundedUp(probe.getNanosToWaitForRefill())));
+        sendError(response, RATE_LIMIT_ERROR, path);
+    }
 
-        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    private static void sendError(HttpServletResponse response, PreEncodedApiError error, String path)
+            throws IOException {
+        var body = error.encode(path);
+
+        response.setStatus(error.status().value());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setHeader("Retry-After", "60");
-        response.getWriter().write(objectMapper.writeValueAsString(error));
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static long toSecondsRoundedUp(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
     }
+
+    private record TieredBucket(RateLimitTier tier, Bucket bucket) {}
 }
@@ -0,0 +1,38 @@
+package com.temperature.proxy.infrastructure.adapter.in.web.filter;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import java.time.Duration;
+
+// A quota: requestsPerMinute is the sustained rate, burst (when positive) additionally caps requests per second
+public record RateLimitTier(String name, int requestsPerMinute, int burst) {
+
+    private static final Duration SUSTAINED_PERIOD = Duration.ofMinutes(1);
+    private static final Duration BURST_PERIOD = Duration.ofSeconds(1);
+
+    public RateLimitTier {
+        if (requestsPerMinute <= 0) {
+            throw new IllegalArgumentException(
+                    String.format("Rate limit tier '%s' needs a positive requests-per-minute", name));
+        }
+    }
+
+    public static RateLimitTier anonymous(int requestsPerMinute) {
+        return new RateLimitTier("anonymous", requestsPerMinute, 0);
+    }
+
+    public BucketConfiguration toBucketConfiguration() {
+        var builder = BucketConfiguration.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(requestsPerMinute)
+                        .refillGreedy(requestsPerMinute, SUSTAINED_PERIOD)
+                        .build());
+        if (burst > 0) {
+            builder.addLimit(Bandwidth.builder()
+                    .capacity(burst)
+                    .refillGreedy(burst, BURST_PERIOD)
+                    .build());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.temperature.proxy.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.temperature.proxy.application.service.WeatherService;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import java.util.List;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+// Direct access to the Caffeine cache behind the weather cache, for the components that fill or inspect it outside
+// the @Cacheable path: warm-up, prefetch and snapshots
+final class WeatherCacheAccess {
+
+    private WeatherCacheAccess() {}
+
+    @SuppressWarnings("unchecked")
+    static Cache<Object, Object> nativeCache(CacheManager cacheManager) {
+        if (cacheManager.getCache(WeatherService.WEATHER_CACHE_NAME) instanceof CaffeineCache caffeineCache) {
+            return caffeineCache.getNativeCache();
+        }
+        throw new IllegalStateException("Weather cache is not a Caffeine cache");
+    }
+
+    // One multi-location upstream call, each reading stored under its cell; returns how many were stored. Upstream
+    // failures propagate so each caller can count them its own way.
+    static int fetchInto(
+            Cache<Object, Object> cache, WeatherDataProvider weatherDataProvider, List<Coordinates> batch) {
+        var fetched = weatherDataProvider.fetchWeatherData(batch);
+        for (var weatherData : fetched) {
+            cache.put(weatherData.location().cacheKey(), weatherData);
+        }
+        return fetched.size();
+    }
+}
@@ -0,0 +1,29 @@
+package com.temperature.proxy.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+
+// Same semantics as expireAfterWrite, but lets restored snapshot entries be put with their remaining lifetime
+public class WeatherCacheExpiry implements Expiry<Object, Object> {
+
+    private final long ttlNanos;
+
+    public WeatherCacheExpiry(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(Object key, Object value, long currentTime) {
+        return ttlNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+        return ttlNanos;
+    }
+
+    @Override
+    public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
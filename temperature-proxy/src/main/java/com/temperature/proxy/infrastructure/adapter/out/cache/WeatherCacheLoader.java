@@ -0,0 +1,52 @@
+package com.temperature.proxy.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.temperature.proxy.domain.model.CoordinateGrid;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class WeatherCacheLoader implements CacheLoader<Object, Object> {
+
+    private static final String REFRESH_COUNTER_NAME = "weather.cache.refresh";
+
+    private final WeatherDataProvider weatherDataProvider;
+    private final CoordinateGrid coordinateGrid;
+    private final Counter refreshSuccesses;
+    private final Counter refreshFailures;
+
+    public WeatherCacheLoader(
+            WeatherDataProvider weatherDataProvider, CoordinateGrid coordinateGrid, MeterRegistry meterRegistry) {
+        this.weatherDataProvider = weatherDataProvider;
+        this.coordinateGrid = coordinateGrid;
+        this.refreshSuccesses = Counter.builder(REFRESH_COUNTER_NAME)
+                .description("Background refreshes of weather cache entries")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.refreshFailures = Counter.builder(REFRESH_COUNTER_NAME)
+                .description("Background refreshes of weather cache entries")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Object load(Object key) {
+        return weatherDataProvider.fetchWeatherData(Coordinates.fromCacheKey((Long) key, coordinateGrid));
+    }
+
+    @Override
+    public Object reload(Object key, Object oldValue) {
+        try {
+            var weatherData = load(key);
+            refreshSuccesses.increment();
+            return weatherData;
+        } catch (RuntimeException ex) {
+            refreshFailures.increment();
+            log.warn("Background refresh failed for cache key {}, keeping previous value: {}", key, ex.getMessage());
+            throw ex;
+        }
+    }
+}
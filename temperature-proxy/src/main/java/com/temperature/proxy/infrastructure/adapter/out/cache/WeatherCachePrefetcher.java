@@ -0,0 +1,168 @@
+package com.temperature.proxy.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.temperature.proxy.domain.model.CoordinateGrid;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import com.temperature.proxy.infrastructure.metrics.HotKeyTracker;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+
+// Reloads the most requested locations shortly before their entries expire, so popular keys never miss. Due keys are
+// fetched in multi-location upstream calls of up to batch-size locations, and a token bucket caps how many of those
+// calls a minute the prefetcher may spend; whatever does not fit the budget is left to the regular miss path.
+@Slf4j
+public class WeatherCachePrefetcher implements SmartLifecycle {
+
+    private static final String PREFETCH_COUNTER_NAME = "weather.cache.prefetch";
+
+    private final CacheManager cacheManager;
+    private final WeatherDataProvider weatherDataProvider;
+    private final HotKeyTracker hotKeyTracker;
+    private final CoordinateGrid coordinateGrid;
+    private final int topN;
+    private final Duration leadTime;
+    private final Duration interval;
+    private final int batchSize;
+    private final Bucket upstreamBudget;
+    private final Counter prefetched;
+    private final Counter failed;
+    private final Counter skipped;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public WeatherCachePrefetcher(
+            CacheManager cacheManager,
+            WeatherDataProvider weatherDataProvider,
+            HotKeyTracker hotKeyTracker,
+            CoordinateGrid coordinateGrid,
+            Settings settings,
+            MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.weatherDataProvider = weatherDataProvider;
+        this.hotKeyTracker = hotKeyTracker;
+        this.coordinateGrid = coordinateGrid;
+        this.topN = settings.topN();
+        this.leadTime = settings.leadTime();
+        this.interval = settings.interval();
+        this.batchSize = settings.batchSize();
+        this.upstreamBudget = Bucket.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(settings.maxUpstreamCallsPerMinute())
+                        .refillGreedy(settings.maxUpstreamCallsPerMinute(), Duration.ofMinutes(1))
+                        .build())
+                .build();
+        this.prefetched = prefetchCounter("success", meterRegistry);
+        this.failed = prefetchCounter("failure", meterRegistry);
+        this.skipped = prefetchCounter("budget_exhausted", meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("weather-cache-prefetch").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::prefetch, interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int prefetch() {
+        try {
+            var cache = WeatherCacheAccess.nativeCache(cacheManager);
+            var due = dueLocations(cache);
+            var loaded = 0;
+            for (var from = 0; from < due.size(); from += batchSize) {
+                var batch = due.subList(from, Math.min(from + batchSize, due.size()));
+                if (!upstreamBudget.tryConsume(1)) {
+                    skipped.increment(due.size() - from);
+                    log.debug("Prefetch budget exhausted, leaving {} due locations to expire", due.size() - from);
+                    break;
+                }
+                loaded += load(cache, batch);
+            }
+            return loaded;
+        } catch (RuntimeException ex) {
+            log.warn("Weather cache prefetch failed: {}", ex.getMessage());
+            return 0;
+        }
+    }
+
+    // Hottest first, so a tight budget goes to the keys that would cause the most misses
+    private List<Coordinates> dueLocations(Cache<Object, Object> cache) {
+        var expiration = cache.policy().expireVariably().orElseThrow();
+        var due = new ArrayList<Coordinates>();
+        for (var hotKey : hotKeyTracker.topKeys(topN)) {
+            if (isDue(expiration, hotKey.cacheKey())) {
+                due.add(Coordinates.fromCacheKey(hotKey.cacheKey(), coordinateGrid));
+            }
+        }
+        return due;
+    }
+
+    // A popular key that already dropped out of the cache is due as well: its next request would be a miss
+    private boolean isDue(Policy.VarExpiration<Object, Object> expiration, long cacheKey) {
+        return expiration
+                .getExpiresAfter(cacheKey)
+                .map(remaining -> remaining.compareTo(leadTime) <= 0)
+                .orElse(true);
+    }
+
+    private int load(Cache<Object, Object> cache, List<Coordinates> batch) {
+        try {
+            var fetched = WeatherCacheAccess.fetchInto(cache, weatherDataProvider, batch);
+            prefetched.increment(fetched);
+            return fetched;
+        } catch (RuntimeException ex) {
+            failed.increment(batch.size());
+            log.warn("Prefetching {} weather cache entries failed: {}", batch.size(), ex.getMessage());
+            return 0;
+        }
+    }
+
+    private static Counter prefetchCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder(PREFETCH_COUNTER_NAME)
+                .description("Weather cache entries reloaded ahead of expiry by the prefetcher")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    public record Settings(
+            int topN, Duration leadTime, Duration interval, int batchSize, int maxUpstreamCallsPerMinute) {
+
+        public Settings {
+            if (topN < 1 || batchSize < 1 || maxUpstreamCallsPerMinute < 1) {
+                throw new IllegalArgumentException(
+                        "Prefetch top-n, batch-size and max-upstream-calls-per-minute must be positive");
+            }
+            if (interval.compareTo(leadTime) >= 0) {
+                throw new IllegalArgumentException(String.format(
+                        "Prefetch interval (%s) must be shorter than the lead time (%s), or entries expire between"
+                                + " two rounds",
+                        interval, leadTime));
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.temperature.proxy.infrastructure.adapter.out.cache;
+
+import com.temperature.proxy.domain.model.CoordinateGrid;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.CurrentWeather;
+import com.temperature.proxy.domain.model.Temperature;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WindSpeed;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+// Layout (big-endian): magic, version, entry count, then per entry lat, lon, temperature, wind speed, retrievedAt
+// (epoch seconds + nanos), expiresAt (epoch millis) and the UTF-8 source; a CRC32C of everything before it closes the
+// file
+public final class WeatherCacheSnapshot {
+
+    private static final int MAGIC = 0x57435331; // "WCS1"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES * 3;
+    private static final int FIXED_ENTRY_BYTES = Double.BYTES * 4 + Long.BYTES * 2 + Integer.BYTES + Short.BYTES;
+
+    private WeatherCacheSnapshot() {}
+
+    public static void write(Path file, List<Entry> entries) throws IOException {
+        var sources = new ArrayList<byte[]>(entries.size());
+        var size = HEADER_BYTES + Long.BYTES;
+        for (var entry : entries) {
+            var source = entry.weatherData().source().getBytes(StandardCharsets.UTF_8);
+            sources.add(source);
+            size += FIXED_ENTRY_BYTES + source.length;
+        }
+
+        var buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(entries.size());
+        for (var i = 0; i < entries.size(); i++) {
+            var weatherData = entries.get(i).weatherData();
+            buffer.putDouble(weatherData.location().latitude())
+                    .putDouble(weatherData.location().longitude())
+                    .putDouble(weatherData.currentWeather().temperature().celsius())
+                    .putDouble(weatherData.currentWeather().windSpeed().kmh())
+                    .putLong(weatherData.retrievedAt().getEpochSecond())
+                    .putInt(weatherData.retrievedAt().getNano())
+                    .putLong(entries.get(i).expiresAt().toEpochMilli())
+                    .putShort((short) sources.get(i).length)
+                    .put(sources.get(i));
+        }
+        var checksum = new CRC32C();
+        checksum.update(buffer.array(), 0, buffer.position());
+        buffer.putLong(checksum.getValue());
+        buffer.flip();
+
+        // write to a unique sibling and rename, so a crash mid-write never leaves a truncated snapshot behind and
+        // replicas sharing a volume never interleave their writes
+        var temporary = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName() + ".", ".tmp");
+        try {
+            try (var channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    public static List<Entry> read(Path file, CoordinateGrid grid) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES + Long.BYTES || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Unexpected snapshot size: " + channel.size());
+            }
+            var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            var checksum = new CRC32C();
+            checksum.update(buffer.slice(0, buffer.limit() - Long.BYTES));
+            if (checksum.getValue() != buffer.getLong(buffer.limit() - Long.BYTES)) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not a weather cache snapshot (version " + VERSION + ")");
+            }
+
+            var count = buffer.getInt();
+            var entries = new ArrayList<Entry>(count);
+            for (var i = 0; i < count; i++) {
+                var latitude = buffer.getDouble();
+                var longitude = buffer.getDouble();
+                var currentWeather = CurrentWeather.of(
+                        Temperature.ofCelsius(buffer.getDouble()), WindSpeed.ofKmh(buffer.getDouble()));
+                var retrievedAt = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+                var expiresAt = Instant.ofEpochMilli(buffer.getLong());
+                var source = new byte[buffer.getShort()];
+                buffer.get(source);
+
+                // re-key through the current grid, so a changed app.cache.grid never serves another cell's reading
+                var location = Coordinates.of(latitude, longitude, grid);
+                var weatherData = new WeatherData(
+                        location, currentWeather, new String(source, StandardCharsets.UTF_8), retrievedAt);
+                entries.add(new Entry(weatherData, expiresAt));
+            }
+            return entries;
+        }
+    }
+
+    public record Entry(WeatherData weatherData, Instant expiresAt) {}
+}
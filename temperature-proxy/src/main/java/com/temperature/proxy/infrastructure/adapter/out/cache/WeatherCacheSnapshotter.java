@@ -0,0 +1,131 @@
+package com.temperature.proxy.infrastructure.adapter.out.cache;
+
+import com.temperature.proxy.domain.model.CoordinateGrid;
+import com.temperature.proxy.domain.model.WeatherData;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+
+@Slf4j
+public class WeatherCacheSnapshotter implements SmartLifecycle {
+
+    private final CacheManager cacheManager;
+    private final CoordinateGrid coordinateGrid;
+    private final Path file;
+    private final Duration interval;
+
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public WeatherCacheSnapshotter(
+            CacheManager cacheManager, CoordinateGrid coordinateGrid, Path file, Duration interval) {
+        this.cacheManager = cacheManager;
+        this.coordinateGrid = coordinateGrid;
+        this.file = file;
+        this.interval = interval;
+    }
+
+    // Start before the web server (so restore finishes before readiness) and stop after its graceful shutdown
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 2048;
+    }
+
+    @Override
+    public void start() {
+        restore();
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("weather-cache-snapshot").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::snapshot, interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdown();
+        try {
+            // let an in-flight periodic snapshot finish so the two writes never race on the temporary file
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        snapshot();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int restore() {
+        if (!Files.exists(file)) {
+            log.info("No weather cache snapshot at {}, starting cold", file);
+            return 0;
+        }
+        var startedAt = System.nanoTime();
+        try {
+            var cache = WeatherCacheAccess.nativeCache(cacheManager);
+            var expiration = cache.policy().expireVariably().orElseThrow();
+            var now = Instant.now();
+            var restored = 0;
+            for (var entry : WeatherCacheSnapshot.read(file, coordinateGrid)) {
+                var remaining = Duration.between(now, entry.expiresAt());
+                if (remaining.isPositive()) {
+                    var weatherData = entry.weatherData();
+                    if (expiration.putIfAbsent(weatherData.location().cacheKey(), weatherData, remaining) == null) {
+                        restored++;
+                    }
+                }
+            }
+            log.info(
+                    "Restored {} weather cache entries from {} in {} ms",
+                    restored,
+                    file,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            return restored;
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Ignoring unreadable weather cache snapshot {}: {}", file, ex.getMessage());
+            return 0;
+        }
+    }
+
+    public int snapshot() {
+        var startedAt = System.nanoTime();
+        try {
+            var cache = WeatherCacheAccess.nativeCache(cacheManager);
+            var expiration = cache.policy().expireVariably().orElseThrow();
+            var now = Instant.now();
+            var entries = new ArrayList<WeatherCacheSnapshot.Entry>();
+            for (var entry : cache.asMap().entrySet()) {
+                if (entry.getValue() instanceof WeatherData weatherData) {
+                    expiration
+                            .getExpiresAfter(entry.getKey())
+                            .filter(Duration::isPositive)
+                            .ifPresent(remaining ->
+                                    entries.add(new WeatherCacheSnapshot.Entry(weatherData, now.plus(remaining))));
+                }
+            }
+            WeatherCacheSnapshot.write(file, entries);
+            log.debug(
+                    "Wrote {} weather cache entries to {} in {} ms",
+                    entries.size(),
+                    file,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            return entries.size();
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Failed to write weather cache snapshot {}: {}", file, ex.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.temperature.proxy.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.temperature.proxy.domain.model.CoordinateGrid;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+
+// Loads a fixed list of locations into the weather cache after startup, batch-size locations per upstream call and at
+// most parallelism calls at a time. Runs in the background so liveness is served meanwhile; readiness waits for it
+// through the cacheWarmUp health indicator until it completes or the deadline passes.
+@Slf4j
+public class WeatherCacheWarmer implements SmartLifecycle {
+
+    private static final String LOCATIONS_COUNTER_NAME = "weather.cache.warmup.locations";
+    private static final String DURATION_TIMER_NAME = "weather.cache.warmup";
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        DEADLINE_EXCEEDED
+    }
+
+    private final CacheManager cacheManager;
+    private final WeatherDataProvider weatherDataProvider;
+    private final List<Coordinates> locations;
+    private final int parallelism;
+    private final int batchSize;
+    private final Duration deadline;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private volatile Status status = Status.PENDING;
+    private volatile Thread warmUpThread;
+    private volatile boolean running;
+
+    public WeatherCacheWarmer(
+            CacheManager cacheManager,
+            WeatherDataProvider weatherDataProvider,
+            List<Coordinates> locations,
+            int parallelism,
+            int batchSize,
+            Duration deadline,
+            MeterRegistry meterRegistry) {
+        if (parallelism < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Warm-up parallelism and batch-size must be positive");
+        }
+        this.cacheManager = cacheManager;
+        this.weatherDataProvider = weatherDataProvider;
+        this.locations = List.copyOf(locations);
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.deadline = deadline;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // After a snapshot restore (so restored cells are not fetched again) and before the web server
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE - 1024;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (locations.isEmpty()) {
+            status = Status.COMPLETED;
+            return;
+        }
+        warmUpThread =
+                Thread.ofPlatform().name("weather-cache-warm-up").daemon().start(this::warmUp);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        var thread = warmUpThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    public int total() {
+        return locations.size();
+    }
+
+    public int loaded() {
+        return loaded.get();
+    }
+
+    public int failed() {
+        return failed.get();
+    }
+
+    public Status warmUp() {
+        status = Status.RUNNING;
+        var startedAt = System.nanoTime();
+        var cache = WeatherCacheAccess.nativeCache(cacheManager);
+        var batches = batches(cache);
+        var executor = Executors.newFixedThreadPool(
+                parallelism,
+                Thread.ofPlatform().name("weather-cache-warm-up-", 0).daemon().factory());
+        for (var batch : batches) {
+            executor.execute(() -> load(cache, batch));
+        }
+        executor.shutdown();
+        var outcome = Status.COMPLETED;
+        try {
+            if (!executor.awaitTermination(deadline.toNanos(), TimeUnit.NANOSECONDS)) {
+                outcome = Status.DEADLINE_EXCEEDED;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            outcome = Status.DEADLINE_EXCEEDED;
+        }
+        executor.shutdownNow();
+
+        var elapsed = System.nanoTime() - startedAt;
+        Timer.builder(DURATION_TIMER_NAME)
+                .description("Duration of the startup weather cache warm-up")
+                .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        log.info(
+                "Weather cache warm-up {} in {} ms: {} of {} locations loaded, {} failed",
+                outcome == Status.COMPLETED ? "completed" : "hit its deadline",
+                TimeUnit.NANOSECONDS.toMillis(elapsed),
+                loaded.get(),
+                locations.size(),
+                failed.get());
+        status = outcome;
+        return outcome;
+    }
+
+    // Cells already cached, e.g. restored from a snapshot, are skipped
+    private List<List<Coordinates>> batches(Cache<Object, Object> cache) {
+        var pending = locations.stream()
+                .filter(location -> cache.getIfPresent(location.cacheKey()) == null)
+                .toList();
+        loaded.addAndGet(locations.size() - pending.size());
+        var batches = new ArrayList<List<Coordinates>>();
+        for (var from = 0; from < pending.size(); from += batchSize) {
+            batches.add(pending.subList(from, Math.min(from + batchSize, pending.size())));
+        }
+        return batches;
+    }
+
+    private void load(Cache<Object, Object> cache, List<Coordinates> batch) {
+        try {
+            var fetched = WeatherCacheAccess.fetchInto(cache, weatherDataProvider, batch);
+            loaded.addAndGet(fetched);
+            locationsCounter("success").increment(fetched);
+            var missing = batch.size() - fetched;
+            failed.addAndGet(missing);
+            locationsCounter("failure").increment(missing);
+        } catch (RuntimeException ex) {
+            failed.addAndGet(batch.size());
+            locationsCounter("failure").increment(batch.size());
+            log.warn("Warming up {} weather cache entries failed: {}", batch.size(), ex.getMessage());
+        }
+    }
+
+    private Counter locationsCounter(String outcome) {
+        return Counter.builder(LOCATIONS_COUNTER_NAME)
+                .description("Locations loaded into the weather cache by the startup warm-up")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    // ";"-separated "lat,lon" entries from configuration followed by the lines of the optional file; blank entries and
+    // # comments are ignored, invalid ones are logged and skipped, and locations in the same cache cell load once
+    public static List<Coordinates> parseLocations(String entries, Path file, CoordinateGrid grid) {
+        var lines = new ArrayList<>(List.of(entries.split(";")));
+        if (file != null) {
+            try {
+                lines.addAll(Files.readAllLines(file));
+            } catch (IOException ex) {
+                log.warn("Ignoring unreadable warm-up location file {}: {}", file, ex.getMessage());
+            }
+        }
+        var byCell = new LinkedHashMap<Long, Coordinates>();
+        for (var line : lines) {
+            var entry = line.strip();
+            if (entry.isEmpty() || entry.startsWith("#")) {
+                continue;
+            }
+            try {
+                var parts = entry.split(",");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("expected 'latitude,longitude'");
+                }
+                var cell = Coordinates.of(
+                                Double.parseDouble(parts[0].strip()), Double.parseDouble(parts[1].strip()), grid)
+                        .cacheKey();
+                byCell.putIfAbsent(cell, Coordinates.fromCacheKey(cell, grid));
+            } catch (RuntimeException ex) {
+                log.warn("Skipping invalid warm-up location '{}': {}", entry, ex.getMessage());
+            }
+        }
+        return List.copyOf(byCell.values());
+    }
+}
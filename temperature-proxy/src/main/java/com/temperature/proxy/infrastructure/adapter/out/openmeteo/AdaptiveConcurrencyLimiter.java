@@ -0,0 +1,110 @@
+package com.temperature.proxy.infrastructure.adapter.out.openmeteo;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+// AIMD: grow the limit by one while calls stay under the latency threshold, shrink it on slow or timed-out calls
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int MIN_LIMIT = 1;
+
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimiter(
+            int initialLimit, int maxLimit, Duration latencyThreshold, MeterRegistry meterRegistry) {
+        if (initialLimit < MIN_LIMIT || maxLimit < initialLimit) {
+            throw new IllegalArgumentException(
+                    "Concurrency limits must satisfy 1 <= initial <= max, got: " + initialLimit + " and " + maxLimit);
+        }
+        this.limit = initialLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        Gauge.builder("weather.upstream.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive limit of concurrent Open-Meteo calls")
+                .register(meterRegistry);
+        Gauge.builder("weather.upstream.concurrency.in-flight", this, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Open-Meteo calls currently in flight")
+                .register(meterRegistry);
+    }
+
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            if (inFlight >= (int) limit) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onSuccess(long latencyNanos) {
+        if (latencyNanos > latencyThresholdNanos) {
+            onDropped();
+            return;
+        }
+        lock.lock();
+        try {
+            // only grow while the limit is actually being used, otherwise an idle pod ratchets it up to max
+            if (inFlight * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+            inFlight--;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onDropped() {
+        lock.lock();
+        try {
+            var previous = (int) limit;
+            limit = Math.max(MIN_LIMIT, limit * BACKOFF_RATIO);
+            inFlight--;
+            if ((int) limit < previous) {
+                log.debug("Open-Meteo concurrency limit lowered to {}", (int) limit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onIgnored() {
+        lock.lock();
+        try {
+            inFlight--;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package com.temperature.proxy.infrastructure.adapter.out.openmeteo;
 
+import com.temperature.proxy.domain.exception.WeatherProviderException;
 import com.temperature.proxy.domain.model.Coordinates;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -21,11 +27,45 @@ public class OpenMeteoClient {
         return openMeteoRestClient
                 .get()
                 .uri(uriBuilder -> uriBuilder
-                        .queryParam("latitude", coordinates.normalizedLatitude())
-                        .queryParam("longitude", coordinates.normalizedLongitude())
+                        .queryParam("latitude", toQueryValue(coordinates.normalizedLatitude()))
+                        .queryParam("longitude", toQueryValue(coordinates.normalizedLongitude()))
                         .queryParam("current", CURRENT_PARAMS)
                         .build())
                 .retrieve()
                 .body(OpenMeteoResponse.class);
     }
+
+    public List<OpenMeteoResponse> fetchCurrentWeather(List<Coordinates> locations) {
+        if (locations.size() == 1) {
+            return Collections.singletonList(fetchCurrentWeather(locations.get(0)));
+        }
+        log.debug("Calling Open-Meteo API for {} locations", locations.size());
+
+        var latitudes = new StringJoiner(",");
+        var longitudes = new StringJoiner(",");
+        for (var location : locations) {
+            latitudes.add(toQueryValue(location.normalizedLatitude()));
+            longitudes.add(toQueryValue(location.normalizedLongitude()));
+        }
+
+        var responses = openMeteoRestClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .queryParam("latitude", latitudes.toString())
+                        .queryParam("longitude", longitudes.toString())
+                        .queryParam("current", CURRENT_PARAMS)
+                        .build())
+                .retrieve()
+                .body(OpenMeteoResponse[].class);
+
+        if (responses == null || responses.length != locations.size()) {
+            throw WeatherProviderException.invalidResponse("Weather service returned invalid data");
+        }
+        return Arrays.asList(responses);
+    }
+
+    // Double.toString switches to scientific notation below 1e-3, which Open-Meteo does not parse
+    static String toQueryValue(double degrees) {
+        return BigDecimal.valueOf(degrees).stripTrailingZeros().toPlainString();
+    }
 }
@@ -0,0 +1,58 @@
+package com.temperature.proxy.infrastructure.adapter.out.openmeteo;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+// Sized for the default apache client, which is HTTP/1.1 only, so each concurrent call needs its own pooled
+// connection. The jdk client multiplexes HTTP/2 calls over one connection, so a single request already warms it.
+@Slf4j
+@Component
+@ConditionalOnExpression("${app.open-meteo.http.prewarm-connections:2} > 0")
+public class OpenMeteoConnectionPrewarmer {
+
+    private final RestClient openMeteoRestClient;
+    private final int connections;
+
+    public OpenMeteoConnectionPrewarmer(
+            RestClient openMeteoRestClient, @Value("${app.open-meteo.http.prewarm-connections:2}") int connections) {
+        this.openMeteoRestClient = openMeteoRestClient;
+        this.connections = connections;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prewarm() {
+        Thread.ofVirtual().name("open-meteo-prewarm").start(this::openConnections);
+    }
+
+    // Concurrent HEAD requests force the pool to open (and TLS-handshake) one connection each; a failed one only
+    // costs its connection, never the application
+    void openConnections() {
+        var startedAt = System.nanoTime();
+        var opened = new AtomicInteger();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var i = 0; i < connections; i++) {
+                executor.execute(() -> {
+                    try {
+                        openMeteoRestClient.head().exchange((request, response) -> response.getStatusCode());
+                        opened.incrementAndGet();
+                    } catch (RuntimeException ex) {
+                        log.debug("Open-Meteo connection pre-warm failed: {}", ex.getMessage());
+                    }
+                });
+            }
+        }
+        log.info(
+                "Pre-warmed {}/{} Open-Meteo connections in {} ms",
+                opened.get(),
+                connections,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+}
@@ -0,0 +1,180 @@
+package com.temperature.proxy.infrastructure.adapter.out.openmeteo;
+
+import com.temperature.proxy.domain.model.Coordinates;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+@Slf4j
+public class OpenMeteoRequestBatcher implements DisposableBean {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(1);
+    private static final int DEFAULT_MAX_CONCURRENT_BATCHES = 50;
+
+    private final Duration window;
+    private final Duration maxWait;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService flushScheduler;
+    private final ExecutorService dispatcher;
+    private final DistributionSummary batchSizes;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Map<Long, PendingRequest> pending = new LinkedHashMap<>();
+    private Function<List<Coordinates>, List<OpenMeteoResponse>> pendingCall;
+    private ScheduledFuture<?> scheduledFlush;
+
+    OpenMeteoRequestBatcher(Duration window, int maxBatchSize, MeterRegistry meterRegistry) {
+        this(window, maxBatchSize, DEFAULT_TIMEOUT, DEFAULT_MAX_CONCURRENT_BATCHES, false, meterRegistry);
+    }
+
+    // timeout is the upstream call timeout; maxConcurrentBatches should match the HTTP connection pool, since a batch
+    // beyond it would only wait for a connection
+    public OpenMeteoRequestBatcher(
+            Duration window,
+            int maxBatchSize,
+            Duration timeout,
+            int maxConcurrentBatches,
+            boolean virtualThreads,
+            MeterRegistry meterRegistry) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1, got: " + maxBatchSize);
+        }
+        if (maxConcurrentBatches < 1) {
+            throw new IllegalArgumentException("Concurrent batches must be at least 1, got: " + maxConcurrentBatches);
+        }
+        this.window = window;
+        this.maxWait = window.plus(timeout);
+        this.maxBatchSize = maxBatchSize;
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("open-meteo-batch-timer").daemon().factory());
+        this.dispatcher = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name("open-meteo-batch-", 0).factory())
+                : boundedDispatcher(maxConcurrentBatches);
+        this.batchSizes = DistributionSummary.builder("weather.upstream.batch.size")
+                .description("Locations per upstream Open-Meteo request")
+                .register(meterRegistry);
+    }
+
+    private static ExecutorService boundedDispatcher(int maxConcurrentBatches) {
+        var executor = new ThreadPoolExecutor(
+                maxConcurrentBatches,
+                maxConcurrentBatches,
+                60,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().name("open-meteo-batch-", 0).daemon().factory());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    // Longest a caller should wait for its batch: the batching window plus the upstream timeout
+    public Duration maxWait() {
+        return maxWait;
+    }
+
+    // upstreamCall is made once per batch, for every location in it; callers pass the same (guarded) client call, and
+    // a batch uses the one of the caller that opened it
+    public CompletableFuture<OpenMeteoResponse> submit(
+            Coordinates coordinates, Function<List<Coordinates>, List<OpenMeteoResponse>> upstreamCall) {
+        Batch batchToDispatch = null;
+        CompletableFuture<OpenMeteoResponse> future;
+
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                pendingCall = upstreamCall;
+            }
+            var request = pending.get(coordinates.cacheKey());
+            if (request == null) {
+                request = new PendingRequest(coordinates, new CompletableFuture<>());
+                pending.put(coordinates.cacheKey(), request);
+            }
+            future = request.future();
+
+            if (pending.size() >= maxBatchSize) {
+                batchToDispatch = drain();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = flushScheduler.schedule(this::flush, window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (batchToDispatch != null) {
+            dispatch(batchToDispatch);
+        }
+        return future;
+    }
+
+    private void flush() {
+        Batch batch;
+        lock.lock();
+        try {
+            batch = drain();
+        } finally {
+            lock.unlock();
+        }
+        if (!batch.requests().isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private Batch drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        var batch = new Batch(new ArrayList<>(pending.values()), pendingCall);
+        pending = new LinkedHashMap<>();
+        pendingCall = null;
+        return batch;
+    }
+
+    private void dispatch(Batch batch) {
+        dispatcher.execute(() -> execute(batch));
+    }
+
+    private void execute(Batch batch) {
+        var requests = batch.requests();
+        batchSizes.record(requests.size());
+        try {
+            var locations = requests.stream().map(PendingRequest::coordinates).toList();
+            var responses = batch.upstreamCall().apply(locations);
+            for (var i = 0; i < requests.size(); i++) {
+                requests.get(i).future().complete(responses.get(i));
+            }
+        } catch (RuntimeException ex) {
+            log.debug("Batched Open-Meteo request for {} locations failed: {}", requests.size(), ex.getMessage());
+            requests.forEach(request -> request.future().completeExceptionally(ex));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flush();
+        flushScheduler.shutdown();
+        dispatcher.shutdown();
+    }
+
+    private record PendingRequest(Coordinates coordinates, CompletableFuture<OpenMeteoResponse> future) {}
+
+    private record Batch(
+            List<PendingRequest> requests, Function<List<Coordinates>, List<OpenMeteoResponse>> upstreamCall) {}
+}
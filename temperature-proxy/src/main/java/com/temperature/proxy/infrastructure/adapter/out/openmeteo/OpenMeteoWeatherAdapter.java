@@ -7,10 +7,22 @@ import com.temperature.proxy.domain.model.Temperature;
 import com.temperature.proxy.domain.model.WeatherData;
 import com.temperature.proxy.domain.model.WindSpeed;
 import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
@@ -21,38 +33,198 @@ import org.springframework.web.client.ResourceAccessException;
 public class OpenMeteoWeatherAdapter implements WeatherDataProvider {
 
     private static final String TIMER_NAME = "weather.upstream.latency";
+    private static final String REJECTED_COUNTER_NAME = "weather.upstream.rejected";
 
     private final OpenMeteoClient openMeteoClient;
-    private final Timer upstreamTimer;
+    private final OpenMeteoRequestBatcher requestBatcher;
+    private final UpstreamCircuitBreaker circuitBreaker;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final UpstreamHealthWindow healthWindow;
+    private final Timer upstreamSuccessTimer;
+    private final Map<WeatherProviderException.ErrorType, Timer> upstreamFailureTimers;
+    private final Counter circuitOpenRejections;
+    private final Counter concurrencyLimitRejections;
 
-    public OpenMeteoWeatherAdapter(OpenMeteoClient openMeteoClient, MeterRegistry meterRegistry) {
+    @Autowired
+    public OpenMeteoWeatherAdapter(
+            OpenMeteoClient openMeteoClient,
+            ObjectProvider<OpenMeteoRequestBatcher> requestBatcher,
+            ObjectProvider<UpstreamCircuitBreaker> circuitBreaker,
+            ObjectProvider<AdaptiveConcurrencyLimiter> concurrencyLimiter,
+            ObjectProvider<UpstreamHealthWindow> healthWindow,
+            MeterRegistry meterRegistry) {
+        this(
+                openMeteoClient,
+                requestBatcher.getIfAvailable(),
+                circuitBreaker.getIfAvailable(),
+                concurrencyLimiter.getIfAvailable(),
+                healthWindow.getIfAvailable(),
+                meterRegistry);
+    }
+
+    // Every collaborator but the client is optional; tests pass null for the ones they do not exercise
+    OpenMeteoWeatherAdapter(
+            OpenMeteoClient openMeteoClient,
+            OpenMeteoRequestBatcher requestBatcher,
+            UpstreamCircuitBreaker circuitBreaker,
+            AdaptiveConcurrencyLimiter concurrencyLimiter,
+            UpstreamHealthWindow healthWindow,
+            MeterRegistry meterRegistry) {
         this.openMeteoClient = openMeteoClient;
-        this.upstreamTimer = Timer.builder(TIMER_NAME)
+        this.requestBatcher = requestBatcher;
+        this.circuitBreaker = circuitBreaker;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.healthWindow = healthWindow;
+        this.upstreamSuccessTimer = upstreamTimer("success", meterRegistry);
+        this.upstreamFailureTimers = new EnumMap<>(WeatherProviderException.ErrorType.class);
+        for (var errorType : WeatherProviderException.ErrorType.values()) {
+            upstreamFailureTimers.put(
+                    errorType, upstreamTimer(errorType.name().toLowerCase(Locale.ROOT), meterRegistry));
+        }
+        this.circuitOpenRejections = Counter.builder(REJECTED_COUNTER_NAME)
+                .description("Open-Meteo calls rejected without being sent")
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+        this.concurrencyLimitRejections = Counter.builder(REJECTED_COUNTER_NAME)
+                .description("Open-Meteo calls rejected without being sent")
+                .tag("reason", "concurrency_limit")
+                .register(meterRegistry);
+    }
+
+    // Tagged outcome=success or the lower-cased WeatherProviderException.ErrorType; histogram buckets are configured
+    // under management.metrics.distribution
+    private static Timer upstreamTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder(TIMER_NAME)
                 .description("Open-Meteo API call duration")
+                .tag("outcome", outcome)
                 .register(meterRegistry);
     }
 
     @Override
     public WeatherData fetchWeatherData(Coordinates coordinates) {
         var retrievedAt = Instant.now();
+        var response = requestBatcher == null
+                ? callUpstream(() -> openMeteoClient.fetchCurrentWeather(coordinates))
+                : awaitBatch(coordinates);
+        return mapToWeatherData(coordinates, response, retrievedAt);
+    }
+
+    @Override
+    public List<WeatherData> fetchWeatherData(List<Coordinates> locations) {
+        var retrievedAt = Instant.now();
+        var responses = fetchBatch(locations);
+
+        var weatherData = new ArrayList<WeatherData>(locations.size());
+        for (var i = 0; i < locations.size(); i++) {
+            weatherData.add(mapToWeatherData(locations.get(i), responses.get(i), retrievedAt));
+        }
+        return weatherData;
+    }
+
+    private List<OpenMeteoResponse> fetchBatch(List<Coordinates> locations) {
+        return callUpstream(() -> openMeteoClient.fetchCurrentWeather(locations));
+    }
+
+    // Permits, timer and outcome are per upstream call: a batch acquires and reports once for all of its callers,
+    // timed from dispatch rather than from the start of its batching window
+    private <T> T callUpstream(Supplier<T> call) {
+        acquirePermits();
+        var startedAt = System.nanoTime();
+        try {
+            var result = call.get();
+            onCallCompleted(System.nanoTime() - startedAt, null);
+            return result;
+        } catch (RuntimeException ex) {
+            var failure = translate(ex);
+            onCallCompleted(System.nanoTime() - startedAt, failure);
+            throw failure;
+        }
+    }
+
+    // Fail fast instead of queueing Tomcat threads behind a slow or failing upstream
+    private void acquirePermits() {
+        if (concurrencyLimiter != null && !concurrencyLimiter.tryAcquire()) {
+            concurrencyLimitRejections.increment();
+            throw WeatherProviderException.unavailable("Too many concurrent calls to weather service", null);
+        }
+        if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+            if (concurrencyLimiter != null) {
+                concurrencyLimiter.onIgnored();
+            }
+            circuitOpenRejections.increment();
+            throw WeatherProviderException.unavailable("Weather service is unavailable (circuit open)", null);
+        }
+    }
+
+    private void onCallCompleted(long elapsedNanos, WeatherProviderException failure) {
+        var timer = failure == null ? upstreamSuccessTimer : upstreamFailureTimers.get(failure.getErrorType());
+        timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (concurrencyLimiter != null) {
+            if (failure != null && failure.getErrorType() == WeatherProviderException.ErrorType.TIMEOUT) {
+                concurrencyLimiter.onDropped();
+            } else {
+                concurrencyLimiter.onSuccess(elapsedNanos);
+            }
+        }
+        // a 4xx means Open-Meteo answered, so it says nothing about upstream health
+        var upstreamFailed = failure != null && !(failure.getCause() instanceof HttpClientErrorException);
+        if (circuitBreaker != null) {
+            if (upstreamFailed) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+        }
+        if (healthWindow != null) {
+            healthWindow.record(elapsedNanos, upstreamFailed);
+        }
+    }
+
+    private WeatherProviderException translate(RuntimeException ex) {
+        return switch (ex) {
+            case WeatherProviderException providerException -> providerException;
+            case ResourceAccessException accessException -> {
+                log.error("Timeout or connection error calling Open-Meteo API: {}", accessException.getMessage());
+                yield WeatherProviderException.timeout("Weather service did not respond in time", accessException);
+            }
+            case HttpClientErrorException clientError -> {
+                log.error(
+                        "Client error from Open-Meteo API: {} - {}",
+                        clientError.getStatusCode(),
+                        clientError.getMessage());
+                yield WeatherProviderException.upstreamError("Weather service returned an error", clientError);
+            }
+            case HttpServerErrorException serverError -> {
+                log.error(
+                        "Server error from Open-Meteo API: {} - {}",
+                        serverError.getStatusCode(),
+                        serverError.getMessage());
+                yield WeatherProviderException.upstreamError("Weather service returned an error", serverError);
+            }
+            default -> {
+                log.error("Unexpected error calling Open-Meteo API: {}", ex.getMessage());
+                yield WeatherProviderException.unavailable("Weather service is unavailable", ex);
+            }
+        };
+    }
 
+    // Failures arrive already translated and recorded by the batch's own upstream call
+    private OpenMeteoResponse awaitBatch(Coordinates coordinates) {
         try {
-            var response = upstreamTimer.record(() -> openMeteoClient.fetchCurrentWeather(coordinates));
-            return mapToWeatherData(coordinates, response, retrievedAt);
-        } catch (WeatherProviderException ex) {
-            throw ex;
-        } catch (ResourceAccessException ex) {
-            log.error("Timeout or connection error calling Open-Meteo API: {}", ex.getMessage());
+            // bounded, so a batch that never completes cannot hold the request thread past the upstream timeout
+            return requestBatcher
+                    .submit(coordinates, this::fetchBatch)
+                    .get(requestBatcher.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
             throw WeatherProviderException.timeout("Weather service did not respond in time", ex);
-        } catch (HttpClientErrorException ex) {
-            log.error("Client error from Open-Meteo API: {} - {}", ex.getStatusCode(), ex.getMessage());
-            throw WeatherProviderException.upstreamError("Weather service returned an error", ex);
-        } catch (HttpServerErrorException ex) {
-            log.error("Server error from Open-Meteo API: {} - {}", ex.getStatusCode(), ex.getMessage());
-            throw WeatherProviderException.upstreamError("Weather service returned an error", ex);
-        } catch (Exception ex) {
-            log.error("Unexpected error calling Open-Meteo API: {}", ex.getMessage());
-            throw WeatherProviderException.unavailable("Weather service is unavailable", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw WeatherProviderException.unavailable("Weather service is unavailable", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw WeatherProviderException.unavailable("Interrupted while waiting for weather service", ex);
         }
     }
 
@@ -0,0 +1,104 @@
+package com.temperature.proxy.infrastructure.adapter.out.openmeteo;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// Outcomes and latencies of real Open-Meteo calls over a sliding time window, kept in a ring of time buckets so
+// recording and reading both cost a handful of array operations regardless of traffic
+public class UpstreamHealthWindow {
+
+    private static final int BUCKETS = 10;
+
+    private final long bucketNanos;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final long[] bucketIds = new long[BUCKETS];
+    private final int[] calls = new int[BUCKETS];
+    private final int[] failures = new int[BUCKETS];
+    private final long[] latencySums = new long[BUCKETS];
+    private final long[] latencyMaxima = new long[BUCKETS];
+    private long lastCallAt;
+    private boolean anyCall;
+
+    public UpstreamHealthWindow(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    UpstreamHealthWindow(Duration window, LongSupplier nanoClock) {
+        if (window.toNanos() < BUCKETS) {
+            throw new IllegalArgumentException("Upstream health window must be positive, got: " + window);
+        }
+        this.bucketNanos = window.toNanos() / BUCKETS;
+        this.nanoClock = nanoClock;
+        Arrays.fill(bucketIds, Long.MIN_VALUE);
+    }
+
+    public void record(long latencyNanos, boolean failure) {
+        lock.lock();
+        try {
+            var index = currentBucket();
+            calls[index]++;
+            if (failure) {
+                failures[index]++;
+            }
+            latencySums[index] += latencyNanos;
+            latencyMaxima[index] = Math.max(latencyMaxima[index], latencyNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int currentBucket() {
+        var now = nanoClock.getAsLong();
+        var bucketId = Math.floorDiv(now, bucketNanos);
+        var index = (int) Math.floorMod(bucketId, BUCKETS);
+        if (bucketIds[index] != bucketId) {
+            bucketIds[index] = bucketId;
+            calls[index] = 0;
+            failures[index] = 0;
+            latencySums[index] = 0;
+            latencyMaxima[index] = 0;
+        }
+        lastCallAt = now;
+        anyCall = true;
+        return index;
+    }
+
+    public Snapshot snapshot() {
+        lock.lock();
+        try {
+            var now = nanoClock.getAsLong();
+            var oldestBucketId = Math.floorDiv(now, bucketNanos) - BUCKETS + 1;
+            var totalCalls = 0;
+            var totalFailures = 0;
+            var latencySum = 0L;
+            var latencyMax = 0L;
+            for (var i = 0; i < BUCKETS; i++) {
+                if (bucketIds[i] >= oldestBucketId) {
+                    totalCalls += calls[i];
+                    totalFailures += failures[i];
+                    latencySum += latencySums[i];
+                    latencyMax = Math.max(latencyMax, latencyMaxima[i]);
+                }
+            }
+            return new Snapshot(
+                    totalCalls,
+                    totalFailures,
+                    totalCalls == 0 ? 0 : latencySum / totalCalls,
+                    latencyMax,
+                    anyCall ? now - lastCallAt : Long.MAX_VALUE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public record Snapshot(int calls, int failures, long meanLatencyNanos, long maxLatencyNanos, long idleNanos) {
+
+        public double failureRate() {
+            return calls == 0 ? 0.0 : (double) failures / calls;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.temperature.proxy.infrastructure.adapter.out.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AbstractCompareAndSwapBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AsyncCompareAndSwapOperation;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.CompareAndSwapOperation;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// Loopback backend for the distributed rate limit: bucket state is serialized and compare-and-swapped exactly as it
+// would be against Redis or a database, but the store lives in this JVM. It only limits across replicas when a
+// ProxyManager backed by shared storage replaces it.
+public class InMemoryProxyManager extends AbstractCompareAndSwapBasedProxyManager<String> {
+
+    private final Cache<String, StoredState> states;
+
+    public InMemoryProxyManager(ClientSideConfig clientSideConfig, long maxEntries) {
+        super(clientSideConfig);
+        this.states = Caffeine.newBuilder()
+                .expireAfter(new StoredStateExpiry())
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    @Override
+    protected CompareAndSwapOperation beginCompareAndSwapOperation(String key) {
+        return new CompareAndSwapOperation() {
+            @Override
+            public Optional<byte[]> getStateData(Optional<Long> timeoutNanos) {
+                return Optional.ofNullable(states.getIfPresent(key)).map(StoredState::data);
+            }
+
+            @Override
+            public boolean compareAndSwap(
+                    byte[] originalData, byte[] newData, RemoteBucketState newState, Optional<Long> timeoutNanos) {
+                return swap(key, originalData, newData, newState);
+            }
+        };
+    }
+
+    @Override
+    protected AsyncCompareAndSwapOperation beginAsyncCompareAndSwapOperation(String key) {
+        var operation = beginCompareAndSwapOperation(key);
+        return new AsyncCompareAndSwapOperation() {
+            @Override
+            public CompletableFuture<Optional<byte[]>> getStateData(Optional<Long> timeoutNanos) {
+                return CompletableFuture.completedFuture(operation.getStateData(timeoutNanos));
+            }
+
+            @Override
+            public CompletableFuture<Boolean> compareAndSwap(
+                    byte[] originalData, byte[] newData, RemoteBucketState newState, Optional<Long> timeoutNanos) {
+                return CompletableFuture.completedFuture(
+                        operation.compareAndSwap(originalData, newData, newState, timeoutNanos));
+            }
+        };
+    }
+
+    @Override
+    public void removeProxy(String key) {
+        states.invalidate(key);
+    }
+
+    @Override
+    protected CompletableFuture<Void> removeAsync(String key) {
+        states.invalidate(key);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public boolean isAsyncModeSupported() {
+        return true;
+    }
+
+    @Override
+    public boolean isExpireAfterWriteSupported() {
+        return true;
+    }
+
+    public long size() {
+        return states.estimatedSize();
+    }
+
+    private boolean swap(String key, byte[] originalData, byte[] newData, RemoteBucketState newState) {
+        var ttlNanos = getClientSideConfig()
+                .getExpirationAfterWriteStrategy()
+                .map(strategy -> calculateTtlNanos(strategy, newState))
+                .orElse(Long.MAX_VALUE);
+        var swapped = new boolean[1];
+        // originalData is null when the bucket did not exist yet, which Arrays.equals matches against a missing entry
+        states.asMap().compute(key, (ignored, current) -> {
+            if (!Arrays.equals(current == null ? null : current.data(), originalData)) {
+                return current;
+            }
+            swapped[0] = true;
+            return new StoredState(newData, ttlNanos);
+        });
+        return swapped[0];
+    }
+
+    private long calculateTtlNanos(ExpirationAfterWriteStrategy strategy, RemoteBucketState state) {
+        var ttlMillis = strategy.calculateTimeToLiveMillis(state, currentTimeNanos());
+        return ttlMillis > 0 ? Duration.ofMillis(ttlMillis).toNanos() : Long.MAX_VALUE;
+    }
+
+    private record StoredState(byte[] data, long ttlNanos) {}
+
+    private static class StoredStateExpiry implements Expiry<String, StoredState> {
+
+        @Override
+        public long expireAfterCreate(String key, StoredState value, long currentTime) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, StoredState value, long currentTime, long currentDuration) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, StoredState value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
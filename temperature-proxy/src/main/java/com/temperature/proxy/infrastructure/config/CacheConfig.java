@@ -1,27 +1,124 @@
 package com.temperature.proxy.infrastructure.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.temperature.proxy.application.service.WeatherService;
+import com.temperature.proxy.domain.model.CoordinateGrid;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import com.temperature.proxy.infrastructure.adapter.in.web.EncodedResponseCache;
+import com.temperature.proxy.infrastructure.adapter.out.cache.WeatherCacheExpiry;
+import com.temperature.proxy.infrastructure.adapter.out.cache.WeatherCacheLoader;
+import com.temperature.proxy.infrastructure.adapter.out.cache.WeatherCacheSnapshotter;
+import com.temperature.proxy.infrastructure.adapter.out.cache.WeatherCacheWarmer;
+import com.temperature.proxy.infrastructure.metrics.WeatherCacheStatsCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+@Slf4j
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
     @Bean
     public CacheManager cacheManager(
-            @Value("${app.cache.ttl}") Duration ttl, @Value("${app.cache.max-size}") int maxSize) {
-        var caffeineBuilder =
-                Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).recordStats();
+            @Value("${app.cache.ttl}") Duration ttl,
+            @Value("${app.cache.max-size}") int maxSize,
+            @Value("${app.cache.refresh-after-write:#{null}}") Duration refreshAfterWrite,
+            @Value("${app.cache.stale-grace:0s}") Duration staleGrace,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            WeatherDataProvider weatherDataProvider,
+            CoordinateGrid coordinateGrid,
+            MeterRegistry meterRegistry) {
+        var caffeineBuilder = Caffeine.newBuilder()
+                .expireAfter(new WeatherCacheExpiry(ttl))
+                .maximumSize(maxSize)
+                .recordStats(() -> new WeatherCacheStatsCounter(meterRegistry, WeatherService.WEATHER_CACHE_NAME));
 
         var cacheManager = new CaffeineCacheManager(WeatherService.WEATHER_CACHE_NAME);
+        if (staleGrace.isPositive()) {
+            // Entries leaving the main cache stay available as a stale-if-error fallback for the grace period
+            var staleCache = Caffeine.newBuilder()
+                    .expireAfterWrite(staleGrace)
+                    .maximumSize(maxSize)
+                    .recordStats(
+                            () -> new WeatherCacheStatsCounter(meterRegistry, WeatherService.STALE_WEATHER_CACHE_NAME))
+                    .<Object, Object>build();
+            caffeineBuilder.evictionListener((key, value, cause) -> {
+                if (key != null && value instanceof WeatherData) {
+                    staleCache.put(key, value);
+                }
+            });
+            cacheManager.registerCustomCache(WeatherService.STALE_WEATHER_CACHE_NAME, staleCache);
+        }
+        if (refreshAfterWrite != null && refreshAfterWrite.compareTo(ttl) >= 0) {
+            log.warn(
+                    "Refresh-ahead disabled: app.cache.refresh-after-write ({}) is not shorter than app.cache.ttl ({})",
+                    refreshAfterWrite,
+                    ttl);
+        } else if (refreshAfterWrite != null) {
+            caffeineBuilder.refreshAfterWrite(refreshAfterWrite);
+            cacheManager.setCacheLoader(new WeatherCacheLoader(weatherDataProvider, coordinateGrid, meterRegistry));
+        }
+        if (virtualThreads) {
+            // Async mode runs loads outside Caffeine's compute lock, so a blocked upstream call does not pin the
+            // carrier thread of the virtual thread waiting in WeatherService
+            caffeineBuilder.executor(Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("weather-cache-", 0).factory()));
+            cacheManager.setAsyncCacheMode(true);
+        }
         cacheManager.setCaffeine(caffeineBuilder);
         return cacheManager;
     }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.snapshot.enabled", havingValue = "true")
+    public WeatherCacheSnapshotter weatherCacheSnapshotter(
+            CacheManager cacheManager,
+            CoordinateGrid coordinateGrid,
+            @Value("${app.cache.snapshot.path:/tmp/weather-cache.snapshot}") Path path,
+            @Value("${app.cache.snapshot.interval:60s}") Duration interval) {
+        return new WeatherCacheSnapshotter(cacheManager, coordinateGrid, path, interval);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.encoded-responses.enabled", havingValue = "true")
+    public EncodedResponseCache encodedResponseCache(
+            ObjectMapper objectMapper,
+            @Value("${app.cache.encoded-responses.max-size:${app.cache.max-size}}") int maxSize,
+            MeterRegistry meterRegistry) {
+        return new EncodedResponseCache(objectMapper, maxSize, meterRegistry);
+    }
+
+    // Always present so the cacheWarmUp readiness check exists; without locations the warm-up completes immediately
+    @Bean
+    public WeatherCacheWarmer weatherCacheWarmer(
+            CacheManager cacheManager,
+            WeatherDataProvider weatherDataProvider,
+            CoordinateGrid coordinateGrid,
+            @Value("${app.cache.warm-up.locations:}") String locations,
+            @Value("${app.cache.warm-up.file:#{null}}") Path file,
+            @Value("${app.cache.warm-up.parallelism:4}") int parallelism,
+            @Value("${app.cache.warm-up.batch-size:50}") int batchSize,
+            @Value("${app.cache.warm-up.deadline:30s}") Duration deadline,
+            MeterRegistry meterRegistry) {
+        return new WeatherCacheWarmer(
+                cacheManager,
+                weatherDataProvider,
+                WeatherCacheWarmer.parseLocations(locations, file, coordinateGrid),
+                parallelism,
+                batchSize,
+                deadline,
+                meterRegistry);
+    }
 }
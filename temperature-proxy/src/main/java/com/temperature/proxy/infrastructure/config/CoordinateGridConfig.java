@@ -0,0 +1,31 @@
+package com.temperature.proxy.infrastructure.config;
+
+import com.temperature.proxy.domain.model.CoordinateGrid;
+import com.temperature.proxy.domain.model.DecimalGrid;
+import com.temperature.proxy.domain.model.KilometreGrid;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class CoordinateGridConfig {
+
+    @Bean
+    public CoordinateGrid coordinateGrid(
+            @Value("${app.cache.grid:decimal}") String grid,
+            @Value("${app.cache.coordinate-precision:2}") int coordinatePrecision,
+            @Value("${app.cache.cell-size-km:1.0}") double cellSizeKm) {
+        var coordinateGrid =
+                switch (grid.trim().toLowerCase(Locale.ROOT)) {
+                    case "decimal" -> new DecimalGrid(coordinatePrecision);
+                    case "kilometre", "kilometer" -> new KilometreGrid(cellSizeKm);
+                    default -> throw new IllegalArgumentException(
+                            "Unknown app.cache.grid '" + grid + "', expected 'decimal' or 'kilometre'");
+                };
+        log.info("Quantizing coordinates for caching with {}", coordinateGrid);
+        return coordinateGrid;
+    }
+}
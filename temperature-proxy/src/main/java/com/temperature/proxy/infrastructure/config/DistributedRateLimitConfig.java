@@ -0,0 +1,54 @@
+package com.temperature.proxy.infrastructure.config;
+
+import com.temperature.proxy.infrastructure.adapter.out.ratelimit.InMemoryProxyManager;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.rate-limit.mode", havingValue = "distributed")
+public class DistributedRateLimitConfig {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    // Shared state is kept a little past the point where the bucket would be full again anyway
+    private static final Duration STATE_KEEP_AFTER_REFILL = Duration.ofSeconds(10);
+
+    // Other backends (bucket4j-redis, -postgresql, -hazelcast, ...) plug in by setting backend to something else and
+    // declaring their own ProxyManager<String> bean
+    @Bean
+    @ConditionalOnProperty(
+            name = "app.rate-limit.distributed.backend",
+            havingValue = "in-memory",
+            matchIfMissing = true)
+    public ProxyManager<String> rateLimitProxyManager(@Value("${app.rate-limit.max-buckets:100000}") long maxBuckets) {
+        log.warn("Distributed rate limit uses the in-memory backend; limits are not shared between replicas");
+        var clientSideConfig = ClientSideConfig.getDefault()
+                .withExpirationAfterWriteStrategy(
+                        ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(STATE_KEEP_AFTER_REFILL));
+        return new InMemoryProxyManager(clientSideConfig, maxBuckets);
+    }
+
+    // Each replica consumes locally and writes back to the shared store after sync-tokens tokens or sync-interval,
+    // predicting the consumption of the other replicas in between
+    @Bean
+    public RemoteBucketBuilder<String> rateLimitBucketBuilder(
+            ProxyManager<String> rateLimitProxyManager,
+            @Value("${app.rate-limit.distributed.sync-tokens:10}") long syncTokens,
+            @Value("${app.rate-limit.distributed.sync-interval:1s}") Duration syncInterval) {
+        return rateLimitProxyManager
+                .builder()
+                .withOptimization(Optimizations.predicting(new DelayParameters(syncTokens, syncInterval)))
+                .withMapper(clientIp -> KEY_PREFIX + clientIp);
+    }
+}
@@ -0,0 +1,61 @@
+package com.temperature.proxy.infrastructure.config;
+
+import com.temperature.proxy.domain.model.CoordinateGrid;
+import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import com.temperature.proxy.infrastructure.adapter.out.cache.WeatherCachePrefetcher;
+import com.temperature.proxy.infrastructure.metrics.HotKeyTracker;
+import com.temperature.proxy.infrastructure.metrics.HotKeysEndpoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "app.cache.hot-keys.enabled", havingValue = "true", matchIfMissing = true)
+public class HotKeyConfig {
+
+    // Memory is fixed by top-k and sketch-width (4 rows x 4 sketches of sketch-width longs), whatever the key count.
+    // The prefetcher reads the same tracker, so it is sized for whichever of the two needs more keys.
+    @Bean
+    public HotKeyTracker hotKeyTracker(
+            @Value("${app.cache.hot-keys.top-k:20}") int topK,
+            @Value("${app.cache.hot-keys.sketch-width:2048}") int sketchWidth,
+            @Value("${app.cache.hot-keys.window:1m}") Duration window,
+            @Value("${app.cache.prefetch.enabled:false}") boolean prefetchEnabled,
+            @Value("${app.cache.prefetch.top-n:500}") int prefetchTopN) {
+        return new HotKeyTracker(prefetchEnabled ? Math.max(topK, prefetchTopN) : topK, sketchWidth, window);
+    }
+
+    @Bean
+    public HotKeysEndpoint hotKeysEndpoint(
+            HotKeyTracker hotKeyTracker,
+            CoordinateGrid coordinateGrid,
+            @Value("${app.cache.hot-keys.top-k:20}") int topK) {
+        return new HotKeysEndpoint(hotKeyTracker, coordinateGrid, topK);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.prefetch.enabled", havingValue = "true")
+    public WeatherCachePrefetcher weatherCachePrefetcher(
+            CacheManager cacheManager,
+            WeatherDataProvider weatherDataProvider,
+            HotKeyTracker hotKeyTracker,
+            CoordinateGrid coordinateGrid,
+            @Value("${app.cache.prefetch.top-n:500}") int topN,
+            @Value("${app.cache.prefetch.lead-time:20s}") Duration leadTime,
+            @Value("${app.cache.prefetch.interval:5s}") Duration interval,
+            @Value("${app.cache.prefetch.batch-size:50}") int batchSize,
+            @Value("${app.cache.prefetch.max-upstream-calls-per-minute:60}") int maxUpstreamCallsPerMinute,
+            MeterRegistry meterRegistry) {
+        return new WeatherCachePrefetcher(
+                cacheManager,
+                weatherDataProvider,
+                hotKeyTracker,
+                coordinateGrid,
+                new WeatherCachePrefetcher.Settings(topN, leadTime, interval, batchSize, maxUpstreamCallsPerMinute),
+                meterRegistry);
+    }
+}
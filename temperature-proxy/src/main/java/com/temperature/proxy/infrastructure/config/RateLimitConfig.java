@@ -1,13 +1,61 @@
 package com.temperature.proxy.infrastructure.config;
 
+import com.temperature.proxy.infrastructure.adapter.in.web.filter.ApiKeyTiers;
+import com.temperature.proxy.infrastructure.adapter.in.web.filter.RateLimitTier;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+@Slf4j
 @Configuration
 @ConfigurationProperties(prefix = "app.rate-limit")
 public class RateLimitConfig {
 
     private int requestsPerMinute = 100;
+    private String apiKeyHeader = ApiKeyTiers.DEFAULT_HEADER;
+    private Map<String, Tier> tiers = new LinkedHashMap<>();
+    private Path tiersFile;
+    private Duration tiersReloadInterval = Duration.ofSeconds(30);
+
+    @Bean
+    public ApiKeyTiers apiKeyTiers() {
+        var tiersByApiKey = tiersByApiKey(tiers);
+        log.info("Rate limit tiers: {} ({} API keys)", tiers.keySet(), tiersByApiKey.size());
+        return new ApiKeyTiers(apiKeyHeader, tiersByApiKey);
+    }
+
+    // Tiers from tiers-file replace the ones above and are re-read whenever the file changes (e.g. a ConfigMap)
+    @Bean
+    @ConditionalOnProperty(name = "app.rate-limit.tiers-file")
+    public RateLimitTiersReloader rateLimitTiersReloader(ApiKeyTiers apiKeyTiers) {
+        return new RateLimitTiersReloader(apiKeyTiers, tiersFile, tiersReloadInterval);
+    }
+
+    static Map<String, RateLimitTier> tiersByApiKey(Map<String, Tier> tiers) {
+        var tiersByApiKey = new HashMap<String, RateLimitTier>();
+        tiers.forEach((name, tier) -> {
+            var rateLimitTier = new RateLimitTier(name, tier.getRequestsPerMinute(), tier.getBurst());
+            for (var apiKey : tier.getApiKeys()) {
+                var previous = tiersByApiKey.putIfAbsent(apiKey, rateLimitTier);
+                if (previous != null) {
+                    log.warn(
+                            "API key listed in tiers '{}' and '{}', keeping '{}'",
+                            previous.name(),
+                            name,
+                            previous.name());
+                }
+            }
+        });
+        return tiersByApiKey;
+    }
 
     public int getRequestsPerMinute() {
         return requestsPerMinute;
@@ -16,4 +64,67 @@ public class RateLimitConfig {
     public void setRequestsPerMinute(int requestsPerMinute) {
         this.requestsPerMinute = requestsPerMinute;
     }
+
+    public String getApiKeyHeader() {
+        return apiKeyHeader;
+    }
+
+    public void setApiKeyHeader(String apiKeyHeader) {
+        this.apiKeyHeader = apiKeyHeader;
+    }
+
+    public Map<String, Tier> getTiers() {
+        return tiers;
+    }
+
+    public void setTiers(Map<String, Tier> tiers) {
+        this.tiers = tiers;
+    }
+
+    public Path getTiersFile() {
+        return tiersFile;
+    }
+
+    public void setTiersFile(Path tiersFile) {
+        this.tiersFile = tiersFile;
+    }
+
+    public Duration getTiersReloadInterval() {
+        return tiersReloadInterval;
+    }
+
+    public void setTiersReloadInterval(Duration tiersReloadInterval) {
+        this.tiersReloadInterval = tiersReloadInterval;
+    }
+
+    public static class Tier {
+
+        private int requestsPerMinute;
+        private int burst;
+        private List<String> apiKeys = List.of();
+
+        public int getRequestsPerMinute() {
+            return requestsPerMinute;
+        }
+
+        public void setRequestsPerMinute(int requestsPerMinute) {
+            this.requestsPerMinute = requestsPerMinute;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public List<String> getApiKeys() {
+            return apiKeys;
+        }
+
+        public void setApiKeys(List<String> apiKeys) {
+            this.apiKeys = apiKeys;
+        }
+    }
 }
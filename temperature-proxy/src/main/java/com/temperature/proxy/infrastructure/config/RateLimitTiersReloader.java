@@ -0,0 +1,92 @@
+package com.temperature.proxy.infrastructure.config;
+
+import com.temperature.proxy.infrastructure.adapter.in.web.filter.ApiKeyTiers;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.FileSystemResource;
+
+// Polls the tiers file and swaps the API key lookup when it changes. The file has the shape of app.rate-limit:
+//   tiers:
+//     gold:
+//       requests-per-minute: 1000
+//       burst: 50
+//       api-keys: [key-1, key-2]
+// A missing or invalid file keeps the tiers in use.
+@Slf4j
+public class RateLimitTiersReloader implements SmartLifecycle {
+
+    private static final Bindable<Map<String, RateLimitConfig.Tier>> TIERS =
+            Bindable.mapOf(String.class, RateLimitConfig.Tier.class);
+
+    private final ApiKeyTiers apiKeyTiers;
+    private final Path file;
+    private final Duration interval;
+
+    private ScheduledExecutorService scheduler;
+    private FileTime loadedModifiedTime;
+    private volatile boolean running;
+
+    public RateLimitTiersReloader(ApiKeyTiers apiKeyTiers, Path file, Duration interval) {
+        this.apiKeyTiers = apiKeyTiers;
+        this.file = file;
+        this.interval = interval;
+    }
+
+    @Override
+    public void start() {
+        reloadIfChanged();
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("rate-limit-tiers-reload").daemon().factory());
+        scheduler.scheduleWithFixedDelay(
+                this::reloadIfChanged, interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    synchronized boolean reloadIfChanged() {
+        try {
+            var modifiedTime = Files.getLastModifiedTime(file);
+            if (modifiedTime.equals(loadedModifiedTime)) {
+                return false;
+            }
+            var tiers = load();
+            apiKeyTiers.update(RateLimitConfig.tiersByApiKey(tiers));
+            loadedModifiedTime = modifiedTime;
+            log.info("Loaded rate limit tiers {} from {} ({} API keys)", tiers.keySet(), file, apiKeyTiers.size());
+            return true;
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Could not load rate limit tiers from {}, keeping the current tiers: {}", file, ex.getMessage());
+            return false;
+        }
+    }
+
+    private Map<String, RateLimitConfig.Tier> load() throws IOException {
+        var propertySources = new YamlPropertySourceLoader().load(file.toString(), new FileSystemResource(file));
+        return new Binder(ConfigurationPropertySources.from(propertySources))
+                .bind("tiers", TIERS)
+                .orElseGet(Map::of);
+    }
+}
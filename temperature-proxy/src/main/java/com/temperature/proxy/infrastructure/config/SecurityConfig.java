@@ -26,8 +26,10 @@ public class SecurityConfig implements WebMvcConfigurer {
     public CorsFilter corsFilter() {
         var config = new CorsConfiguration();
         config.setAllowedOrigins(List.of(allowedOrigins.split(",")));
-        config.setAllowedMethods(List.of("GET", "OPTIONS"));
+        config.setAllowedMethods(List.of("GET", "POST", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
+        config.setExposedHeaders(
+                List.of("RateLimit-Limit", "RateLimit-Remaining", "RateLimit-Reset", "Retry-After", "ETag"));
         config.setMaxAge(3600L);
 
         var source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,52 @@
+package com.temperature.proxy.infrastructure.config;
+
+import com.temperature.proxy.infrastructure.adapter.out.openmeteo.AdaptiveConcurrencyLimiter;
+import com.temperature.proxy.infrastructure.adapter.out.openmeteo.UpstreamCircuitBreaker;
+import com.temperature.proxy.infrastructure.adapter.out.openmeteo.UpstreamHealthWindow;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class UpstreamResilienceConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.open-meteo.circuit-breaker.enabled", havingValue = "true", matchIfMissing = true)
+    public UpstreamCircuitBreaker upstreamCircuitBreaker(
+            @Value("${app.open-meteo.circuit-breaker.failure-rate-threshold:50}") int failureRatePercent,
+            @Value("${app.open-meteo.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${app.open-meteo.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${app.open-meteo.circuit-breaker.open-duration:30s}") Duration openDuration,
+            @Value("${app.open-meteo.circuit-breaker.half-open-calls:3}") int halfOpenCalls,
+            MeterRegistry meterRegistry) {
+        return new UpstreamCircuitBreaker(
+                failureRatePercent / 100.0,
+                slidingWindowSize,
+                minimumCalls,
+                openDuration,
+                halfOpenCalls,
+                meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(
+            name = "app.open-meteo.concurrency-limit.enabled",
+            havingValue = "true",
+            matchIfMissing = true)
+    public AdaptiveConcurrencyLimiter upstreamConcurrencyLimiter(
+            @Value("${app.open-meteo.concurrency-limit.initial:20}") int initialLimit,
+            @Value("${app.open-meteo.concurrency-limit.max:100}") int maxLimit,
+            @Value("${app.open-meteo.concurrency-limit.latency-threshold:500ms}") Duration latencyThreshold,
+            MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, maxLimit, latencyThreshold, meterRegistry);
+    }
+
+    // Feeds the openMeteo health indicator from real upstream calls
+    @Bean
+    public UpstreamHealthWindow upstreamHealthWindow(@Value("${app.open-meteo.health.window:60s}") Duration window) {
+        return new UpstreamHealthWindow(window);
+    }
+}
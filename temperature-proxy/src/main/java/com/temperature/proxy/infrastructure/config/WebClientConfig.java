@@ -1,31 +1,119 @@
 package com.temperature.proxy.infrastructure.config;
 
+import com.temperature.proxy.infrastructure.adapter.out.openmeteo.OpenMeteoRequestBatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.net.http.HttpClient;
 import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.ClientHttpRequestFactories;
-import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+@Slf4j
 @Configuration
 public class WebClientConfig {
 
+    private static final String CLIENT_PROPERTY = "app.open-meteo.http.client";
+
     @Bean
     public RestClient openMeteoRestClient(
-            @Value("${app.open-meteo.base-url}") String baseUrl,
+            @Value("${app.open-meteo.base-url}") String baseUrl, ClientHttpRequestFactory openMeteoRequestFactory) {
+        return RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(openMeteoRequestFactory)
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = CLIENT_PROPERTY, havingValue = "apache", matchIfMissing = true)
+    public CloseableHttpClient openMeteoHttpClient(
             @Value("${app.open-meteo.timeout}") Duration timeout,
-            @Value("${app.open-meteo.connect-timeout}") Duration connectTimeout) {
-        var settings = ClientHttpRequestFactorySettings.DEFAULTS
-                .withConnectTimeout(connectTimeout)
-                .withReadTimeout(timeout);
+            @Value("${app.open-meteo.connect-timeout}") Duration connectTimeout,
+            @Value("${app.open-meteo.http.max-connections:50}") int maxConnections,
+            @Value("${app.open-meteo.http.keep-alive:30s}") Duration keepAlive,
+            @Value("${app.open-meteo.http.idle-eviction:30s}") Duration idleEviction,
+            @Value("${app.open-meteo.pool.lease-timeout:100ms}") Duration leaseTimeout,
+            MeterRegistry meterRegistry) {
+        var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                // every call goes to the same host, so the per-route limit is the pool size
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(timeout))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "open-meteo").bindTo(meterRegistry);
 
-        ClientHttpRequestFactory requestFactory = ClientHttpRequestFactories.get(settings);
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // waiting for a pooled connection comes out of the caller's budget, so it fails fast
+                        // rather than adding a second upstream timeout on top of the response timeout
+                        .setConnectionRequestTimeout(Timeout.of(leaseTimeout))
+                        .setResponseTimeout(Timeout.of(timeout))
+                        .setConnectionKeepAlive(TimeValue.of(keepAlive))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .build();
+    }
 
-        return RestClient.builder()
-                .baseUrl(baseUrl)
-                .requestFactory(requestFactory)
+    @Bean
+    @ConditionalOnProperty(name = CLIENT_PROPERTY, havingValue = "apache", matchIfMissing = true)
+    public ClientHttpRequestFactory openMeteoRequestFactory(CloseableHttpClient openMeteoHttpClient) {
+        log.info("Open-Meteo client: pooled Apache HttpClient (HTTP/1.1 keep-alive)");
+        return new HttpComponentsClientHttpRequestFactory(openMeteoHttpClient);
+    }
+
+    // HTTP/2 when the server offers it; unlike the apache pool there is no idle eviction, lease timeout or pool metrics
+    @Bean
+    @ConditionalOnProperty(name = CLIENT_PROPERTY, havingValue = "jdk")
+    public ClientHttpRequestFactory jdkOpenMeteoRequestFactory(
+            @Value("${app.open-meteo.timeout}") Duration timeout,
+            @Value("${app.open-meteo.connect-timeout}") Duration connectTimeout) {
+        log.info("Open-Meteo client: JDK HttpClient (HTTP/2 multiplexing when the server offers it)");
+        var httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
                 .build();
+        var requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(timeout);
+        return requestFactory;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.open-meteo.batch.enabled", havingValue = "true")
+    public OpenMeteoRequestBatcher openMeteoRequestBatcher(
+            @Value("${app.open-meteo.batch.window:10ms}") Duration window,
+            @Value("${app.open-meteo.batch.max-size:50}") int maxSize,
+            @Value("${app.open-meteo.timeout}") Duration timeout,
+            @Value("${app.open-meteo.connect-timeout}") Duration connectTimeout,
+            @Value("${app.open-meteo.pool.lease-timeout:100ms}") Duration leaseTimeout,
+            @Value("${app.open-meteo.http.max-connections:50}") int maxConnections,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            MeterRegistry meterRegistry) {
+        // a batch may have to lease and open a connection before it reads, so callers wait for all three budgets
+        return new OpenMeteoRequestBatcher(
+                window,
+                maxSize,
+                leaseTimeout.plus(connectTimeout).plus(timeout),
+                maxConnections,
+                virtualThreads,
+                meterRegistry);
     }
 }
@@ -0,0 +1,31 @@
+package com.temperature.proxy.infrastructure.health;
+
+import com.temperature.proxy.infrastructure.adapter.out.cache.WeatherCacheWarmer;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+// Part of the readiness group: the pod takes traffic once the warm-up has completed or given up at its deadline
+@Component("cacheWarmUp")
+@RequiredArgsConstructor
+public class CacheWarmUpHealthIndicator implements HealthIndicator {
+
+    private final WeatherCacheWarmer weatherCacheWarmer;
+
+    @Override
+    public Health health() {
+        var status = weatherCacheWarmer.status();
+        var health =
+                switch (status) {
+                    case PENDING, RUNNING -> Health.outOfService();
+                    case COMPLETED, DEADLINE_EXCEEDED -> Health.up();
+                };
+        return health.withDetail("status", status.name().toLowerCase(Locale.ROOT))
+                .withDetail("locations", weatherCacheWarmer.total())
+                .withDetail("loaded", weatherCacheWarmer.loaded())
+                .withDetail("failed", weatherCacheWarmer.failed())
+                .build();
+    }
+}
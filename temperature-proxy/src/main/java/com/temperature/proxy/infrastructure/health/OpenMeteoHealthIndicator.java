@@ -1,59 +1,87 @@
 package com.temperature.proxy.infrastructure.health;
 
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import com.temperature.proxy.infrastructure.adapter.out.openmeteo.UpstreamHealthWindow;
 import java.time.Duration;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClient;
 
+// Judges Open-Meteo from the outcomes of real calls in the health window instead of calling it on every probe.
+// Only when the pod has been idle for probe-after does a probe start a single background request, whose outcome
+// lands in the same window; health() itself never waits on the network.
 @Slf4j
 @Component("openMeteo")
-@RequiredArgsConstructor
-public class OpenMeteoHealthIndicator implements HealthIndicator {
+public class OpenMeteoHealthIndicator implements HealthIndicator, DisposableBean {
 
-    private static final double TEST_LAT = 52.52;
-    private static final double TEST_LON = 13.41;
+    private static final Coordinates PROBE_LOCATION = Coordinates.of(52.52, 13.41);
 
-    private final RestClient openMeteoRestClient;
+    private final UpstreamHealthWindow healthWindow;
+    private final WeatherDataProvider weatherDataProvider;
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long probeAfterNanos;
+    private final ExecutorService prober = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("open-meteo-health-probe").daemon().factory());
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
 
-    @Value("${app.open-meteo.timeout}")
-    private Duration timeout;
+    public OpenMeteoHealthIndicator(
+            UpstreamHealthWindow healthWindow,
+            WeatherDataProvider weatherDataProvider,
+            @Value("${app.open-meteo.health.failure-rate-threshold:50}") int failureRatePercent,
+            @Value("${app.open-meteo.health.minimum-calls:3}") int minimumCalls,
+            @Value("${app.open-meteo.health.probe-after:10s}") Duration probeAfter) {
+        this.healthWindow = healthWindow;
+        this.weatherDataProvider = weatherDataProvider;
+        this.failureRateThreshold = failureRatePercent / 100.0;
+        this.minimumCalls = minimumCalls;
+        this.probeAfterNanos = probeAfter.toNanos();
+    }
 
     @Override
     public Health health() {
-        try {
-            var response = openMeteoRestClient
-                    .get()
-                    .uri(uriBuilder -> uriBuilder
-                            .queryParam("latitude", TEST_LAT)
-                            .queryParam("longitude", TEST_LON)
-                            .queryParam("current", "temperature_2m")
-                            .build())
-                    .retrieve()
-                    .toBodilessEntity();
-
-            if (response.getStatusCode().is2xxSuccessful()) {
-                return Health.up()
-                        .withDetail("service", "Open-Meteo API")
-                        .withDetail("status", "reachable")
-                        .build();
-            } else {
-                return Health.down()
-                        .withDetail("service", "Open-Meteo API")
-                        .withDetail("status", "error")
-                        .withDetail("statusCode", response.getStatusCode().value())
-                        .build();
-            }
-        } catch (Exception ex) {
-            log.warn("Health check failed for Open-Meteo API: {}", ex.getMessage());
-            return Health.down()
-                    .withDetail("service", "Open-Meteo API")
-                    .withDetail("status", "unreachable")
-                    .withDetail("error", ex.getMessage())
-                    .build();
+        var snapshot = healthWindow.snapshot();
+        if (snapshot.idleNanos() >= probeAfterNanos) {
+            probeInBackground();
+        }
+        // too few calls to judge: one failed request must not take every pod out of the load balancer at once
+        var unhealthy = snapshot.calls() >= minimumCalls && snapshot.failureRate() >= failureRateThreshold;
+        return (unhealthy ? Health.down() : Health.up())
+                .withDetail("service", "Open-Meteo API")
+                .withDetail("calls", snapshot.calls())
+                .withDetail("failures", snapshot.failures())
+                .withDetail("failureRate", Math.round(snapshot.failureRate() * 100) / 100.0)
+                .withDetail("meanLatencyMs", TimeUnit.NANOSECONDS.toMillis(snapshot.meanLatencyNanos()))
+                .withDetail("maxLatencyMs", TimeUnit.NANOSECONDS.toMillis(snapshot.maxLatencyNanos()))
+                .build();
+    }
+
+    private void probeInBackground() {
+        if (!probeInFlight.compareAndSet(false, true)) {
+            return;
         }
+        prober.execute(() -> {
+            try {
+                // through the adapter, so the probe obeys the configured timeouts and circuit breaker
+                weatherDataProvider.fetchWeatherData(PROBE_LOCATION);
+            } catch (RuntimeException ex) {
+                log.warn("Health probe of Open-Meteo API failed: {}", ex.getMessage());
+            } finally {
+                probeInFlight.set(false);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        prober.shutdownNow();
     }
 }
@@ -0,0 +1,50 @@
+package com.temperature.proxy.infrastructure.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Fixed-size frequency estimator: estimates never undercount and overcount by at most ~e/width of all increments
+final class CountMinSketch {
+
+    private static final long[] SEEDS = {
+        0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final AtomicLongArray counters;
+    private final int width;
+    private final int mask;
+
+    CountMinSketch(int width) {
+        if (width <= 0 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Sketch width must be a power of two, got: " + width);
+        }
+        this.counters = new AtomicLongArray(SEEDS.length * width);
+        this.width = width;
+        this.mask = width - 1;
+    }
+
+    void increment(long key) {
+        for (var row = 0; row < SEEDS.length; row++) {
+            counters.getAndIncrement(row * width + index(key, row));
+        }
+    }
+
+    long estimate(long key) {
+        var estimate = Long.MAX_VALUE;
+        for (var row = 0; row < SEEDS.length; row++) {
+            estimate = Math.min(estimate, counters.get(row * width + index(key, row)));
+        }
+        return estimate;
+    }
+
+    private int index(long key, int row) {
+        return (int) mix(key ^ SEEDS[row]) & mask;
+    }
+
+    // MurmurHash3 finalizer
+    static long mix(long value) {
+        var hash = value;
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,154 @@
+package com.temperature.proxy.infrastructure.metrics;
+
+import com.temperature.proxy.domain.port.out.WeatherLookupRecorder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+// Heavy-hitter tracking in constant memory: Count-Min Sketches count lookups and misses per cache key, and a small
+// candidate table keeps the keys with the highest estimates. Each key may sit in one of two slots and only replaces
+// an occupant with a lower estimate, so every update is a few atomic operations and never takes a lock.
+// Counts cover the current and the previous window, so rates stay meaningful right after a rotation.
+public class HotKeyTracker implements WeatherLookupRecorder {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final long[] SLOT_SEEDS = {0x2545F4914F6CDD1DL, 0x94D049BB133111EBL};
+
+    private final int sketchWidth;
+    private final long windowNanos;
+    private final LongSupplier nanoTime;
+    private final AtomicLongArray candidates;
+    private final int candidateMask;
+    private final AtomicReference<Window> current;
+    private volatile Window previous;
+
+    public HotKeyTracker(int topK, int sketchWidth, Duration window) {
+        this(topK, sketchWidth, window, System::nanoTime);
+    }
+
+    HotKeyTracker(int topK, int sketchWidth, Duration window, LongSupplier nanoTime) {
+        this.sketchWidth = sketchWidth;
+        this.windowNanos = window.toNanos();
+        this.nanoTime = nanoTime;
+        // several slots per reported key keeps collisions between two hot keys rare
+        var capacity = Integer.highestOneBit(Math.max(topK, 1) * 8 - 1) << 1;
+        this.candidates = new AtomicLongArray(capacity);
+        for (var i = 0; i < capacity; i++) {
+            candidates.set(i, EMPTY);
+        }
+        this.candidateMask = capacity - 1;
+        this.current = new AtomicReference<>(new Window(sketchWidth, nanoTime.getAsLong()));
+    }
+
+    @Override
+    public void recordLookup(long cacheKey, boolean hit) {
+        var window = currentWindow();
+        window.lookups.increment(cacheKey);
+        if (!hit) {
+            window.misses.increment(cacheKey);
+        }
+        offer(cacheKey, window, previous);
+    }
+
+    public List<HotKey> topKeys(int limit) {
+        var window = currentWindow();
+        var previousWindow = previous;
+        var since = previousWindow != null ? previousWindow.startedAt : window.startedAt;
+        var elapsedSeconds = Math.max(nanoTime.getAsLong() - since, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+
+        var seen = new HashSet<Long>();
+        var hotKeys = new ArrayList<HotKey>();
+        for (var i = 0; i < candidates.length(); i++) {
+            var key = candidates.get(i);
+            if (key == EMPTY || !seen.add(key)) {
+                continue;
+            }
+            var lookups = lookups(key, window, previousWindow);
+            if (lookups == 0) {
+                continue;
+            }
+            var misses = Math.min(misses(key, window, previousWindow), lookups);
+            hotKeys.add(new HotKey(key, lookups, lookups / elapsedSeconds, 1.0 - (double) misses / lookups));
+        }
+        hotKeys.sort(Comparator.comparingLong(HotKey::lookups).reversed());
+        return hotKeys.size() > limit ? List.copyOf(hotKeys.subList(0, limit)) : List.copyOf(hotKeys);
+    }
+
+    // Rotates lazily on the recording path; a window more than one period old is dropped instead of becoming previous
+    private Window currentWindow() {
+        var window = current.get();
+        var now = nanoTime.getAsLong();
+        if (now - window.startedAt < windowNanos) {
+            return window;
+        }
+        var next = new Window(sketchWidth, now);
+        if (current.compareAndSet(window, next)) {
+            previous = now - window.startedAt < 2 * windowNanos ? window : null;
+            return next;
+        }
+        return current.get();
+    }
+
+    private void offer(long key, Window window, Window previousWindow) {
+        var first = slot(key, 0);
+        var second = slot(key, 1);
+        var firstKey = candidates.get(first);
+        var secondKey = candidates.get(second);
+        if (firstKey == key || secondKey == key) {
+            return;
+        }
+        if (firstKey == EMPTY) {
+            candidates.compareAndSet(first, EMPTY, key);
+            return;
+        }
+        if (secondKey == EMPTY) {
+            candidates.compareAndSet(second, EMPTY, key);
+            return;
+        }
+        var estimate = lookups(key, window, previousWindow);
+        var firstEstimate = lookups(firstKey, window, previousWindow);
+        var secondEstimate = lookups(secondKey, window, previousWindow);
+        if (firstEstimate <= secondEstimate) {
+            if (estimate > firstEstimate) {
+                candidates.compareAndSet(first, firstKey, key);
+            }
+        } else if (estimate > secondEstimate) {
+            candidates.compareAndSet(second, secondKey, key);
+        }
+    }
+
+    private int slot(long key, int choice) {
+        return (int) CountMinSketch.mix(key ^ SLOT_SEEDS[choice]) & candidateMask;
+    }
+
+    private static long lookups(long key, Window window, Window previousWindow) {
+        var lookups = window.lookups.estimate(key);
+        return previousWindow == null ? lookups : lookups + previousWindow.lookups.estimate(key);
+    }
+
+    private static long misses(long key, Window window, Window previousWindow) {
+        var misses = window.misses.estimate(key);
+        return previousWindow == null ? misses : misses + previousWindow.misses.estimate(key);
+    }
+
+    public record HotKey(long cacheKey, long lookups, double requestsPerSecond, double hitRatio) {}
+
+    private static final class Window {
+
+        private final CountMinSketch lookups;
+        private final CountMinSketch misses;
+        private final long startedAt;
+
+        private Window(int sketchWidth, long startedAt) {
+            this.lookups = new CountMinSketch(sketchWidth);
+            this.misses = new CountMinSketch(sketchWidth);
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.temperature.proxy.infrastructure.metrics;
+
+import com.temperature.proxy.domain.model.CoordinateGrid;
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+// GET /actuator/hotkeys[?limit=N] - the most requested cache cells over the last one to two tracking windows
+@Endpoint(id = "hotkeys")
+public class HotKeysEndpoint {
+
+    private final HotKeyTracker hotKeyTracker;
+    private final CoordinateGrid coordinateGrid;
+    private final int defaultLimit;
+
+    public HotKeysEndpoint(HotKeyTracker hotKeyTracker, CoordinateGrid coordinateGrid, int defaultLimit) {
+        this.hotKeyTracker = hotKeyTracker;
+        this.coordinateGrid = coordinateGrid;
+        this.defaultLimit = defaultLimit;
+    }
+
+    @ReadOperation
+    public List<HotKeyDescriptor> hotKeys(@Nullable Integer limit) {
+        var effectiveLimit = limit == null || limit <= 0 ? defaultLimit : Math.min(limit, defaultLimit);
+        return hotKeyTracker.topKeys(effectiveLimit).stream()
+                .map(hotKey -> new HotKeyDescriptor(
+                        coordinateGrid.format(hotKey.cacheKey()),
+                        coordinateGrid.cellLatitude(hotKey.cacheKey()),
+                        coordinateGrid.cellLongitude(hotKey.cacheKey()),
+                        hotKey.lookups(),
+                        hotKey.requestsPerSecond(),
+                        hotKey.hitRatio()))
+                .toList();
+    }
+
+    public record HotKeyDescriptor(
+            String key, double lat, double lon, long lookups, double requestsPerSecond, double hitRatio) {}
+}
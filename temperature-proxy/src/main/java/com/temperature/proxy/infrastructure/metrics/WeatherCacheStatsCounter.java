@@ -0,0 +1,83 @@
+package com.temperature.proxy.infrastructure.metrics;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+
+// Records weather cache hits, misses and loads on Caffeine's own stats path, so every lookup is counted whether it
+// comes from Spring's Cache#get, a batch getIfPresent or a refresh-ahead reload. Caffeine's snapshot (and with it the
+// cache.* meters of CaffeineCacheMetrics) keeps working through the delegate.
+public class WeatherCacheStatsCounter implements StatsCounter {
+
+    private static final String HITS_NAME = "weather.cache.hits";
+    private static final String MISSES_NAME = "weather.cache.misses";
+    private static final String LOAD_TIMER_NAME = "weather.cache.load";
+
+    private final StatsCounter delegate = new ConcurrentStatsCounter();
+    private final MeterRegistry registry;
+    private final String cacheName;
+    private final Counter hits;
+    private final Counter misses;
+
+    public WeatherCacheStatsCounter(MeterRegistry registry, String cacheName) {
+        this.registry = registry;
+        this.cacheName = cacheName;
+        this.hits = Counter.builder(HITS_NAME)
+                .description("Weather cache lookups answered from the cache")
+                .tag("cache", cacheName)
+                .register(registry);
+        this.misses = Counter.builder(MISSES_NAME)
+                .description("Weather cache lookups not found in the cache")
+                .tag("cache", cacheName)
+                .register(registry);
+    }
+
+    @Override
+    public void recordHits(int count) {
+        delegate.recordHits(count);
+        hits.increment(count);
+    }
+
+    @Override
+    public void recordMisses(int count) {
+        delegate.recordMisses(count);
+        misses.increment(count);
+    }
+
+    @Override
+    public void recordLoadSuccess(long loadTime) {
+        delegate.recordLoadSuccess(loadTime);
+        loadTimer("success").record(loadTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordLoadFailure(long loadTime) {
+        delegate.recordLoadFailure(loadTime);
+        loadTimer("failure").record(loadTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordEviction(int weight, RemovalCause cause) {
+        delegate.recordEviction(weight, cause);
+    }
+
+    @Override
+    public CacheStats snapshot() {
+        return delegate.snapshot();
+    }
+
+    // Looked up per load rather than up front, so caches that never load (weather-stale) publish no empty histograms;
+    // a load is an upstream call, so the registry lookup does not matter
+    private Timer loadTimer(String outcome) {
+        return Timer.builder(LOAD_TIMER_NAME)
+                .description("Weather cache loads and refreshes, including the upstream call")
+                .tag("cache", cacheName)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -1,22 +1,31 @@
 package com.temperature.proxy.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.temperature.proxy.domain.exception.WeatherProviderException;
 import com.temperature.proxy.domain.model.Coordinates;
 import com.temperature.proxy.domain.model.CurrentWeather;
 import com.temperature.proxy.domain.model.Temperature;
 import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WeatherResult;
 import com.temperature.proxy.domain.model.WindSpeed;
 import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import com.temperature.proxy.domain.port.out.WeatherLookupRecorder;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("WeatherService")
@@ -25,11 +34,14 @@ class WeatherServiceTest {
     @Mock
     private WeatherDataProvider weatherDataProvider;
 
+    private ConcurrentMapCacheManager cacheManager;
     private WeatherService weatherService;
 
     @BeforeEach
     void setUp() {
-        weatherService = new WeatherService(weatherDataProvider);
+        cacheManager = new ConcurrentMapCacheManager(
+                WeatherService.WEATHER_CACHE_NAME, WeatherService.STALE_WEATHER_CACHE_NAME);
+        weatherService = new WeatherService(weatherDataProvider, cacheManager, Optional.empty());
     }
 
     @Test
@@ -61,6 +73,214 @@ class WeatherServiceTest {
         then(weatherDataProvider).should().fetchWeatherData(coordinates);
     }
 
+    @Nested
+    @DisplayName("Stale-if-error")
+    class StaleIfError {
+
+        @Test
+        void should_serve_stale_data_when_provider_fails() {
+            // given
+            var coordinates = Coordinates.of(52.52, 13.41);
+            var staleData = createWeatherData(coordinates);
+            cacheManager.getCache(WeatherService.STALE_WEATHER_CACHE_NAME).put(coordinates.cacheKey(), staleData);
+            given(weatherDataProvider.fetchWeatherData(coordinates))
+                    .willThrow(WeatherProviderException.timeout("Weather service did not respond in time", null));
+
+            // when
+            var result = weatherService.getCurrentWeather(coordinates);
+
+            // then
+            assertThat(result.stale()).isTrue();
+            assertThat(result.currentWeather()).isEqualTo(staleData.currentWeather());
+            assertThat(result.retrievedAt()).isEqualTo(staleData.retrievedAt());
+        }
+
+        @Test
+        void should_not_cache_stale_fallback() {
+            // given
+            var coordinates = Coordinates.of(52.52, 13.41);
+            cacheManager
+                    .getCache(WeatherService.STALE_WEATHER_CACHE_NAME)
+                    .put(coordinates.cacheKey(), createWeatherData(coordinates));
+            given(weatherDataProvider.fetchWeatherData(coordinates))
+                    .willThrow(WeatherProviderException.unavailable("Weather service is unavailable", null));
+
+            // when
+            weatherService.getCurrentWeather(coordinates);
+
+            // then
+            assertThat(cacheManager.getCache(WeatherService.WEATHER_CACHE_NAME).get(coordinates.cacheKey()))
+                    .isNull();
+        }
+
+        @Test
+        void should_rethrow_provider_failure_without_stale_data() {
+            // given
+            var coordinates = Coordinates.of(52.52, 13.41);
+            var failure = WeatherProviderException.timeout("Weather service did not respond in time", null);
+            given(weatherDataProvider.fetchWeatherData(coordinates)).willThrow(failure);
+
+            // when/then
+            assertThatThrownBy(() -> weatherService.getCurrentWeather(coordinates))
+                    .isSameAs(failure);
+        }
+
+        @Test
+        void should_serve_stale_data_per_batch_item() {
+            // given
+            var berlin = Coordinates.of(52.52, 13.41);
+            var paris = Coordinates.of(48.85, 2.35);
+            var staleBerlin = createWeatherData(berlin);
+            cacheManager.getCache(WeatherService.STALE_WEATHER_CACHE_NAME).put(berlin.cacheKey(), staleBerlin);
+            var failure = WeatherProviderException.timeout("Weather service did not respond in time", null);
+            given(weatherDataProvider.fetchWeatherData(List.of(berlin, paris))).willThrow(failure);
+
+            // when
+            var results = weatherService.getCurrentWeather(List.of(berlin, paris));
+
+            // then
+            assertThat(results.get(0).isSuccess()).isTrue();
+            assertThat(results.get(0).weatherData().stale()).isTrue();
+            assertThat(results.get(1).error()).isSameAs(failure);
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch lookup")
+    class BatchLookup {
+
+        @Test
+        void should_answer_cache_hits_without_calling_provider() {
+            // given
+            var berlin = Coordinates.of(52.52, 13.41);
+            var cached = createWeatherData(berlin);
+            cacheManager.getCache(WeatherService.WEATHER_CACHE_NAME).put(berlin.cacheKey(), cached);
+
+            // when
+            var results = weatherService.getCurrentWeather(List.of(berlin));
+
+            // then
+            assertThat(results).singleElement().satisfies(result -> {
+                assertThat(result.isSuccess()).isTrue();
+                assertThat(result.weatherData()).isSameAs(cached);
+            });
+            then(weatherDataProvider).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void should_fetch_deduplicated_misses_in_one_call_and_keep_request_order() {
+            // given
+            var berlin = Coordinates.of(52.52, 13.41);
+            var berlinNearby = Coordinates.of(52.521, 13.409);
+            var paris = Coordinates.of(48.85, 2.35);
+            var berlinData = createWeatherData(berlin);
+            var parisData = createWeatherData(paris);
+            given(weatherDataProvider.fetchWeatherData(List.of(berlin, paris)))
+                    .willReturn(List.of(berlinData, parisData));
+
+            // when
+            var results = weatherService.getCurrentWeather(List.of(berlin, paris, berlinNearby));
+
+            // then
+            assertThat(results)
+                    .extracting(WeatherResult::weatherData)
+                    .containsExactly(berlinData, parisData, berlinData);
+            assertThat(results.get(2).coordinates()).isEqualTo(berlinNearby);
+            then(weatherDataProvider).should().fetchWeatherData(List.of(berlin, paris));
+        }
+
+        @Test
+        void should_cache_fetched_misses() {
+            // given
+            var berlin = Coordinates.of(52.52, 13.41);
+            var berlinData = createWeatherData(berlin);
+            given(weatherDataProvider.fetchWeatherData(List.of(berlin))).willReturn(List.of(berlinData));
+
+            // when
+            weatherService.getCurrentWeather(List.of(berlin));
+
+            // then
+            assertThat(cacheManager
+                            .getCache(WeatherService.WEATHER_CACHE_NAME)
+                            .get(berlin.cacheKey(), WeatherData.class))
+                    .isSameAs(berlinData);
+        }
+
+        @Test
+        void should_report_upstream_failure_per_item_and_keep_cache_hits() {
+            // given
+            var berlin = Coordinates.of(52.52, 13.41);
+            var paris = Coordinates.of(48.85, 2.35);
+            var berlinData = createWeatherData(berlin);
+            cacheManager.getCache(WeatherService.WEATHER_CACHE_NAME).put(berlin.cacheKey(), berlinData);
+            var failure = WeatherProviderException.timeout("Weather service did not respond in time", null);
+            given(weatherDataProvider.fetchWeatherData(List.of(paris))).willThrow(failure);
+
+            // when
+            var results = weatherService.getCurrentWeather(List.of(berlin, paris));
+
+            // then
+            assertThat(results.get(0).weatherData()).isSameAs(berlinData);
+            assertThat(results.get(1).isSuccess()).isFalse();
+            assertThat(results.get(1).error()).isSameAs(failure);
+        }
+    }
+
+    @Nested
+    @DisplayName("Lookup recording")
+    class LookupRecording {
+
+        private final List<String> lookups = new ArrayList<>();
+        private final WeatherLookupRecorder recorder =
+                (cacheKey, hit) -> lookups.add(cacheKey + (hit ? ":hit" : ":miss"));
+
+        @Test
+        void should_record_miss_then_hit_for_single_lookups() {
+            // given
+            var service = new WeatherService(weatherDataProvider, cacheManager, Optional.of(recorder));
+            var berlin = Coordinates.of(52.52, 13.41);
+            given(weatherDataProvider.fetchWeatherData(berlin)).willReturn(createWeatherData(berlin));
+
+            // when
+            service.getCurrentWeather(berlin);
+            service.getCurrentWeather(berlin);
+
+            // then
+            assertThat(lookups).containsExactly(berlin.cacheKey() + ":miss", berlin.cacheKey() + ":hit");
+        }
+
+        @Test
+        void should_record_failed_load_as_miss() {
+            // given
+            var service = new WeatherService(weatherDataProvider, cacheManager, Optional.of(recorder));
+            var berlin = Coordinates.of(52.52, 13.41);
+            given(weatherDataProvider.fetchWeatherData(berlin))
+                    .willThrow(WeatherProviderException.timeout("Weather service did not respond in time", null));
+
+            // when
+            assertThatThrownBy(() -> service.getCurrentWeather(berlin)).isInstanceOf(WeatherProviderException.class);
+
+            // then
+            assertThat(lookups).containsExactly(berlin.cacheKey() + ":miss");
+        }
+
+        @Test
+        void should_record_each_distinct_batch_location() {
+            // given
+            var service = new WeatherService(weatherDataProvider, cacheManager, Optional.of(recorder));
+            var berlin = Coordinates.of(52.52, 13.41);
+            var paris = Coordinates.of(48.85, 2.35);
+            cacheManager.getCache(WeatherService.WEATHER_CACHE_NAME).put(berlin.cacheKey(), createWeatherData(berlin));
+            given(weatherDataProvider.fetchWeatherData(List.of(paris))).willReturn(List.of(createWeatherData(paris)));
+
+            // when
+            service.getCurrentWeather(List.of(berlin, paris, berlin));
+
+            // then
+            assertThat(lookups).containsExactly(berlin.cacheKey() + ":hit", paris.cacheKey() + ":miss");
+        }
+    }
+
     private WeatherData createWeatherData(Coordinates coordinates) {
         var temperature = Temperature.ofCelsius(15.5);
         var windSpeed = WindSpeed.ofKmh(10.2);
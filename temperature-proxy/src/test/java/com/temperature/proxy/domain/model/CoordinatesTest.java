@@ -3,6 +3,9 @@ package com.temperature.proxy.domain.model;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -129,6 +132,55 @@ class CoordinatesTest {
             assertThat(cacheKey).isEqualTo(expectedKey);
         }
 
+        @Test
+        void should_restore_coordinates_from_cache_key() {
+            // given
+            var coordinates = Coordinates.of(-52.524, 13.415);
+
+            // when
+            var restored = Coordinates.fromCacheKey(coordinates.cacheKey());
+
+            // then
+            assertThat(restored).isEqualTo(coordinates);
+            assertThat(restored.latitude()).isEqualTo(-52.52);
+            assertThat(restored.longitude()).isEqualTo(13.42);
+        }
+
+        @ParameterizedTest(name = "lat={0}, lon={1}")
+        @CsvSource({"0.0, 0.0", "90.0, 180.0", "-90.0, -180.0", "-0.004, 0.004", "52.525, -13.415"})
+        void should_round_trip_packed_cache_key(double lat, double lon) {
+            // given
+            var coordinates = Coordinates.of(lat, lon);
+
+            // when
+            var restored = Coordinates.fromCacheKey(coordinates.cacheKey());
+
+            // then
+            assertThat(restored.cacheKey()).isEqualTo(coordinates.cacheKey());
+            assertThat(restored.latitude()).isEqualTo(coordinates.normalizedLatitude());
+            assertThat(restored.longitude()).isEqualTo(coordinates.normalizedLongitude());
+        }
+
+        @Test
+        void should_round_like_big_decimal_half_up() {
+            // given
+            var random = new Random(42);
+
+            for (var i = 0; i < 100_000; i++) {
+                var value = BigDecimal.valueOf(random.nextInt(18_000_001) - 9_000_000L, 5)
+                        .doubleValue();
+
+                // when
+                var normalized = Coordinates.of(value, 0.0).normalizedLatitude();
+
+                // then
+                var expected = BigDecimal.valueOf(value)
+                        .setScale(2, RoundingMode.HALF_UP)
+                        .doubleValue();
+                assertThat(normalized).as("normalized %s", value).isEqualTo(expected);
+            }
+        }
+
         @Test
         void should_return_normalized_latitude() {
             // given
@@ -178,6 +230,16 @@ class CoordinatesTest {
             assertThat(coord1.hashCode()).isEqualTo(coord2.hashCode());
         }
 
+        @Test
+        void should_not_be_equal_when_grids_differ() {
+            // given
+            var coord1 = Coordinates.of(52.52, 13.41, new DecimalGrid(2));
+            var coord2 = Coordinates.of(52.52, 13.41, new KilometreGrid(1.0));
+
+            // when/then
+            assertThat(coord1).isNotEqualTo(coord2);
+        }
+
         @Test
         void should_not_be_equal_when_normalized_values_differ() {
             // given
@@ -0,0 +1,92 @@
+package com.temperature.proxy.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("DecimalGrid")
+class DecimalGridTest {
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @ParameterizedTest(name = "precision={0}")
+        @ValueSource(ints = {-1, 7, 10})
+        void should_throw_exception_when_precision_out_of_range(int precision) {
+            // when/then
+            assertThatThrownBy(() -> new DecimalGrid(precision))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("precision");
+        }
+    }
+
+    @Nested
+    @DisplayName("Quantization")
+    class Quantization {
+
+        @ParameterizedTest(name = "precision={0}: {1},{2} -> {3}")
+        @CsvSource({
+            "0, 52.5, 13.4, 53:13",
+            "1, 52.54, -13.46, 52.5:-13.5",
+            "2, 52.525, 13.415, 52.53:13.42",
+            "3, 52.5234, 13.4155, 52.523:13.416"
+        })
+        void should_snap_to_configured_decimal_places(int precision, double lat, double lon, String expected) {
+            // given
+            var grid = new DecimalGrid(precision);
+
+            // when
+            var cell = grid.cellOf(lat, lon);
+
+            // then
+            assertThat(grid.format(cell)).isEqualTo(expected);
+        }
+
+        @Test
+        void should_merge_nearby_points_into_one_cell_on_coarser_grid() {
+            // given
+            var grid = new DecimalGrid(1);
+
+            // when
+            var first = Coordinates.of(52.521, 13.411, grid);
+            var second = Coordinates.of(52.548, 13.387, grid);
+
+            // then
+            assertThat(first).isEqualTo(second);
+            assertThat(first.normalizedLatitude()).isEqualTo(52.5);
+            assertThat(first.normalizedLongitude()).isEqualTo(13.4);
+        }
+
+        @ParameterizedTest(name = "precision={0}")
+        @ValueSource(ints = {0, 1, 2, 3, 4, 5, 6})
+        void should_round_like_big_decimal_half_up(int precision) {
+            // given
+            var grid = new DecimalGrid(precision);
+            var random = new Random(precision);
+
+            for (var i = 0; i < 20_000; i++) {
+                var value = BigDecimal.valueOf(random.nextLong(1_800_000_001L) - 900_000_000L, 7)
+                        .doubleValue();
+
+                // when
+                var normalized = grid.cellLatitude(grid.cellOf(value, 0.0));
+
+                // then
+                var expected = BigDecimal.valueOf(value)
+                        .setScale(precision, RoundingMode.HALF_UP)
+                        .doubleValue();
+                assertThat(normalized).as("normalized %s", value).isEqualTo(expected);
+            }
+        }
+    }
+}
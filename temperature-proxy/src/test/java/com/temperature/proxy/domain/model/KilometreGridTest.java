@@ -0,0 +1,118 @@
+package com.temperature.proxy.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("KilometreGrid")
+class KilometreGridTest {
+
+    private static final double KM_PER_DEGREE = 111.32;
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @ParameterizedTest(name = "cellSizeKm={0}")
+        @ValueSource(doubles = {0.0, -1.0, 0.05, 1000.1, Double.NaN})
+        void should_throw_exception_when_cell_size_out_of_range(double cellSizeKm) {
+            // when/then
+            assertThatThrownBy(() -> new KilometreGrid(cellSizeKm))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Cell size");
+        }
+    }
+
+    @Nested
+    @DisplayName("Cells")
+    class Cells {
+
+        @Test
+        void should_merge_gps_jitter_within_a_cell() {
+            // given
+            var grid = new KilometreGrid(5.0);
+
+            // when
+            var first = Coordinates.of(52.5200, 13.4050, grid);
+            var second = Coordinates.of(52.5203, 13.4047, grid);
+
+            // then
+            assertThat(first).isEqualTo(second);
+        }
+
+        @Test
+        void should_place_point_inside_its_cell() {
+            // given
+            var grid = new KilometreGrid(2.0);
+            var coordinates = Coordinates.of(52.52, 13.41, grid);
+
+            // then
+            assertThat(coordinates.normalizedLatitude()).isCloseTo(52.52, within(2.0 / KM_PER_DEGREE));
+            var columnWidthDegrees = 2.0 / (KM_PER_DEGREE * Math.cos(Math.toRadians(52.52)));
+            assertThat(coordinates.normalizedLongitude()).isCloseTo(13.41, within(columnWidthDegrees));
+        }
+
+        @ParameterizedTest(name = "lat={0}")
+        @CsvSource({"0.0", "45.0", "60.0", "80.0"})
+        void should_keep_cell_width_in_kilometres_as_latitude_grows(double latitude) {
+            // given
+            var grid = new KilometreGrid(10.0);
+            var west = grid.cellOf(latitude, 10.0);
+
+            // when - walk east until we leave the cell
+            var longitude = 10.0;
+            while (grid.cellOf(latitude, longitude) == west) {
+                longitude += 0.001;
+            }
+            var firstBoundary = longitude;
+            var next = grid.cellOf(latitude, longitude);
+            while (grid.cellOf(latitude, longitude) == next) {
+                longitude += 0.001;
+            }
+            var widthKm = (longitude - firstBoundary) * KM_PER_DEGREE * Math.cos(Math.toRadians(latitude));
+
+            // then
+            assertThat(widthKm).isBetween(9.0, 11.0);
+        }
+
+        @Test
+        void should_use_single_cell_at_the_pole() {
+            // given
+            var grid = new KilometreGrid(5.0);
+
+            // when/then
+            assertThat(grid.cellOf(90.0, -179.0)).isEqualTo(grid.cellOf(90.0, 179.0));
+        }
+
+        @Test
+        void should_wrap_antimeridian() {
+            // given
+            var grid = new KilometreGrid(5.0);
+
+            // when/then
+            assertThat(grid.cellOf(0.0, 180.0)).isEqualTo(grid.cellOf(0.0, -180.0));
+        }
+
+        @Test
+        void should_restore_cell_centre_from_cache_key() {
+            // given
+            var grid = new KilometreGrid(3.0);
+            var coordinates = Coordinates.of(-33.87, 151.21, grid);
+
+            // when
+            var restored = Coordinates.fromCacheKey(coordinates.cacheKey(), grid);
+
+            // then
+            assertThat(restored).isEqualTo(coordinates);
+            assertThat(restored.latitude()).isEqualTo(coordinates.normalizedLatitude());
+            assertThat(restored.longitude()).isEqualTo(coordinates.normalizedLongitude());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.temperature.proxy.domain.model;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import org.junit.jupiter.api.DisplayName;
@@ -103,6 +104,46 @@ class WeatherDataTest {
         }
     }
 
+    @Nested
+    @DisplayName("Staleness")
+    class Staleness {
+
+        @Test
+        void should_be_fresh_by_default() {
+            var weatherData = WeatherData.of(Coordinates.of(52.52, 13.41), createCurrentWeather());
+
+            assertThat(weatherData.stale()).isFalse();
+        }
+
+        @Test
+        void should_keep_reading_when_marked_stale() {
+            var weatherData = WeatherData.of(
+                    Coordinates.of(52.52, 13.41), createCurrentWeather(), Instant.parse("2026-01-11T10:00:00Z"));
+
+            var stale = weatherData.asStale();
+
+            assertThat(stale.stale()).isTrue();
+            assertThat(stale.currentWeather()).isEqualTo(weatherData.currentWeather());
+            assertThat(stale.retrievedAt()).isEqualTo(weatherData.retrievedAt());
+        }
+
+        @Test
+        void should_compute_age_since_retrieval() {
+            var weatherData = WeatherData.of(
+                    Coordinates.of(52.52, 13.41), createCurrentWeather(), Instant.parse("2026-01-11T10:00:00Z"));
+
+            assertThat(weatherData.ageAt(Instant.parse("2026-01-11T10:05:00Z"))).isEqualTo(Duration.ofMinutes(5));
+        }
+
+        @Test
+        void should_not_report_negative_age_for_future_timestamp() {
+            var weatherData = WeatherData.of(
+                    Coordinates.of(52.52, 13.41), createCurrentWeather(), Instant.parse("2026-01-11T10:05:00Z"));
+
+            assertThat(weatherData.ageAt(Instant.parse("2026-01-11T10:00:00Z"))).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("Validation")
     class Validation {
@@ -0,0 +1,78 @@
+package com.temperature.proxy.infrastructure.adapter.in.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.CurrentWeather;
+import com.temperature.proxy.domain.model.Temperature;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WindSpeed;
+import com.temperature.proxy.infrastructure.config.JacksonConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EncodedResponseCache")
+class EncodedResponseCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EncodedResponseCache cache =
+            new EncodedResponseCache(new JacksonConfig().objectMapper(), 100, meterRegistry);
+
+    @Test
+    void should_encode_each_cached_reading_once() {
+        // given
+        var weatherData = weatherData();
+
+        // when
+        var first = cache.get(weatherData);
+        var second = cache.get(weatherData);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", EncodedResponseCache.CACHE_NAME)
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void should_key_by_instance_not_by_value() {
+        // given
+        var reading = weatherData();
+        var refreshed = new WeatherData(reading.location(), reading.currentWeather(), reading.source(), Instant.EPOCH);
+        var equalCopy = new WeatherData(reading.location(), reading.currentWeather(), reading.source(), Instant.EPOCH);
+
+        // when
+        var first = cache.get(refreshed);
+        var second = cache.get(equalCopy);
+
+        // then
+        assertThat(equalCopy).isEqualTo(refreshed);
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    void should_encode_stale_reading_per_call() {
+        // given
+        var stale = weatherData().asStale();
+
+        // when
+        var first = cache.get(stale);
+        var second = cache.get(stale);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+    }
+
+    private static WeatherData weatherData() {
+        return WeatherData.of(
+                Coordinates.of(52.52, 13.41),
+                CurrentWeather.of(Temperature.ofCelsius(15.5), WindSpeed.ofKmh(10.2)),
+                Instant.parse("2026-01-11T10:12:54Z"));
+    }
+}
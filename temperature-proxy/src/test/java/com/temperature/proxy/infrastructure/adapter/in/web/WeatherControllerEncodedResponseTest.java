@@ -0,0 +1,153 @@
+package com.temperature.proxy.infrastructure.adapter.in.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.CurrentWeather;
+import com.temperature.proxy.domain.model.Temperature;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WindSpeed;
+import com.temperature.proxy.domain.port.in.GetCurrentWeatherUseCase;
+import com.temperature.proxy.infrastructure.adapter.in.web.exception.GlobalExceptionHandler;
+import com.temperature.proxy.infrastructure.config.CoordinateGridConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(WeatherController.class)
+@Import({GlobalExceptionHandler.class, CoordinateGridConfig.class})
+@DisplayName("WeatherController with encoded responses")
+class WeatherControllerEncodedResponseTest {
+
+    private static final String WEATHER_ENDPOINT = "/api/v1/weather/current";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private GetCurrentWeatherUseCase getCurrentWeatherUseCase;
+
+    @TestConfiguration
+    static class EncodedResponses {
+
+        @Bean
+        EncodedResponseCache encodedResponseCache(ObjectMapper objectMapper) {
+            return new EncodedResponseCache(objectMapper, 100, new SimpleMeterRegistry());
+        }
+    }
+
+    @Test
+    void should_serve_same_document_as_jackson() throws Exception {
+        // given
+        var weatherData = weatherData();
+        given(getCurrentWeatherUseCase.getCurrentWeather(any(Coordinates.class)))
+                .willReturn(weatherData);
+
+        // when/then
+        mockMvc.perform(get(WEATHER_ENDPOINT).param("lat", "52.52").param("lon", "13.41"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.location.lat", is(52.52)))
+                .andExpect(jsonPath("$.current.temperatureC", is(15.5)))
+                .andExpect(jsonPath("$.retrievedAt", is("2026-01-11T10:12:54Z")))
+                .andExpect(jsonPath("$.stale", is(false)));
+    }
+
+    @Test
+    void should_serve_gzip_variant_when_accepted() throws Exception {
+        // given
+        given(getCurrentWeatherUseCase.getCurrentWeather(any(Coordinates.class)))
+                .willReturn(weatherData());
+
+        // when
+        var result = mockMvc.perform(get(WEATHER_ENDPOINT)
+                        .param("lat", "52.52")
+                        .param("lon", "13.41")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        // then
+        try (var in = new GZIPInputStream(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                    .startsWith("{\"location\":")
+                    .contains("\"source\":\"open-meteo\"");
+        }
+    }
+
+    @Test
+    void should_mark_stale_fallback() throws Exception {
+        // given
+        given(getCurrentWeatherUseCase.getCurrentWeather(any(Coordinates.class)))
+                .willReturn(weatherData().asStale());
+
+        // when/then
+        mockMvc.perform(get(WEATHER_ENDPOINT).param("lat", "52.52").param("lon", "13.41"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(WeatherController.STALE_HEADER, "true"))
+                .andExpect(jsonPath("$.stale", is(true)));
+    }
+
+    @Test
+    void should_answer_matching_etag_with_304_and_no_body() throws Exception {
+        // given
+        var weatherData = weatherData();
+        given(getCurrentWeatherUseCase.getCurrentWeather(any(Coordinates.class)))
+                .willReturn(weatherData);
+
+        // when/then
+        mockMvc.perform(get(WEATHER_ENDPOINT)
+                        .param("lat", "52.52")
+                        .param("lon", "13.41")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, WeatherController.eTag(weatherData)))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(""));
+    }
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource(
+            delimiter = '|',
+            value = {"gzip|true", "deflate, GZIP;q=0.5|true", "gzip;q=0|false", "br, *|false", "identity|false"})
+    void should_parse_accept_encoding(String acceptEncoding, boolean gzip) {
+        assertThat(WeatherController.acceptsGzip(acceptEncoding)).isEqualTo(gzip);
+    }
+
+    private static WeatherData weatherData() {
+        return WeatherData.of(
+                Coordinates.of(52.52, 13.41),
+                CurrentWeather.of(Temperature.ofCelsius(15.5), WindSpeed.ofKmh(10.2)),
+                Instant.parse("2026-01-11T10:12:54Z"));
+    }
+}
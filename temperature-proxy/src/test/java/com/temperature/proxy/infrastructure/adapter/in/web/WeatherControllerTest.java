@@ -1,9 +1,15 @@
 package com.temperature.proxy.infrastructure.adapter.in.web;
 
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -12,10 +18,14 @@ import com.temperature.proxy.domain.model.Coordinates;
 import com.temperature.proxy.domain.model.CurrentWeather;
 import com.temperature.proxy.domain.model.Temperature;
 import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WeatherResult;
 import com.temperature.proxy.domain.model.WindSpeed;
 import com.temperature.proxy.domain.port.in.GetCurrentWeatherUseCase;
 import com.temperature.proxy.infrastructure.adapter.in.web.exception.GlobalExceptionHandler;
+import com.temperature.proxy.infrastructure.config.CoordinateGridConfig;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -24,15 +34,18 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(WeatherController.class)
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, CoordinateGridConfig.class})
 @DisplayName("WeatherController")
 class WeatherControllerTest {
 
     private static final String WEATHER_ENDPOINT = "/api/v1/weather/current";
+    private static final String BATCH_ENDPOINT = "/api/v1/weather/current/batch";
 
     @Autowired
     private MockMvc mockMvc;
@@ -104,6 +117,40 @@ class WeatherControllerTest {
                     .andExpect(jsonPath("$.code", is("INVALID_COORDINATES")));
         }
 
+        @Test
+        void should_mark_stale_response_with_header_and_age() throws Exception {
+            // given
+            var coordinates = Coordinates.of(52.52, 13.41);
+            var weatherData = WeatherData.of(
+                            coordinates,
+                            CurrentWeather.of(Temperature.ofCelsius(15.5), WindSpeed.ofKmh(10.2)),
+                            Instant.now().minusSeconds(120))
+                    .asStale();
+            given(getCurrentWeatherUseCase.getCurrentWeather(any(Coordinates.class)))
+                    .willReturn(weatherData);
+
+            // when/then
+            mockMvc.perform(get(WEATHER_ENDPOINT).param("lat", "52.52").param("lon", "13.41"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(WeatherController.STALE_HEADER, "true"))
+                    .andExpect(jsonPath("$.stale", is(true)))
+                    .andExpect(jsonPath("$.ageSeconds", greaterThanOrEqualTo(120)));
+        }
+
+        @Test
+        void should_not_mark_fresh_response_as_stale() throws Exception {
+            // given
+            var coordinates = Coordinates.of(52.52, 13.41);
+            given(getCurrentWeatherUseCase.getCurrentWeather(any(Coordinates.class)))
+                    .willReturn(createWeatherData(coordinates, 15.5, 10.2));
+
+            // when/then
+            mockMvc.perform(get(WEATHER_ENDPOINT).param("lat", "52.52").param("lon", "13.41"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(WeatherController.STALE_HEADER))
+                    .andExpect(jsonPath("$.stale", is(false)));
+        }
+
         @Test
         void should_return_504_when_upstream_timeout() throws Exception {
             // given
@@ -131,6 +178,207 @@ class WeatherControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Conditional GET /api/v1/weather/current")
+    class ConditionalGet {
+
+        @Test
+        void should_send_validators_and_remaining_ttl() throws Exception {
+            // given
+            var weatherData = WeatherData.of(
+                    Coordinates.of(52.52, 13.41),
+                    CurrentWeather.of(Temperature.ofCelsius(15.5), WindSpeed.ofKmh(10.2)),
+                    Instant.now().minusSeconds(20));
+            given(getCurrentWeatherUseCase.getCurrentWeather(any(Coordinates.class)))
+                    .willReturn(weatherData);
+
+            // when/then
+            mockMvc.perform(get(WEATHER_ENDPOINT).param("lat", "52.52").param("lon", "13.41"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, WeatherController.eTag(weatherData)))
+                    .andExpect(header().dateValue(
+                                    HttpHeaders.LAST_MODIFIED,
+                                    weatherData.retrievedAt().toEpochMilli() / 1000 * 1000))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, matchesPattern("max-age=(3[0-9]|40)")))
+                    .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)));
+        }
+
+        @Test
+        void should_return_304_without_body_when_etag_matches() throws Exception {
+            // given
+            var weatherData = createWeatherData(Coordinates.of(52.52, 13.41), 15.5, 10.2);
+            given(getCurrentWeatherUseCase.getCurrentWeather(any(Coordinates.class)))
+                    .willReturn(weatherData);
+
+            // when/then
+            mockMvc.perform(get(WEATHER_ENDPOINT)
+                            .param("lat", "52.52")
+                            .param("lon", "13.41")
+                            .header(HttpHeaders.IF_NONE_MATCH, WeatherController.eTag(weatherData)))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, WeatherController.eTag(weatherData)))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0"))
+                    .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        void should_return_304_when_not_modified_since_retrieval() throws Exception {
+            // given
+            var weatherData = createWeatherData(Coordinates.of(52.52, 13.41), 15.5, 10.2);
+            given(getCurrentWeatherUseCase.getCurrentWeather(any(Coordinates.class)))
+                    .willReturn(weatherData);
+
+            // when/then
+            mockMvc.perform(get(WEATHER_ENDPOINT)
+                            .param("lat", "52.52")
+                            .param("lon", "13.41")
+                            .header(HttpHeaders.IF_MODIFIED_SINCE, "Sun, 11 Jan 2026 10:12:54 GMT"))
+                    .andExpect(status().isNotModified());
+        }
+
+        @Test
+        void should_return_new_reading_when_etag_is_outdated() throws Exception {
+            // given
+            var coordinates = Coordinates.of(52.52, 13.41);
+            var previous = createWeatherData(coordinates, 15.5, 10.2);
+            var current = WeatherData.of(
+                    coordinates,
+                    CurrentWeather.of(Temperature.ofCelsius(16.0), WindSpeed.ofKmh(9.0)),
+                    previous.retrievedAt().plusSeconds(60));
+            given(getCurrentWeatherUseCase.getCurrentWeather(any(Coordinates.class)))
+                    .willReturn(current);
+
+            // when/then
+            mockMvc.perform(get(WEATHER_ENDPOINT)
+                            .param("lat", "52.52")
+                            .param("lon", "13.41")
+                            .header(HttpHeaders.IF_NONE_MATCH, WeatherController.eTag(previous)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, WeatherController.eTag(current)))
+                    .andExpect(jsonPath("$.current.temperatureC", is(16.0)));
+        }
+
+        @Test
+        void should_not_let_clients_cache_stale_reading() throws Exception {
+            // given
+            var weatherData =
+                    createWeatherData(Coordinates.of(52.52, 13.41), 15.5, 10.2).asStale();
+            given(getCurrentWeatherUseCase.getCurrentWeather(any(Coordinates.class)))
+                    .willReturn(weatherData);
+
+            // when/then
+            mockMvc.perform(get(WEATHER_ENDPOINT).param("lat", "52.52").param("lon", "13.41"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/weather/current/batch")
+    class GetCurrentWeatherBatch {
+
+        @Test
+        void should_return_results_in_request_order() throws Exception {
+            // given
+            var berlin = Coordinates.of(52.52, 13.41);
+            var paris = Coordinates.of(48.85, 2.35);
+            given(getCurrentWeatherUseCase.getCurrentWeather(List.of(berlin, paris)))
+                    .willReturn(List.of(
+                            WeatherResult.success(berlin, createWeatherData(berlin, 15.5, 10.2)),
+                            WeatherResult.success(paris, createWeatherData(paris, 12.0, 3.0))));
+
+            // when/then
+            mockMvc.perform(
+                            post(BATCH_ENDPOINT)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(
+                                            """
+                                    {"locations": [{"lat": 52.52, "lon": 13.41}, {"lat": 48.85, "lon": 2.35}]}
+                                    """))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results[0].weather.location.lat", is(52.52)))
+                    .andExpect(jsonPath("$.results[0].weather.current.temperatureC", is(15.5)))
+                    .andExpect(jsonPath("$.results[1].weather.location.lat", is(48.85)))
+                    .andExpect(jsonPath("$.results[1].weather.current.temperatureC", is(12.0)))
+                    .andExpect(jsonPath("$.results[0].error").doesNotExist());
+        }
+
+        @Test
+        void should_report_invalid_item_in_place_without_failing_batch() throws Exception {
+            // given
+            var berlin = Coordinates.of(52.52, 13.41);
+            given(getCurrentWeatherUseCase.getCurrentWeather(List.of(berlin)))
+                    .willReturn(List.of(WeatherResult.success(berlin, createWeatherData(berlin, 15.5, 10.2))));
+
+            // when/then
+            mockMvc.perform(
+                            post(BATCH_ENDPOINT)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(
+                                            """
+                                    {"locations": [{"lat": 100.0, "lon": 13.41}, {"lat": 52.52, "lon": 13.41}, {"lat": 52.52}]}
+                                    """))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results[0].error.code", is("INVALID_COORDINATES")))
+                    .andExpect(jsonPath("$.results[0].weather").doesNotExist())
+                    .andExpect(jsonPath("$.results[1].weather.current.temperatureC", is(15.5)))
+                    .andExpect(jsonPath("$.results[2].error.message", is("Longitude is required")));
+        }
+
+        @Test
+        void should_report_upstream_failure_per_item() throws Exception {
+            // given
+            var berlin = Coordinates.of(52.52, 13.41);
+            var timeout = WeatherProviderException.timeout("Weather service did not respond in time", null);
+            given(getCurrentWeatherUseCase.getCurrentWeather(List.of(berlin)))
+                    .willReturn(List.of(WeatherResult.failure(berlin, timeout)));
+
+            // when/then
+            mockMvc.perform(post(BATCH_ENDPOINT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"locations\": [{\"lat\": 52.52, \"lon\": 13.41}]}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results[0].error.code", is("UPSTREAM_TIMEOUT")))
+                    .andExpect(jsonPath("$.results[0].error.message", is("Weather service did not respond in time")));
+        }
+
+        @Test
+        void should_return_400_when_locations_empty() throws Exception {
+            // when/then
+            mockMvc.perform(post(BATCH_ENDPOINT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"locations\": []}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code", is("INVALID_REQUEST")));
+        }
+
+        @Test
+        void should_return_400_when_too_many_locations() throws Exception {
+            // given
+            var location = "{\"lat\": 52.52, \"lon\": 13.41}";
+            var body = "{\"locations\": [" + String.join(",", Collections.nCopies(101, location)) + "]}";
+
+            // when/then
+            mockMvc.perform(post(BATCH_ENDPOINT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body)
+                            .header("X-Forwarded-For", "oversized-batch-client"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code", is("INVALID_REQUEST")));
+        }
+
+        @Test
+        void should_return_400_when_body_malformed() throws Exception {
+            // when/then
+            mockMvc.perform(post(BATCH_ENDPOINT)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"locations\": ["))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code", is("INVALID_REQUEST")));
+        }
+    }
+
     private WeatherData createWeatherData(Coordinates coordinates, double temperature, double windSpeed) {
         var temp = Temperature.ofCelsius(temperature);
         var wind = WindSpeed.ofKmh(windSpeed);
@@ -0,0 +1,123 @@
+package com.temperature.proxy.infrastructure.adapter.in.web.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.CurrentWeather;
+import com.temperature.proxy.domain.model.Temperature;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WindSpeed;
+import com.temperature.proxy.infrastructure.config.JacksonConfig;
+import java.io.ByteArrayInputStream;
+import java.time.Instant;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EncodedWeatherResponse")
+class EncodedWeatherResponseTest {
+
+    private static final Instant RETRIEVED_AT = Instant.parse("2026-01-11T10:12:54.123456Z");
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Nested
+    @DisplayName("Body")
+    class Body {
+
+        @Test
+        void should_match_jackson_output_at_each_age() throws Exception {
+            // given
+            var weatherData = weatherData(RETRIEVED_AT);
+            var encoded = EncodedWeatherResponse.encode(weatherData, objectMapper);
+
+            for (var ageSeconds : new long[] {0, 7, 59, 12345}) {
+                // when
+                var body = encoded.body(RETRIEVED_AT.plusSeconds(ageSeconds));
+
+                // then
+                assertThat(body).isEqualTo(jackson(weatherData, ageSeconds));
+            }
+        }
+
+        @Test
+        void should_reuse_body_within_the_same_second() {
+            // given
+            var encoded = EncodedWeatherResponse.encode(weatherData(RETRIEVED_AT), objectMapper);
+
+            // when
+            var first = encoded.body(RETRIEVED_AT.plusMillis(5_100));
+            var second = encoded.body(RETRIEVED_AT.plusMillis(5_900));
+            var nextSecond = encoded.body(RETRIEVED_AT.plusMillis(6_100));
+
+            // then
+            assertThat(second).isSameAs(first);
+            assertThat(nextSecond).isNotSameAs(first);
+        }
+
+        @Test
+        void should_keep_stale_flag() throws Exception {
+            // given
+            var weatherData = weatherData(RETRIEVED_AT).asStale();
+
+            // when
+            var body = EncodedWeatherResponse.encode(weatherData, objectMapper).body(RETRIEVED_AT.plusSeconds(120));
+
+            // then
+            assertThat(body).isEqualTo(jackson(weatherData, 120));
+        }
+    }
+
+    @Nested
+    @DisplayName("Gzip")
+    class Gzip {
+
+        @Test
+        void should_decompress_to_plain_body() throws Exception {
+            // given
+            var encoded = EncodedWeatherResponse.encode(weatherData(RETRIEVED_AT), objectMapper);
+            var now = RETRIEVED_AT.plusSeconds(3);
+
+            // when
+            var gzipped = encoded.gzippedBody(now);
+
+            // then
+            try (var in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+                assertThat(in.readAllBytes()).isEqualTo(encoded.body(now));
+            }
+        }
+
+        @Test
+        void should_compress_once_per_second() {
+            // given
+            var encoded = EncodedWeatherResponse.encode(weatherData(RETRIEVED_AT), objectMapper);
+
+            // when
+            var first = encoded.gzippedBody(RETRIEVED_AT.plusMillis(1_200));
+            var second = encoded.gzippedBody(RETRIEVED_AT.plusMillis(1_800));
+
+            // then
+            assertThat(second).isSameAs(first);
+        }
+    }
+
+    private byte[] jackson(WeatherData weatherData, long ageSeconds) throws Exception {
+        var response = WeatherResponse.fromDomain(weatherData);
+        return objectMapper.writeValueAsBytes(new WeatherResponse(
+                response.location(),
+                response.current(),
+                response.source(),
+                response.retrievedAt(),
+                ageSeconds,
+                response.stale()));
+    }
+
+    private static WeatherData weatherData(Instant retrievedAt) {
+        return WeatherData.of(
+                Coordinates.of(52.52, 13.41),
+                CurrentWeather.of(Temperature.ofCelsius(15.5), WindSpeed.ofKmh(10.2)),
+                retrievedAt);
+    }
+}
@@ -0,0 +1,120 @@
+package com.temperature.proxy.infrastructure.adapter.in.web.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.proxy.infrastructure.config.JacksonConfig;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+@DisplayName("PreEncodedApiError")
+class PreEncodedApiErrorTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-11T10:12:54.123456Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+
+    @Nested
+    @DisplayName("Encoding")
+    class Encoding {
+
+        @Test
+        void should_match_jackson_output_for_fixed_message() throws Exception {
+            // given
+            var error = PreEncodedApiError.of(
+                    ErrorCode.RATE_LIMIT_EXCEEDED, HttpStatus.TOO_MANY_REQUESTS, "Too many requests.", CLOCK);
+
+            // when
+            var encoded = error.encode("/api/v1/weather/current");
+
+            // then
+            assertThat(new String(encoded, StandardCharsets.UTF_8))
+                    .isEqualTo(jackson(
+                            ErrorCode.RATE_LIMIT_EXCEEDED, "Too many requests.", 429, "/api/v1/weather/current"));
+        }
+
+        @Test
+        void should_match_jackson_output_for_per_call_message() throws Exception {
+            // given
+            var error = PreEncodedApiError.of(ErrorCode.INVALID_COORDINATES, HttpStatus.BAD_REQUEST, null, CLOCK);
+            var message = "Latitude must be between -90.0 and 90.0, got: 100.000000";
+
+            // when
+            var encoded = error.encode(message, "/api/v1/weather/current");
+
+            // then
+            assertThat(new String(encoded, StandardCharsets.UTF_8))
+                    .isEqualTo(jackson(ErrorCode.INVALID_COORDINATES, message, 400, "/api/v1/weather/current"));
+        }
+
+        @Test
+        void should_escape_message_and_path() throws Exception {
+            // given
+            var error = PreEncodedApiError.of(ErrorCode.UPSTREAM_ERROR, HttpStatus.BAD_GATEWAY, null, CLOCK);
+            var message = "Upstream said \"nope\"\n\tback\\slash – ünïcode";
+            var path = "/api/v1/weather/\"current\"/ä";
+
+            // when
+            var encoded = error.encode(message, path);
+
+            // then
+            assertThat(new String(encoded, StandardCharsets.UTF_8))
+                    .isEqualTo(jackson(ErrorCode.UPSTREAM_ERROR, message, 502, path));
+        }
+
+        @Test
+        void should_write_null_message_like_jackson() throws Exception {
+            // given
+            var error = PreEncodedApiError.of(ErrorCode.UPSTREAM_TIMEOUT, HttpStatus.GATEWAY_TIMEOUT, null, CLOCK);
+
+            // when
+            var encoded = error.encode(null, "/api/v1/weather/current");
+
+            // then
+            assertThat(new String(encoded, StandardCharsets.UTF_8))
+                    .isEqualTo(jackson(ErrorCode.UPSTREAM_TIMEOUT, null, 504, "/api/v1/weather/current"));
+        }
+
+        @Test
+        void should_require_message_when_not_fixed() {
+            // given
+            var error = PreEncodedApiError.of(ErrorCode.UPSTREAM_ERROR, HttpStatus.BAD_GATEWAY);
+
+            // when/then
+            assertThatThrownBy(() -> error.encode("/api/v1/weather/current")).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Response entity")
+    class ResponseEntityConversion {
+
+        @Test
+        void should_carry_status_and_json_content_type() {
+            // given
+            var error = PreEncodedApiError.of(
+                    ErrorCode.INTERNAL_ERROR, HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred");
+
+            // when
+            var response = error.toResponseEntity("/api/v1/weather/current");
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+            assertThat(response.getBody()).isNotEmpty();
+        }
+    }
+
+    private String jackson(ErrorCode code, String message, int status, String path) throws Exception {
+        return objectMapper.writeValueAsString(new ApiError(code.name(), message, status, NOW, path));
+    }
+}
@@ -0,0 +1,447 @@
+package com.temperature.proxy.infrastructure.adapter.in.web.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.proxy.infrastructure.adapter.out.ratelimit.InMemoryProxyManager;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.CompareAndSwapOperation;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("RateLimitFilter")
+class RateLimitFilterTest {
+
+    private static final String WEATHER_ENDPOINT = "/api/v1/weather/current";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    @DisplayName("Bucket store")
+    class BucketStore {
+
+        @Test
+        void should_keep_bucket_count_within_cap_for_rotating_clients() throws Exception {
+            // given
+            var filter = createFilter(5, 10);
+
+            // when
+            for (var i = 0; i < 500; i++) {
+                send(filter, "10.0." + (i / 256) + "." + (i % 256));
+            }
+
+            // then
+            assertThat(awaitBucketCountAtMost(10)).isLessThanOrEqualTo(10);
+            assertThat(meterRegistry
+                            .get("cache.evictions")
+                            .tag("cache", "rate-limit-buckets")
+                            .functionCounter()
+                            .count())
+                    .isGreaterThan(0);
+        }
+
+        @Test
+        void should_still_limit_each_client() throws Exception {
+            // given
+            var filter = createFilter(2, 10);
+
+            // when
+            var first = send(filter, "192.168.0.1");
+            var second = send(filter, "192.168.0.1");
+            var third = send(filter, "192.168.0.1");
+            var otherClient = send(filter, "192.168.0.2");
+
+            // then
+            assertThat(first).isEqualTo(200);
+            assertThat(second).isEqualTo(200);
+            assertThat(third).isEqualTo(429);
+            assertThat(otherClient).isEqualTo(200);
+        }
+
+        @Test
+        void should_publish_live_bucket_gauge() throws Exception {
+            // given
+            var filter = createFilter(5, 10);
+
+            // when
+            send(filter, "192.168.0.1");
+            send(filter, "192.168.0.2");
+
+            // then
+            assertThat(awaitBucketCountAtMost(2)).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Response headers")
+    class ResponseHeaders {
+
+        @Test
+        void should_report_limit_and_remaining_tokens() throws Exception {
+            // given
+            var filter = createFilter(60, 10);
+
+            // when
+            send(filter, "192.168.0.1");
+            var response = sendForResponse(filter, "192.168.0.1");
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader("RateLimit-Limit")).isEqualTo("60");
+            assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("58");
+            assertThat(Long.parseLong(response.getHeader("RateLimit-Reset"))).isBetween(1L, 2L);
+            assertThat(response.getHeader("Retry-After")).isNull();
+        }
+
+        @Test
+        void should_set_retry_after_from_time_to_next_token() throws Exception {
+            // given - one token per 30 seconds
+            var filter = createFilter(2, 10);
+            send(filter, "192.168.0.1");
+            send(filter, "192.168.0.1");
+
+            // when
+            var response = sendForResponse(filter, "192.168.0.1");
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("0");
+            assertThat(Long.parseLong(response.getHeader("Retry-After"))).isBetween(29L, 30L);
+            assertThat(Long.parseLong(response.getHeader("RateLimit-Reset"))).isBetween(59L, 60L);
+        }
+    }
+
+    @Nested
+    @DisplayName("API key tiers")
+    class ApiKeyTierLimits {
+
+        private final ApiKeyTiers apiKeyTiers = new ApiKeyTiers(
+                ApiKeyTiers.DEFAULT_HEADER,
+                Map.of("gold-key", new RateLimitTier("gold", 10, 0), "burst-key", new RateLimitTier("burst", 100, 3)));
+
+        @Test
+        void should_apply_tier_quota_to_known_key() throws Exception {
+            // given
+            var filter = createTieredFilter(2);
+
+            // when
+            var statuses = new int[11];
+            for (var i = 0; i < statuses.length; i++) {
+                statuses[i] = sendWithApiKey(filter, "192.168.0.1", "gold-key").getStatus();
+            }
+
+            // then - the anonymous limit of 2 does not apply
+            assertThat(statuses).containsOnly(200, 429);
+            assertThat(Arrays.stream(statuses).filter(status -> status == 200).count())
+                    .isEqualTo(10);
+            assertThat(sendWithApiKey(filter, "192.168.0.1", "gold-key").getHeader("RateLimit-Limit"))
+                    .isEqualTo("10");
+        }
+
+        @Test
+        void should_fall_back_to_client_ip_for_unknown_key() throws Exception {
+            // given
+            var filter = createTieredFilter(2);
+
+            // when
+            sendWithApiKey(filter, "192.168.0.1", "unknown-key");
+            sendWithApiKey(filter, "192.168.0.1", "unknown-key");
+            var response = sendWithApiKey(filter, "192.168.0.1", "unknown-key");
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(response.getHeader("RateLimit-Limit")).isEqualTo("2");
+        }
+
+        @Test
+        void should_share_tier_bucket_across_client_ips() throws Exception {
+            // given
+            var filter = createTieredFilter(100);
+
+            // when
+            for (var i = 0; i < 10; i++) {
+                sendWithApiKey(filter, "10.0.0." + i, "gold-key");
+            }
+            var response = sendWithApiKey(filter, "10.0.0.99", "gold-key");
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(429);
+        }
+
+        @Test
+        void should_cap_bursts_below_sustained_rate() throws Exception {
+            // given
+            var filter = createTieredFilter(2);
+
+            // when
+            for (var i = 0; i < 3; i++) {
+                sendWithApiKey(filter, "192.168.0.1", "burst-key");
+            }
+            var response = sendWithApiKey(filter, "192.168.0.1", "burst-key");
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(Long.parseLong(response.getHeader("Retry-After"))).isEqualTo(1);
+        }
+
+        @Test
+        void should_report_the_quota_that_limits_remaining() throws Exception {
+            // given
+            var filter = createTieredFilter(2);
+
+            // when
+            var burstLimited = sendWithApiKey(filter, "192.168.0.1", "burst-key");
+            var sustainedLimited = sendWithApiKey(filter, "192.168.0.1", "gold-key");
+
+            // then - 2 of 3 burst tokens are fewer than 99 of 100 per minute
+            assertThat(burstLimited.getHeader("RateLimit-Limit")).isEqualTo("3");
+            assertThat(burstLimited.getHeader("RateLimit-Remaining")).isEqualTo("2");
+            assertThat(sustainedLimited.getHeader("RateLimit-Limit")).isEqualTo("10");
+        }
+
+        @Test
+        void should_apply_reloaded_tier_to_existing_bucket() throws Exception {
+            // given - the key has used 5 of 10 requests
+            var filter = createTieredFilter(2);
+            for (var i = 0; i < 5; i++) {
+                sendWithApiKey(filter, "192.168.0.1", "gold-key");
+            }
+
+            // when
+            apiKeyTiers.update(Map.of("gold-key", new RateLimitTier("gold", 100, 0)));
+            var response = sendWithApiKey(filter, "192.168.0.1", "gold-key");
+
+            // then - the consumed half carries over proportionally
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader("RateLimit-Limit")).isEqualTo("100");
+            assertThat(Long.parseLong(response.getHeader("RateLimit-Remaining")))
+                    .isBetween(48L, 50L);
+        }
+
+        private RateLimitFilter createTieredFilter(int anonymousRequestsPerMinute) {
+            return new RateLimitFilter(
+                    new ObjectMapper().findAndRegisterModules(),
+                    anonymousRequestsPerMinute,
+                    10,
+                    Optional.of(apiKeyTiers),
+                    Optional.empty());
+        }
+
+        private MockHttpServletResponse sendWithApiKey(RateLimitFilter filter, String clientIp, String apiKey)
+                throws Exception {
+            var request = new MockHttpServletRequest("GET", WEATHER_ENDPOINT);
+            request.addHeader("X-Forwarded-For", clientIp);
+            request.addHeader(ApiKeyTiers.DEFAULT_HEADER, apiKey);
+            var response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            return response;
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch requests")
+    class BatchRequests {
+
+        private static final String BATCH_ENDPOINT = "/api/v1/weather/current/batch";
+
+        @Test
+        void should_charge_one_token_per_location_and_pass_body_on() throws Exception {
+            // given
+            var filter = createFilter(5, 10);
+            var body =
+                    """
+                    {"meta": {"locations": [1, 2, 3, 4, 5, 6]},
+                     "locations": [{"lat": 52.52, "lon": 13.41, "tags": [1, 2]}, {"lat": 48.85, "lon": 2.35},
+                                   {"lat": 52.23, "lon": 21.01}]}""";
+            var chain = new MockFilterChain();
+
+            // when
+            var response = sendBatch(filter, body.getBytes(StandardCharsets.UTF_8), chain);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("2");
+            assertThat(chain.getRequest().getInputStream().readAllBytes())
+                    .asString(StandardCharsets.UTF_8)
+                    .isEqualTo(body);
+        }
+
+        @Test
+        void should_charge_nothing_for_batch_that_does_not_fit() throws Exception {
+            // given
+            var filter = createFilter(5, 10);
+            var body = "{\"locations\": [{}, {}, {}, {}, {}, {}]}".getBytes(StandardCharsets.UTF_8);
+
+            // when
+            var rejected = sendBatch(filter, body, new MockFilterChain());
+
+            // then
+            assertThat(rejected.getStatus()).isEqualTo(429);
+            assertThat(sendForResponse(filter, "192.168.0.1").getHeader("RateLimit-Remaining"))
+                    .isEqualTo("4");
+        }
+
+        @Test
+        void should_reject_exhausted_client_without_reading_body() throws Exception {
+            // given
+            var filter = createFilter(1, 10);
+            send(filter, "192.168.0.1");
+            var request = batchRequest("{\"locations\": [{}]}".getBytes(StandardCharsets.UTF_8));
+            var response = new MockHttpServletResponse();
+
+            // when
+            filter.doFilter(request, response, new MockFilterChain());
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(request.getInputStream().readAllBytes())
+                    .asString(StandardCharsets.UTF_8)
+                    .isEqualTo("{\"locations\": [{}]}");
+        }
+
+        @Test
+        void should_reject_oversized_body_instead_of_truncating_it() throws Exception {
+            // given
+            var filter = createFilter(5, 10);
+            var body = ("{\"locations\": [{}], \"padding\": \"" + "x".repeat(64 * 1024) + "\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            var chain = new MockFilterChain();
+
+            // when
+            var response = sendBatch(filter, body, chain);
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(413);
+            assertThat(response.getContentAsString()).contains("\"code\":\"PAYLOAD_TOO_LARGE\"");
+            assertThat(chain.getRequest()).isNull();
+        }
+
+        private MockHttpServletResponse sendBatch(RateLimitFilter filter, byte[] body, MockFilterChain chain)
+                throws Exception {
+            var response = new MockHttpServletResponse();
+            filter.doFilter(batchRequest(body), response, chain);
+            return response;
+        }
+
+        private MockHttpServletRequest batchRequest(byte[] body) {
+            var request = new MockHttpServletRequest("POST", BATCH_ENDPOINT);
+            request.addHeader("X-Forwarded-For", "192.168.0.1");
+            request.setContentType("application/json");
+            request.setContent(body);
+            return request;
+        }
+    }
+
+    @Nested
+    @DisplayName("Distributed mode")
+    class DistributedMode {
+
+        private final CountingProxyManager sharedStore = new CountingProxyManager();
+
+        @Test
+        void should_share_one_limit_between_replicas() throws Exception {
+            // given - two pods backed by the same store
+            var firstPod = createDistributedFilter(20, 1);
+            var secondPod = createDistributedFilter(20, 1);
+
+            // when
+            var allowed = 0;
+            for (var i = 0; i < 40; i++) {
+                var status = send(i % 2 == 0 ? firstPod : secondPod, "192.168.0.1");
+                allowed += status == 200 ? 1 : 0;
+            }
+
+            // then - separate limits would have allowed all 40; prediction errs on the side of rejecting
+            assertThat(allowed).isBetween(10, 22);
+        }
+
+        @Test
+        void should_consume_locally_between_synchronizations() throws Exception {
+            // given
+            var filter = createDistributedFilter(1000, 50);
+
+            // when
+            for (var i = 0; i < 200; i++) {
+                send(filter, "192.168.0.1");
+            }
+
+            // then
+            assertThat(sharedStore.operations.get()).isLessThan(20);
+        }
+
+        private RateLimitFilter createDistributedFilter(int requestsPerMinute, long syncTokens) {
+            var remoteBuckets = sharedStore
+                    .builder()
+                    .withOptimization(Optimizations.predicting(new DelayParameters(syncTokens, Duration.ofSeconds(1))));
+            return new RateLimitFilter(
+                    new ObjectMapper().findAndRegisterModules(),
+                    requestsPerMinute,
+                    10,
+                    Optional.empty(),
+                    Optional.of(remoteBuckets));
+        }
+    }
+
+    private static class CountingProxyManager extends InMemoryProxyManager {
+
+        private final AtomicInteger operations = new AtomicInteger();
+
+        CountingProxyManager() {
+            super(ClientSideConfig.getDefault(), 100);
+        }
+
+        @Override
+        protected CompareAndSwapOperation beginCompareAndSwapOperation(String key) {
+            operations.incrementAndGet();
+            return super.beginCompareAndSwapOperation(key);
+        }
+    }
+
+    private RateLimitFilter createFilter(int requestsPerMinute, long maxBuckets) {
+        var filter = new RateLimitFilter(
+                new ObjectMapper().findAndRegisterModules(),
+                requestsPerMinute,
+                maxBuckets,
+                Optional.empty(),
+                Optional.empty());
+        filter.bindTo(meterRegistry);
+        return filter;
+    }
+
+    private int send(RateLimitFilter filter, String clientIp) throws Exception {
+        return sendForResponse(filter, clientIp).getStatus();
+    }
+
+    private MockHttpServletResponse sendForResponse(RateLimitFilter filter, String clientIp) throws Exception {
+        var request = new MockHttpServletRequest("GET", WEATHER_ENDPOINT);
+        request.addHeader("X-Forwarded-For", clientIp);
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    // size eviction runs on Caffeine's maintenance executor, so give it a moment to settle
+    private double awaitBucketCountAtMost(int expected) throws InterruptedException {
+        var gauge = meterRegistry
+                .get("cache.size")
+                .tag("cache", "rate-limit-buckets")
+                .gauge();
+        for (var attempt = 0; attempt < 50 && gauge.value() > expected; attempt++) {
+            Thread.sleep(20);
+        }
+        return gauge.value();
+    }
+}
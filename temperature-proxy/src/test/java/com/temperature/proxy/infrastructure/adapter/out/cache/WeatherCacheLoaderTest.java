@@ -0,0 +1,111 @@
+package com.temperature.proxy.infrastructure.adapter.out.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.temperature.proxy.domain.exception.WeatherProviderException;
+import com.temperature.proxy.domain.model.CoordinateGrid;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.CurrentWeather;
+import com.temperature.proxy.domain.model.Temperature;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WindSpeed;
+import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WeatherCacheLoader")
+class WeatherCacheLoaderTest {
+
+    @Mock
+    private WeatherDataProvider weatherDataProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private WeatherCacheLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loader = new WeatherCacheLoader(weatherDataProvider, CoordinateGrid.DEFAULT, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Load")
+    class Load {
+
+        @Test
+        void should_fetch_weather_for_coordinates_encoded_in_cache_key() {
+            // given
+            var coordinates = Coordinates.of(52.52, 13.41);
+            var weatherData = createWeatherData(coordinates);
+            given(weatherDataProvider.fetchWeatherData(coordinates)).willReturn(weatherData);
+
+            // when
+            var result = loader.load(coordinates.cacheKey());
+
+            // then
+            assertThat(result).isEqualTo(weatherData);
+            then(weatherDataProvider).should().fetchWeatherData(coordinates);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reload")
+    class Reload {
+
+        @Test
+        void should_return_fresh_value_and_count_success() {
+            // given
+            var coordinates = Coordinates.of(52.52, 13.41);
+            var oldData = createWeatherData(coordinates);
+            var freshData = createWeatherData(coordinates);
+            given(weatherDataProvider.fetchWeatherData(coordinates)).willReturn(freshData);
+
+            // when
+            var result = loader.reload(coordinates.cacheKey(), oldData);
+
+            // then
+            assertThat(result).isSameAs(freshData);
+            assertThat(refreshCount("success")).isEqualTo(1.0);
+            assertThat(refreshCount("failure")).isZero();
+        }
+
+        @Test
+        void should_rethrow_and_count_failure_when_provider_fails() {
+            // given
+            var coordinates = Coordinates.of(52.52, 13.41);
+            var oldData = createWeatherData(coordinates);
+            given(weatherDataProvider.fetchWeatherData(coordinates))
+                    .willThrow(WeatherProviderException.timeout("timeout", new RuntimeException()));
+
+            // when/then
+            assertThatThrownBy(() -> loader.reload(coordinates.cacheKey(), oldData))
+                    .isInstanceOf(WeatherProviderException.class);
+            assertThat(refreshCount("failure")).isEqualTo(1.0);
+            assertThat(refreshCount("success")).isZero();
+        }
+    }
+
+    private double refreshCount(String outcome) {
+        return meterRegistry
+                .get("weather.cache.refresh")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private WeatherData createWeatherData(Coordinates coordinates) {
+        var currentWeather = CurrentWeather.of(Temperature.ofCelsius(15.5), WindSpeed.ofKmh(10.2));
+        return WeatherData.of(coordinates, currentWeather, Instant.now());
+    }
+}
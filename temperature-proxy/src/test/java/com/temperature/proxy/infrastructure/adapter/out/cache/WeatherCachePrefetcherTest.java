@@ -0,0 +1,210 @@
+package com.temperature.proxy.infrastructure.adapter.out.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.temperature.proxy.application.service.WeatherService;
+import com.temperature.proxy.domain.exception.WeatherProviderException;
+import com.temperature.proxy.domain.model.CoordinateGrid;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.CurrentWeather;
+import com.temperature.proxy.domain.model.Temperature;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WindSpeed;
+import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import com.temperature.proxy.infrastructure.metrics.HotKeyTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WeatherCachePrefetcher")
+class WeatherCachePrefetcherTest {
+
+    private static final Duration TTL = Duration.ofSeconds(60);
+    private static final List<Coordinates> LOCATIONS = List.of(
+            Coordinates.of(52.52, 13.41),
+            Coordinates.of(48.85, 2.35),
+            Coordinates.of(51.51, -0.13),
+            Coordinates.of(40.71, -74.01),
+            Coordinates.of(35.68, 139.69));
+
+    @Mock
+    private WeatherDataProvider weatherDataProvider;
+
+    private CaffeineCacheManager cacheManager;
+    private HotKeyTracker hotKeyTracker;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager(WeatherService.WEATHER_CACHE_NAME);
+        cacheManager.setCaffeine(Caffeine.newBuilder().expireAfter(new WeatherCacheExpiry(TTL)));
+        hotKeyTracker = new HotKeyTracker(10, 1024, Duration.ofMinutes(1));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Nested
+    @DisplayName("Due keys")
+    class DueKeys {
+
+        @Test
+        void should_reload_hot_keys_expiring_within_lead_time_in_one_upstream_call() {
+            // given
+            var hot = LOCATIONS.subList(0, 3);
+            hot.forEach(WeatherCachePrefetcherTest.this::cacheAndRequest);
+            answerWithWeatherData();
+            var prefetcher = prefetcher(TTL.plusSeconds(1), 50, 60);
+
+            // when
+            var prefetched = prefetcher.prefetch();
+
+            // then
+            assertThat(prefetched).isEqualTo(3);
+            assertThat(requestedBatches()).singleElement().satisfies(batch -> assertThat(batch)
+                    .containsExactlyInAnyOrderElementsOf(hot));
+            assertThat(prefetchCount("success")).isEqualTo(3.0);
+        }
+
+        @Test
+        void should_leave_hot_keys_alone_while_they_have_more_than_lead_time_left() {
+            // given
+            LOCATIONS.forEach(WeatherCachePrefetcherTest.this::cacheAndRequest);
+            var prefetcher = prefetcher(Duration.ofSeconds(10), 50, 60);
+
+            // when
+            var prefetched = prefetcher.prefetch();
+
+            // then
+            assertThat(prefetched).isZero();
+            then(weatherDataProvider).should(never()).fetchWeatherData(anyList());
+        }
+
+        @Test
+        void should_reload_hot_keys_that_already_left_the_cache() {
+            // given
+            var location = LOCATIONS.getFirst();
+            hotKeyTracker.recordLookup(location.cacheKey(), false);
+            answerWithWeatherData();
+            var prefetcher = prefetcher(Duration.ofSeconds(10), 50, 60);
+
+            // when
+            prefetcher.prefetch();
+
+            // then
+            assertThat(cacheManager
+                            .getCache(WeatherService.WEATHER_CACHE_NAME)
+                            .get(location.cacheKey())
+                            .get())
+                    .isInstanceOf(WeatherData.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Upstream budget")
+    class UpstreamBudget {
+
+        @Test
+        void should_split_due_keys_into_batches_and_stop_when_budget_is_spent() {
+            // given
+            LOCATIONS.forEach(WeatherCachePrefetcherTest.this::cacheAndRequest);
+            answerWithWeatherData();
+            var prefetcher = prefetcher(TTL.plusSeconds(1), 2, 2);
+
+            // when
+            var prefetched = prefetcher.prefetch();
+
+            // then
+            assertThat(prefetched).isEqualTo(4);
+            assertThat(requestedBatches()).hasSize(2).allSatisfy(batch -> assertThat(batch)
+                    .hasSize(2));
+            assertThat(prefetchCount("budget_exhausted")).isEqualTo(1.0);
+        }
+
+        @Test
+        void should_count_failed_batches_and_keep_cached_entries() {
+            // given
+            var location = LOCATIONS.getFirst();
+            var cached = cacheAndRequest(location);
+            given(weatherDataProvider.fetchWeatherData(anyList()))
+                    .willThrow(WeatherProviderException.timeout("timeout", new RuntimeException()));
+            var prefetcher = prefetcher(TTL.plusSeconds(1), 50, 60);
+
+            // when
+            var prefetched = prefetcher.prefetch();
+
+            // then
+            assertThat(prefetched).isZero();
+            assertThat(prefetchCount("failure")).isEqualTo(1.0);
+            assertThat(cacheManager
+                            .getCache(WeatherService.WEATHER_CACHE_NAME)
+                            .get(location.cacheKey())
+                            .get())
+                    .isSameAs(cached);
+        }
+    }
+
+    @Test
+    void should_reject_an_interval_that_is_not_shorter_than_the_lead_time() {
+        assertThatThrownBy(() ->
+                        new WeatherCachePrefetcher.Settings(10, Duration.ofSeconds(5), Duration.ofSeconds(5), 50, 60))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private WeatherCachePrefetcher prefetcher(Duration leadTime, int batchSize, int maxUpstreamCallsPerMinute) {
+        var settings = new WeatherCachePrefetcher.Settings(
+                10, leadTime, Duration.ofSeconds(1), batchSize, maxUpstreamCallsPerMinute);
+        return new WeatherCachePrefetcher(
+                cacheManager, weatherDataProvider, hotKeyTracker, CoordinateGrid.DEFAULT, settings, meterRegistry);
+    }
+
+    private WeatherData cacheAndRequest(Coordinates coordinates) {
+        var weatherData = createWeatherData(coordinates);
+        cacheManager.getCache(WeatherService.WEATHER_CACHE_NAME).put(coordinates.cacheKey(), weatherData);
+        hotKeyTracker.recordLookup(coordinates.cacheKey(), true);
+        return weatherData;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void answerWithWeatherData() {
+        given(weatherDataProvider.fetchWeatherData(anyList()))
+                .willAnswer(invocation -> ((List<Coordinates>) invocation.getArgument(0))
+                        .stream().map(this::createWeatherData).toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Coordinates>> requestedBatches() {
+        ArgumentCaptor<List<Coordinates>> batches = ArgumentCaptor.forClass(List.class);
+        then(weatherDataProvider).should(atLeastOnce()).fetchWeatherData(batches.capture());
+        return batches.getAllValues();
+    }
+
+    private double prefetchCount(String outcome) {
+        return meterRegistry
+                .get("weather.cache.prefetch")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private WeatherData createWeatherData(Coordinates coordinates) {
+        var currentWeather = CurrentWeather.of(Temperature.ofCelsius(15.5), WindSpeed.ofKmh(10.2));
+        return WeatherData.of(coordinates, currentWeather, Instant.now());
+    }
+}
@@ -0,0 +1,128 @@
+package com.temperature.proxy.infrastructure.adapter.out.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.temperature.proxy.domain.model.CoordinateGrid;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.CurrentWeather;
+import com.temperature.proxy.domain.model.KilometreGrid;
+import com.temperature.proxy.domain.model.Temperature;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WindSpeed;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("WeatherCacheSnapshot")
+class WeatherCacheSnapshotTest {
+
+    private static final Instant RETRIEVED_AT = Instant.parse("2026-01-11T10:00:00Z");
+    private static final Instant EXPIRES_AT = Instant.parse("2026-01-11T10:01:00Z");
+
+    @TempDir
+    private Path directory;
+
+    @Nested
+    @DisplayName("Round trip")
+    class RoundTrip {
+
+        @Test
+        void should_read_back_written_entries() throws IOException {
+            // given
+            var file = directory.resolve("weather.snapshot");
+            var berlin = createWeatherData(Coordinates.of(52.52, 13.41), -3.5);
+            var sydney = createWeatherData(Coordinates.of(-33.87, 151.21), 24.0);
+
+            // when
+            WeatherCacheSnapshot.write(
+                    file,
+                    List.of(
+                            new WeatherCacheSnapshot.Entry(berlin, EXPIRES_AT),
+                            new WeatherCacheSnapshot.Entry(sydney, EXPIRES_AT)));
+            var entries = WeatherCacheSnapshot.read(file, CoordinateGrid.DEFAULT);
+
+            // then
+            assertThat(entries)
+                    .extracting(WeatherCacheSnapshot.Entry::weatherData)
+                    .containsExactly(berlin, sydney);
+            assertThat(entries)
+                    .allSatisfy(entry -> assertThat(entry.expiresAt()).isEqualTo(EXPIRES_AT));
+        }
+
+        @Test
+        void should_write_empty_snapshot() throws IOException {
+            // given
+            var file = directory.resolve("weather.snapshot");
+
+            // when
+            WeatherCacheSnapshot.write(file, List.of());
+
+            // then
+            assertThat(WeatherCacheSnapshot.read(file, CoordinateGrid.DEFAULT)).isEmpty();
+            assertThat(directory).isDirectoryNotContaining("glob:**.tmp");
+        }
+
+        @Test
+        void should_rekey_entries_with_current_grid() throws IOException {
+            // given
+            var file = directory.resolve("weather.snapshot");
+            var coordinates = Coordinates.of(52.52, 13.41);
+            WeatherCacheSnapshot.write(
+                    file, List.of(new WeatherCacheSnapshot.Entry(createWeatherData(coordinates, 15.0), EXPIRES_AT)));
+            var kilometreGrid = new KilometreGrid(5.0);
+
+            // when
+            var entries = WeatherCacheSnapshot.read(file, kilometreGrid);
+
+            // then
+            assertThat(entries.getFirst().weatherData().location())
+                    .isEqualTo(Coordinates.of(52.52, 13.41, kilometreGrid));
+        }
+    }
+
+    @Nested
+    @DisplayName("Corruption")
+    class Corruption {
+
+        @Test
+        void should_reject_snapshot_with_flipped_byte() throws IOException {
+            // given
+            var file = directory.resolve("weather.snapshot");
+            WeatherCacheSnapshot.write(
+                    file,
+                    List.of(new WeatherCacheSnapshot.Entry(
+                            createWeatherData(Coordinates.of(52.52, 13.41), 15.0), EXPIRES_AT)));
+            var bytes = Files.readAllBytes(file);
+            bytes[20] ^= 0x01;
+            Files.write(file, bytes);
+
+            // when/then
+            assertThatThrownBy(() -> WeatherCacheSnapshot.read(file, CoordinateGrid.DEFAULT))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("checksum");
+        }
+
+        @Test
+        void should_reject_truncated_snapshot() throws IOException {
+            // given
+            var file = directory.resolve("weather.snapshot");
+            Files.write(file, new byte[] {0x57, 0x43});
+
+            // when/then
+            assertThatThrownBy(() -> WeatherCacheSnapshot.read(file, CoordinateGrid.DEFAULT))
+                    .isInstanceOf(IOException.class);
+        }
+    }
+
+    private WeatherData createWeatherData(Coordinates coordinates, double temperatureC) {
+        var currentWeather = CurrentWeather.of(Temperature.ofCelsius(temperatureC), WindSpeed.ofKmh(10.2));
+        return WeatherData.of(coordinates, currentWeather, RETRIEVED_AT);
+    }
+}
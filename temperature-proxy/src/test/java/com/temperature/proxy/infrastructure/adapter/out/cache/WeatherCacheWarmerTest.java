@@ -0,0 +1,209 @@
+package com.temperature.proxy.infrastructure.adapter.out.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.temperature.proxy.application.service.WeatherService;
+import com.temperature.proxy.domain.exception.WeatherProviderException;
+import com.temperature.proxy.domain.model.CoordinateGrid;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.CurrentWeather;
+import com.temperature.proxy.domain.model.Temperature;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WindSpeed;
+import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WeatherCacheWarmer")
+class WeatherCacheWarmerTest {
+
+    private static final List<Coordinates> LOCATIONS = List.of(
+            Coordinates.of(52.52, 13.41),
+            Coordinates.of(48.85, 2.35),
+            Coordinates.of(51.51, -0.13),
+            Coordinates.of(40.71, -74.01),
+            Coordinates.of(35.68, 139.69));
+
+    @Mock
+    private WeatherDataProvider weatherDataProvider;
+
+    private CaffeineCacheManager cacheManager;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager(WeatherService.WEATHER_CACHE_NAME);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Nested
+    @DisplayName("Warm-up")
+    class WarmUp {
+
+        @Test
+        void should_load_all_locations_in_batches_and_complete() {
+            // given
+            answerWithWeatherData();
+            var warmer = warmer(LOCATIONS, 2, Duration.ofSeconds(5));
+
+            // when
+            var status = warmer.warmUp();
+
+            // then
+            assertThat(status).isEqualTo(WeatherCacheWarmer.Status.COMPLETED);
+            then(weatherDataProvider).should(times(3)).fetchWeatherData(anyList());
+            LOCATIONS.forEach(location -> assertThat(cacheManager
+                            .getCache(WeatherService.WEATHER_CACHE_NAME)
+                            .get(location.cacheKey()))
+                    .isNotNull());
+            assertThat(warmer.loaded()).isEqualTo(5);
+            assertThat(locationCount("success")).isEqualTo(5.0);
+            assertThat(meterRegistry
+                            .get("weather.cache.warmup")
+                            .tag("outcome", "completed")
+                            .timer()
+                            .count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        void should_skip_locations_that_are_already_cached() {
+            // given
+            var cached = LOCATIONS.getFirst();
+            cacheManager.getCache(WeatherService.WEATHER_CACHE_NAME).put(cached.cacheKey(), createWeatherData(cached));
+            answerWithWeatherData();
+            var warmer = warmer(List.of(cached, LOCATIONS.get(1)), 50, Duration.ofSeconds(5));
+
+            // when
+            warmer.warmUp();
+
+            // then
+            then(weatherDataProvider).should().fetchWeatherData(List.of(LOCATIONS.get(1)));
+            assertThat(warmer.loaded()).isEqualTo(2);
+        }
+
+        @Test
+        void should_count_failed_batches_and_still_complete() {
+            // given
+            given(weatherDataProvider.fetchWeatherData(anyList()))
+                    .willThrow(WeatherProviderException.timeout("timeout", new RuntimeException()));
+            var warmer = warmer(LOCATIONS, 50, Duration.ofSeconds(5));
+
+            // when
+            var status = warmer.warmUp();
+
+            // then
+            assertThat(status).isEqualTo(WeatherCacheWarmer.Status.COMPLETED);
+            assertThat(warmer.failed()).isEqualTo(5);
+            assertThat(locationCount("failure")).isEqualTo(5.0);
+        }
+
+        @Test
+        void should_give_up_when_the_deadline_passes() {
+            // given
+            given(weatherDataProvider.fetchWeatherData(anyList())).willAnswer(invocation -> {
+                Thread.sleep(Duration.ofSeconds(10));
+                return List.of();
+            });
+            var warmer = warmer(LOCATIONS, 50, Duration.ofMillis(100));
+
+            // when
+            var status = warmer.warmUp();
+
+            // then
+            assertThat(status).isEqualTo(WeatherCacheWarmer.Status.DEADLINE_EXCEEDED);
+            assertThat(warmer.status()).isEqualTo(WeatherCacheWarmer.Status.DEADLINE_EXCEEDED);
+        }
+
+        @Test
+        void should_complete_immediately_without_locations() {
+            // given
+            var warmer = warmer(List.of(), 50, Duration.ofSeconds(5));
+
+            // when
+            warmer.start();
+
+            // then
+            assertThat(warmer.status()).isEqualTo(WeatherCacheWarmer.Status.COMPLETED);
+            then(weatherDataProvider).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("Location parsing")
+    class LocationParsing {
+
+        @Test
+        void should_combine_configured_and_file_locations_once_per_cache_cell(@TempDir Path dir) throws IOException {
+            // given
+            var file = Files.writeString(dir.resolve("locations.txt"), "# top cities\n48.85, 2.35\n\n52.521,13.409\n");
+
+            // when
+            var locations = WeatherCacheWarmer.parseLocations("52.52,13.41; 51.51,-0.13", file, CoordinateGrid.DEFAULT);
+
+            // then
+            assertThat(locations)
+                    .extracting(Coordinates::cacheKey)
+                    .containsExactly(
+                            LOCATIONS.get(0).cacheKey(),
+                            LOCATIONS.get(2).cacheKey(),
+                            LOCATIONS.get(1).cacheKey());
+        }
+
+        @Test
+        void should_skip_invalid_entries_and_a_missing_file(@TempDir Path dir) {
+            // when
+            var locations = WeatherCacheWarmer.parseLocations(
+                    "52.52,13.41;not-a-location;95.0,10.0", dir.resolve("missing.txt"), CoordinateGrid.DEFAULT);
+
+            // then
+            assertThat(locations)
+                    .extracting(Coordinates::cacheKey)
+                    .containsExactly(LOCATIONS.getFirst().cacheKey());
+        }
+    }
+
+    private WeatherCacheWarmer warmer(List<Coordinates> locations, int batchSize, Duration deadline) {
+        return new WeatherCacheWarmer(
+                cacheManager, weatherDataProvider, locations, 2, batchSize, deadline, meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void answerWithWeatherData() {
+        given(weatherDataProvider.fetchWeatherData(anyList()))
+                .willAnswer(invocation -> ((List<Coordinates>) invocation.getArgument(0))
+                        .stream().map(this::createWeatherData).toList());
+    }
+
+    private double locationCount(String outcome) {
+        return meterRegistry
+                .get("weather.cache.warmup.locations")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private WeatherData createWeatherData(Coordinates coordinates) {
+        var currentWeather = CurrentWeather.of(Temperature.ofCelsius(15.5), WindSpeed.ofKmh(10.2));
+        return WeatherData.of(coordinates, currentWeather, Instant.now());
+    }
+}
@@ -0,0 +1,143 @@
+package com.temperature.proxy.infrastructure.adapter.out.openmeteo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AdaptiveConcurrencyLimiter")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(50).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    @DisplayName("Admission")
+    class Admission {
+
+        @Test
+        void should_reject_when_in_flight_reaches_limit() {
+            // given
+            var limiter = new AdaptiveConcurrencyLimiter(2, 10, Duration.ofSeconds(1), meterRegistry);
+
+            // when
+            var first = limiter.tryAcquire();
+            var second = limiter.tryAcquire();
+            var third = limiter.tryAcquire();
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isTrue();
+            assertThat(third).isFalse();
+            assertThat(limiter.getInFlight()).isEqualTo(2);
+        }
+
+        @Test
+        void should_admit_again_after_release() {
+            // given
+            var limiter = new AdaptiveConcurrencyLimiter(1, 1, Duration.ofSeconds(1), meterRegistry);
+            limiter.tryAcquire();
+
+            // when
+            limiter.onIgnored();
+
+            // then
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Limit adjustment")
+    class LimitAdjustment {
+
+        @Test
+        void should_increase_limit_additively_on_fast_calls_under_load() {
+            // given
+            var limiter = new AdaptiveConcurrencyLimiter(4, 10, Duration.ofSeconds(1), meterRegistry);
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+
+            // when
+            limiter.onSuccess(FAST);
+
+            // then
+            assertThat(limiter.getLimit()).isEqualTo(5);
+        }
+
+        @Test
+        void should_not_increase_limit_when_mostly_idle() {
+            // given
+            var limiter = new AdaptiveConcurrencyLimiter(10, 20, Duration.ofSeconds(1), meterRegistry);
+            limiter.tryAcquire();
+
+            // when
+            limiter.onSuccess(FAST);
+
+            // then
+            assertThat(limiter.getLimit()).isEqualTo(10);
+        }
+
+        @Test
+        void should_decrease_limit_multiplicatively_on_slow_calls() {
+            // given
+            var limiter = new AdaptiveConcurrencyLimiter(20, 20, Duration.ofSeconds(1), meterRegistry);
+            limiter.tryAcquire();
+
+            // when
+            limiter.onSuccess(SLOW);
+
+            // then
+            assertThat(limiter.getLimit()).isEqualTo(18);
+            assertThat(limiter.getInFlight()).isZero();
+        }
+
+        @Test
+        void should_never_drop_below_one() {
+            // given
+            var limiter = new AdaptiveConcurrencyLimiter(1, 5, Duration.ofSeconds(1), meterRegistry);
+
+            // when
+            for (var i = 0; i < 10; i++) {
+                limiter.tryAcquire();
+                limiter.onDropped();
+            }
+
+            // then
+            assertThat(limiter.getLimit()).isEqualTo(1);
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        @Test
+        void should_cap_limit_at_max() {
+            // given
+            var limiter = new AdaptiveConcurrencyLimiter(2, 2, Duration.ofSeconds(1), meterRegistry);
+
+            // when
+            limiter.tryAcquire();
+            limiter.tryAcquire();
+            limiter.onSuccess(FAST);
+
+            // then
+            assertThat(limiter.getLimit()).isEqualTo(2);
+            assertThat(meterRegistry
+                            .get("weather.upstream.concurrency.limit")
+                            .gauge()
+                            .value())
+                    .isEqualTo(2);
+        }
+
+        @Test
+        void should_reject_initial_limit_above_max() {
+            // when/then
+            assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(5, 2, Duration.ofSeconds(1), meterRegistry))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
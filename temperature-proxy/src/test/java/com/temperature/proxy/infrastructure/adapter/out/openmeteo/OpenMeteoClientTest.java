@@ -0,0 +1,66 @@
+package com.temperature.proxy.infrastructure.adapter.out.openmeteo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.queryParam;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.DecimalGrid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+@DisplayName("OpenMeteoClient")
+class OpenMeteoClientTest {
+
+    private static final DecimalGrid FINE_GRID = new DecimalGrid(4);
+
+    private MockRestServiceServer server;
+    private OpenMeteoClient client;
+
+    @BeforeEach
+    void setUp() {
+        var builder = RestClient.builder().baseUrl("http://open-meteo.test/v1/forecast");
+        server = MockRestServiceServer.bindTo(builder).build();
+        client = new OpenMeteoClient(builder.build());
+    }
+
+    @Nested
+    @DisplayName("Coordinate query parameters")
+    class CoordinateQueryParameters {
+
+        @ParameterizedTest
+        @CsvSource({"0.0005, 0.0005", "-0.0001, -0.0001", "0.0, 0", "52.52, 52.52", "-180.0, -180"})
+        void should_format_degrees_without_exponent(double degrees, String expected) {
+            // when/then
+            assertThat(OpenMeteoClient.toQueryValue(degrees)).isEqualTo(expected);
+        }
+
+        @Test
+        void should_send_coordinates_near_zero_in_plain_notation() {
+            // given
+            var coordinates = Coordinates.of(0.0005, -0.0002, FINE_GRID);
+            server.expect(queryParam("latitude", "0.0005"))
+                    .andExpect(queryParam("longitude", "-0.0002"))
+                    .andRespond(withSuccess(
+                            """
+                            {"latitude": 0.0005, "longitude": -0.0002,
+                             "current": {"temperature_2m": 26.1, "wind_speed_10m": 12.0}}
+                            """,
+                            MediaType.APPLICATION_JSON));
+
+            // when
+            var response = client.fetchCurrentWeather(coordinates);
+
+            // then
+            assertThat(response.current().temperature2m()).isEqualTo(26.1);
+            server.verify();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.temperature.proxy.infrastructure.adapter.out.openmeteo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.temperature.proxy.domain.exception.WeatherProviderException;
+import com.temperature.proxy.domain.model.Coordinates;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OpenMeteoRequestBatcher")
+class OpenMeteoRequestBatcherTest {
+
+    private static final Coordinates BERLIN = Coordinates.of(52.52, 13.41);
+    private static final Coordinates WARSAW = Coordinates.of(52.23, 21.01);
+    private static final Coordinates LONDON = Coordinates.of(51.51, -0.13);
+
+    @Mock
+    private OpenMeteoClient openMeteoClient;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OpenMeteoRequestBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.destroy();
+        }
+    }
+
+    @Nested
+    @DisplayName("Batching")
+    class Batching {
+
+        @Test
+        void should_send_locations_submitted_within_window_in_one_request() throws Exception {
+            // given
+            batcher = new OpenMeteoRequestBatcher(Duration.ofMillis(100), 50, meterRegistry);
+            given(openMeteoClient.fetchCurrentWeather(anyList()))
+                    .willReturn(List.of(responseFor(BERLIN, 15.0), responseFor(WARSAW, 10.0)));
+
+            // when
+            var berlin = batcher.submit(BERLIN, openMeteoClient::fetchCurrentWeather);
+            var warsaw = batcher.submit(WARSAW, openMeteoClient::fetchCurrentWeather);
+
+            // then
+            assertThat(berlin.get(2, TimeUnit.SECONDS).current().temperature2m())
+                    .isEqualTo(15.0);
+            assertThat(warsaw.get(2, TimeUnit.SECONDS).current().temperature2m())
+                    .isEqualTo(10.0);
+            then(openMeteoClient).should(times(1)).fetchCurrentWeather(List.of(BERLIN, WARSAW));
+            assertThat(meterRegistry
+                            .get("weather.upstream.batch.size")
+                            .summary()
+                            .count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        void should_deduplicate_same_grid_cell_within_window() throws Exception {
+            // given
+            batcher = new OpenMeteoRequestBatcher(Duration.ofMillis(100), 50, meterRegistry);
+            given(openMeteoClient.fetchCurrentWeather(anyList())).willReturn(List.of(responseFor(BERLIN, 15.0)));
+
+            // when
+            var first = batcher.submit(BERLIN, openMeteoClient::fetchCurrentWeather);
+            var second = batcher.submit(Coordinates.of(52.521, 13.409), openMeteoClient::fetchCurrentWeather);
+
+            // then
+            assertThat(second).isSameAs(first);
+            assertThat(first.get(2, TimeUnit.SECONDS).current().temperature2m()).isEqualTo(15.0);
+            then(openMeteoClient).should(times(1)).fetchCurrentWeather(List.of(BERLIN));
+        }
+
+        @Test
+        void should_send_immediately_when_max_batch_size_is_reached() throws Exception {
+            // given
+            batcher = new OpenMeteoRequestBatcher(Duration.ofMinutes(1), 2, meterRegistry);
+            given(openMeteoClient.fetchCurrentWeather(anyList()))
+                    .willReturn(List.of(responseFor(BERLIN, 15.0), responseFor(WARSAW, 10.0)));
+
+            // when
+            var berlin = batcher.submit(BERLIN, openMeteoClient::fetchCurrentWeather);
+            var warsaw = batcher.submit(WARSAW, openMeteoClient::fetchCurrentWeather);
+
+            // then
+            assertThat(berlin.get(2, TimeUnit.SECONDS)).isNotNull();
+            assertThat(warsaw.get(2, TimeUnit.SECONDS)).isNotNull();
+        }
+
+        @Test
+        void should_start_new_batch_after_previous_one_was_sent() throws Exception {
+            // given
+            batcher = new OpenMeteoRequestBatcher(Duration.ofMinutes(1), 2, meterRegistry);
+            given(openMeteoClient.fetchCurrentWeather(anyList()))
+                    .willReturn(List.of(responseFor(BERLIN, 15.0), responseFor(WARSAW, 10.0)))
+                    .willReturn(List.of(responseFor(LONDON, 8.0)));
+            batcher.submit(BERLIN, openMeteoClient::fetchCurrentWeather);
+            batcher.submit(WARSAW, openMeteoClient::fetchCurrentWeather).get(2, TimeUnit.SECONDS);
+
+            // when
+            var london = batcher.submit(LONDON, openMeteoClient::fetchCurrentWeather);
+            batcher.destroy();
+
+            // then
+            assertThat(london.get(2, TimeUnit.SECONDS).current().temperature2m())
+                    .isEqualTo(8.0);
+            var captor = ArgumentCaptor.<List<Coordinates>>captor();
+            then(openMeteoClient).should(times(2)).fetchCurrentWeather(captor.capture());
+            assertThat(captor.getAllValues().get(1)).containsExactly(LONDON);
+        }
+    }
+
+    @Nested
+    @DisplayName("Failures")
+    class Failures {
+
+        @Test
+        void should_fail_every_request_in_batch_when_upstream_call_fails() {
+            // given
+            batcher = new OpenMeteoRequestBatcher(Duration.ofMillis(50), 50, meterRegistry);
+            var failure = WeatherProviderException.invalidResponse("Weather service returned invalid data");
+            given(openMeteoClient.fetchCurrentWeather(anyList())).willThrow(failure);
+
+            // when
+            var berlin = batcher.submit(BERLIN, openMeteoClient::fetchCurrentWeather);
+            var warsaw = batcher.submit(WARSAW, openMeteoClient::fetchCurrentWeather);
+
+            // then
+            assertThatThrownBy(() -> berlin.get(2, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCause(failure);
+            assertThatThrownBy(() -> warsaw.get(2, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCause(failure);
+        }
+
+        @Test
+        void should_bound_caller_wait_by_window_and_upstream_timeout() {
+            // given
+            batcher = new OpenMeteoRequestBatcher(
+                    Duration.ofMillis(10), 50, Duration.ofSeconds(1), 4, false, meterRegistry);
+
+            // when/then
+            assertThat(batcher.maxWait()).isEqualTo(Duration.ofMillis(1_010));
+        }
+
+        @Test
+        void should_reject_non_positive_batch_size() {
+            // when/then
+            assertThatThrownBy(() -> new OpenMeteoRequestBatcher(Duration.ofMillis(10), 0, meterRegistry))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static OpenMeteoResponse responseFor(Coordinates coordinates, double temperature) {
+        return new OpenMeteoResponse(
+                coordinates.latitude(), coordinates.longitude(), new OpenMeteoResponse.CurrentData(temperature, 5.0));
+    }
+}
@@ -2,11 +2,20 @@ package com.temperature.proxy.infrastructure.adapter.out.openmeteo;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
 
 import com.temperature.proxy.domain.exception.WeatherProviderException;
 import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.WeatherData;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,6 +23,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.ResourceAccessException;
 
@@ -28,7 +39,7 @@ class OpenMeteoWeatherAdapterTest {
 
     @BeforeEach
     void setUp() {
-        adapter = new OpenMeteoWeatherAdapter(openMeteoClient, new SimpleMeterRegistry());
+        adapter = unguardedAdapter(new SimpleMeterRegistry());
     }
 
     @Nested
@@ -143,4 +154,297 @@ class OpenMeteoWeatherAdapterTest {
                     });
         }
     }
+
+    @Nested
+    @DisplayName("Multi-location fetch")
+    class MultiLocationFetch {
+
+        @Test
+        void should_map_each_response_to_its_location() {
+            // given
+            var berlin = Coordinates.of(52.52, 13.41);
+            var paris = Coordinates.of(48.85, 2.35);
+            given(openMeteoClient.fetchCurrentWeather(List.of(berlin, paris)))
+                    .willReturn(List.of(
+                            new OpenMeteoResponse(52.52, 13.41, new OpenMeteoResponse.CurrentData(15.5, 10.2)),
+                            new OpenMeteoResponse(48.85, 2.35, new OpenMeteoResponse.CurrentData(12.0, 3.0))));
+
+            // when
+            var result = adapter.fetchWeatherData(List.of(berlin, paris));
+
+            // then
+            assertThat(result).extracting(WeatherData::location).containsExactly(berlin, paris);
+            assertThat(result.get(1).currentWeather().temperature().celsius()).isEqualTo(12.0);
+        }
+
+        @Test
+        void should_map_upstream_errors_like_single_fetch() {
+            // given
+            var berlin = Coordinates.of(52.52, 13.41);
+            var paris = Coordinates.of(48.85, 2.35);
+            given(openMeteoClient.fetchCurrentWeather(List.of(berlin, paris)))
+                    .willThrow(new ResourceAccessException("Connection timeout"));
+
+            // when/then
+            assertThatThrownBy(() -> adapter.fetchWeatherData(List.of(berlin, paris)))
+                    .isInstanceOf(WeatherProviderException.class)
+                    .satisfies(ex -> assertThat(((WeatherProviderException) ex).getErrorType())
+                            .isEqualTo(WeatherProviderException.ErrorType.TIMEOUT));
+        }
+    }
+
+    @Nested
+    @DisplayName("Upstream metrics")
+    class UpstreamMetrics {
+
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        @Test
+        void should_tag_upstream_latency_by_outcome() {
+            // given
+            var instrumentedAdapter = unguardedAdapter(meterRegistry);
+            var berlin = Coordinates.of(52.52, 13.41);
+            var paris = Coordinates.of(48.85, 2.35);
+            given(openMeteoClient.fetchCurrentWeather(berlin))
+                    .willReturn(new OpenMeteoResponse(52.52, 13.41, new OpenMeteoResponse.CurrentData(15.5, 10.2)));
+            given(openMeteoClient.fetchCurrentWeather(paris))
+                    .willThrow(new ResourceAccessException("Connection timeout"));
+
+            // when
+            instrumentedAdapter.fetchWeatherData(berlin);
+            assertThatThrownBy(() -> instrumentedAdapter.fetchWeatherData(paris))
+                    .isInstanceOf(WeatherProviderException.class);
+
+            // then
+            assertThat(upstreamCalls("success")).isEqualTo(1);
+            assertThat(upstreamCalls("timeout")).isEqualTo(1);
+            assertThat(upstreamCalls("upstream_error")).isZero();
+        }
+
+        private long upstreamCalls(String outcome) {
+            return meterRegistry
+                    .get("weather.upstream.latency")
+                    .tag("outcome", outcome)
+                    .timer()
+                    .count();
+        }
+    }
+
+    @Nested
+    @DisplayName("Upstream protection")
+    class UpstreamProtection {
+
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        @Test
+        void should_fail_fast_once_circuit_opens() {
+            // given
+            var coordinates = Coordinates.of(52.52, 13.41);
+            var circuitBreaker = new UpstreamCircuitBreaker(0.5, 4, 2, Duration.ofMinutes(1), 1, meterRegistry);
+            var guardedAdapter =
+                    new OpenMeteoWeatherAdapter(openMeteoClient, null, circuitBreaker, null, null, meterRegistry);
+            given(openMeteoClient.fetchCurrentWeather(coordinates))
+                    .willThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+            for (var i = 0; i < 2; i++) {
+                assertThatThrownBy(() -> guardedAdapter.fetchWeatherData(coordinates))
+                        .isInstanceOf(WeatherProviderException.class);
+            }
+
+            // when/then
+            assertThatThrownBy(() -> guardedAdapter.fetchWeatherData(coordinates))
+                    .isInstanceOf(WeatherProviderException.class)
+                    .satisfies(ex -> assertThat(((WeatherProviderException) ex).getErrorType())
+                            .isEqualTo(WeatherProviderException.ErrorType.UNAVAILABLE));
+            then(openMeteoClient).should(times(2)).fetchCurrentWeather(coordinates);
+            assertThat(meterRegistry
+                            .get("weather.upstream.rejected")
+                            .tag("reason", "circuit_open")
+                            .counter()
+                            .count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        void should_not_open_circuit_on_client_errors() {
+            // given
+            var coordinates = Coordinates.of(52.52, 13.41);
+            var circuitBreaker = new UpstreamCircuitBreaker(0.5, 4, 2, Duration.ofMinutes(1), 1, meterRegistry);
+            var guardedAdapter =
+                    new OpenMeteoWeatherAdapter(openMeteoClient, null, circuitBreaker, null, null, meterRegistry);
+            given(openMeteoClient.fetchCurrentWeather(coordinates))
+                    .willThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+            // when
+            for (var i = 0; i < 4; i++) {
+                assertThatThrownBy(() -> guardedAdapter.fetchWeatherData(coordinates))
+                        .isInstanceOf(WeatherProviderException.class);
+            }
+
+            // then
+            assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+        }
+
+        @Test
+        void should_record_upstream_outcomes_in_health_window() {
+            // given
+            var coordinates = Coordinates.of(52.52, 13.41);
+            var healthWindow = new UpstreamHealthWindow(Duration.ofMinutes(1));
+            var observedAdapter =
+                    new OpenMeteoWeatherAdapter(openMeteoClient, null, null, null, healthWindow, meterRegistry);
+            given(openMeteoClient.fetchCurrentWeather(coordinates))
+                    .willReturn(new OpenMeteoResponse(52.52, 13.41, new OpenMeteoResponse.CurrentData(15.5, 10.2)))
+                    .willThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+                    .willThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+            // when
+            observedAdapter.fetchWeatherData(coordinates);
+            for (var i = 0; i < 2; i++) {
+                assertThatThrownBy(() -> observedAdapter.fetchWeatherData(coordinates))
+                        .isInstanceOf(WeatherProviderException.class);
+            }
+
+            // then
+            var snapshot = healthWindow.snapshot();
+            assertThat(snapshot.calls()).isEqualTo(3);
+            assertThat(snapshot.failures()).isEqualTo(1);
+        }
+
+        @Test
+        void should_not_count_calls_shed_by_open_circuit_in_health_window() {
+            // given
+            var coordinates = Coordinates.of(52.52, 13.41);
+            var circuitBreaker = new UpstreamCircuitBreaker(0.5, 4, 2, Duration.ofMinutes(1), 1, meterRegistry);
+            var healthWindow = new UpstreamHealthWindow(Duration.ofMinutes(1));
+            var guardedAdapter = new OpenMeteoWeatherAdapter(
+                    openMeteoClient, null, circuitBreaker, null, healthWindow, meterRegistry);
+            given(openMeteoClient.fetchCurrentWeather(coordinates))
+                    .willThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+            // when
+            for (var i = 0; i < 5; i++) {
+                assertThatThrownBy(() -> guardedAdapter.fetchWeatherData(coordinates))
+                        .isInstanceOf(WeatherProviderException.class);
+            }
+
+            // then
+            assertThat(healthWindow.snapshot().calls()).isEqualTo(2);
+        }
+
+        @Test
+        void should_guard_and_record_batched_callers_once_per_upstream_call() throws Exception {
+            // given
+            var berlin = Coordinates.of(52.52, 13.41);
+            var paris = Coordinates.of(48.86, 2.35);
+            var limiter = new AdaptiveConcurrencyLimiter(1, 1, Duration.ofSeconds(1), meterRegistry);
+            var healthWindow = new UpstreamHealthWindow(Duration.ofMinutes(1));
+            var batcher = new OpenMeteoRequestBatcher(Duration.ofMillis(200), 2, meterRegistry);
+            var batchedAdapter =
+                    new OpenMeteoWeatherAdapter(openMeteoClient, batcher, null, limiter, healthWindow, meterRegistry);
+            given(openMeteoClient.fetchCurrentWeather(List.of(berlin, paris)))
+                    .willReturn(List.of(
+                            new OpenMeteoResponse(52.52, 13.41, new OpenMeteoResponse.CurrentData(15.5, 10.2)),
+                            new OpenMeteoResponse(48.86, 2.35, new OpenMeteoResponse.CurrentData(18.0, 5.0))));
+
+            try {
+                // when
+                var berlinWeather = CompletableFuture.supplyAsync(() -> batchedAdapter.fetchWeatherData(berlin));
+                var parisWeather = CompletableFuture.supplyAsync(() -> batchedAdapter.fetchWeatherData(paris));
+
+                // then
+                assertThat(berlinWeather
+                                .get(5, TimeUnit.SECONDS)
+                                .currentWeather()
+                                .temperature()
+                                .celsius())
+                        .isEqualTo(15.5);
+                assertThat(parisWeather
+                                .get(5, TimeUnit.SECONDS)
+                                .currentWeather()
+                                .temperature()
+                                .celsius())
+                        .isEqualTo(18.0);
+                assertThat(healthWindow.snapshot().calls()).isEqualTo(1);
+                assertThat(meterRegistry
+                                .get("weather.upstream.latency")
+                                .tag("outcome", "success")
+                                .timer()
+                                .count())
+                        .isEqualTo(1);
+                assertThat(limiter.getInFlight()).isZero();
+            } finally {
+                batcher.destroy();
+            }
+        }
+
+        @Test
+        void should_time_out_waiting_for_batch_that_never_completes() {
+            // given
+            var coordinates = Coordinates.of(52.52, 13.41);
+            var batcher = new OpenMeteoRequestBatcher(
+                    Duration.ofMillis(10), 50, Duration.ofMillis(100), 1, false, meterRegistry);
+            var batchedAdapter = new OpenMeteoWeatherAdapter(openMeteoClient, batcher, null, null, null, meterRegistry);
+            given(openMeteoClient.fetchCurrentWeather(anyList())).willAnswer(invocation -> {
+                Thread.sleep(5_000);
+                return List.of();
+            });
+
+            try {
+                // when
+                var startedAt = System.nanoTime();
+                assertThatThrownBy(() -> batchedAdapter.fetchWeatherData(coordinates))
+                        .isInstanceOf(WeatherProviderException.class)
+                        .satisfies(ex -> assertThat(((WeatherProviderException) ex).getErrorType())
+                                .isEqualTo(WeatherProviderException.ErrorType.TIMEOUT));
+
+                // then
+                assertThat(Duration.ofNanos(System.nanoTime() - startedAt).toMillis())
+                        .isCloseTo(110, within(1_000L));
+            } finally {
+                batcher.destroy();
+            }
+        }
+
+        @Test
+        void should_reject_calls_above_concurrency_limit() {
+            // given
+            var coordinates = Coordinates.of(52.52, 13.41);
+            var limiter = new AdaptiveConcurrencyLimiter(1, 1, Duration.ofSeconds(1), meterRegistry);
+            var guardedAdapter = new OpenMeteoWeatherAdapter(openMeteoClient, null, null, limiter, null, meterRegistry);
+            limiter.tryAcquire();
+
+            // when/then
+            assertThatThrownBy(() -> guardedAdapter.fetchWeatherData(coordinates))
+                    .isInstanceOf(WeatherProviderException.class)
+                    .satisfies(ex -> assertThat(((WeatherProviderException) ex).getErrorType())
+                            .isEqualTo(WeatherProviderException.ErrorType.UNAVAILABLE));
+            then(openMeteoClient).shouldHaveNoInteractions();
+        }
+
+        @Test
+        void should_release_concurrency_permit_after_each_call() {
+            // given
+            var coordinates = Coordinates.of(52.52, 13.41);
+            var limiter = new AdaptiveConcurrencyLimiter(1, 1, Duration.ofSeconds(1), meterRegistry);
+            var guardedAdapter = new OpenMeteoWeatherAdapter(openMeteoClient, null, null, limiter, null, meterRegistry);
+            given(openMeteoClient.fetchCurrentWeather(coordinates))
+                    .willReturn(new OpenMeteoResponse(52.52, 13.41, new OpenMeteoResponse.CurrentData(15.5, 10.2)))
+                    .willThrow(new ResourceAccessException("Connection timeout"))
+                    .willReturn(new OpenMeteoResponse(52.52, 13.41, new OpenMeteoResponse.CurrentData(15.5, 10.2)));
+
+            // when
+            guardedAdapter.fetchWeatherData(coordinates);
+            assertThatThrownBy(() -> guardedAdapter.fetchWeatherData(coordinates))
+                    .isInstanceOf(WeatherProviderException.class);
+            var result = guardedAdapter.fetchWeatherData(coordinates);
+
+            // then
+            assertThat(result.currentWeather().temperature().celsius()).isEqualTo(15.5);
+            assertThat(limiter.getInFlight()).isZero();
+        }
+    }
+
+    private OpenMeteoWeatherAdapter unguardedAdapter(SimpleMeterRegistry meterRegistry) {
+        return new OpenMeteoWeatherAdapter(
+                openMeteoClient, (OpenMeteoRequestBatcher) null, null, null, null, meterRegistry);
+    }
 }
@@ -0,0 +1,157 @@
+package com.temperature.proxy.infrastructure.adapter.out.openmeteo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UpstreamCircuitBreaker")
+class UpstreamCircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UpstreamCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new UpstreamCircuitBreaker(0.5, 10, 4, OPEN_DURATION, 2, clock::get, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Closed state")
+    class ClosedState {
+
+        @Test
+        void should_stay_closed_until_minimum_calls_recorded() {
+            // when
+            for (var i = 0; i < 3; i++) {
+                circuitBreaker.onFailure();
+            }
+
+            // then
+            assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+            assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        }
+
+        @Test
+        void should_open_when_failure_rate_reaches_threshold() {
+            // when
+            circuitBreaker.onSuccess();
+            circuitBreaker.onSuccess();
+            circuitBreaker.onFailure();
+            circuitBreaker.onFailure();
+
+            // then
+            assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+            assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        }
+
+        @Test
+        void should_forget_outcomes_outside_sliding_window() {
+            // given
+            for (var i = 0; i < 3; i++) {
+                circuitBreaker.onFailure();
+            }
+
+            // when
+            for (var i = 0; i < 10; i++) {
+                circuitBreaker.onSuccess();
+            }
+            circuitBreaker.onFailure();
+
+            // then
+            assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+        }
+
+        @Test
+        void should_export_current_state_gauge() {
+            // then
+            assertThat(meterRegistry
+                            .get("weather.upstream.circuit.state")
+                            .tag("state", "closed")
+                            .gauge()
+                            .value())
+                    .isEqualTo(1);
+            assertThat(meterRegistry
+                            .get("weather.upstream.circuit.state")
+                            .tag("state", "open")
+                            .gauge()
+                            .value())
+                    .isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Open and half-open states")
+    class OpenState {
+
+        @BeforeEach
+        void open() {
+            for (var i = 0; i < 4; i++) {
+                circuitBreaker.onFailure();
+            }
+        }
+
+        @Test
+        void should_allow_limited_trial_calls_after_open_duration() {
+            // given
+            clock.addAndGet(OPEN_DURATION.toNanos());
+
+            // when/then
+            assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+            assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+            assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+            assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.HALF_OPEN);
+        }
+
+        @Test
+        void should_close_when_trial_calls_succeed() {
+            // given
+            clock.addAndGet(OPEN_DURATION.toNanos());
+            circuitBreaker.tryAcquirePermission();
+            circuitBreaker.tryAcquirePermission();
+
+            // when
+            circuitBreaker.onSuccess();
+            circuitBreaker.onSuccess();
+
+            // then
+            assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+            assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        }
+
+        @Test
+        void should_reopen_when_trial_call_fails() {
+            // given
+            clock.addAndGet(OPEN_DURATION.toNanos());
+            circuitBreaker.tryAcquirePermission();
+
+            // when
+            circuitBreaker.onFailure();
+
+            // then
+            assertThat(circuitBreaker.getState()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+            assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Configuration")
+    class Configuration {
+
+        @Test
+        void should_reject_minimum_calls_larger_than_window() {
+            // when/then
+            assertThatThrownBy(() -> new UpstreamCircuitBreaker(0.5, 5, 6, OPEN_DURATION, 1, meterRegistry))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.temperature.proxy.infrastructure.adapter.out.openmeteo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UpstreamHealthWindow")
+class UpstreamHealthWindowTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private UpstreamHealthWindow healthWindow;
+
+    @BeforeEach
+    void setUp() {
+        healthWindow = new UpstreamHealthWindow(Duration.ofSeconds(60), clock::get);
+    }
+
+    @Test
+    void should_summarise_outcomes_and_latencies() {
+        // given
+        healthWindow.record(millis(100), false);
+        healthWindow.record(millis(300), true);
+        healthWindow.record(millis(200), true);
+
+        // when
+        var snapshot = healthWindow.snapshot();
+
+        // then
+        assertThat(snapshot.calls()).isEqualTo(3);
+        assertThat(snapshot.failures()).isEqualTo(2);
+        assertThat(snapshot.meanLatencyNanos()).isEqualTo(millis(200));
+        assertThat(snapshot.maxLatencyNanos()).isEqualTo(millis(300));
+    }
+
+    @Test
+    void should_forget_calls_older_than_the_window() {
+        // given
+        healthWindow.record(millis(100), true);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        healthWindow.record(millis(100), false);
+
+        // when
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(45));
+        var snapshot = healthWindow.snapshot();
+
+        // then
+        assertThat(snapshot.calls()).isEqualTo(1);
+        assertThat(snapshot.failures()).isZero();
+    }
+
+    @Test
+    void should_report_time_since_the_last_call() {
+        // given
+        assertThat(healthWindow.snapshot().idleNanos()).isEqualTo(Long.MAX_VALUE);
+        healthWindow.record(millis(100), false);
+
+        // when
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(12));
+
+        // then
+        assertThat(healthWindow.snapshot().idleNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(12));
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
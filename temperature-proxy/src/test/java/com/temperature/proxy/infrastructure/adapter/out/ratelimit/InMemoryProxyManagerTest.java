@@ -0,0 +1,92 @@
+package com.temperature.proxy.infrastructure.adapter.out.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InMemoryProxyManager")
+class InMemoryProxyManagerTest {
+
+    private static final BucketConfiguration TEN_PER_MINUTE = BucketConfiguration.builder()
+            .addLimit(Bandwidth.builder()
+                    .capacity(10)
+                    .refillGreedy(10, Duration.ofMinutes(1))
+                    .build())
+            .build();
+
+    @Nested
+    @DisplayName("Shared state")
+    class SharedState {
+
+        @Test
+        void should_share_tokens_between_proxies_for_the_same_key() {
+            // given
+            var proxyManager = new InMemoryProxyManager(ClientSideConfig.getDefault(), 100);
+            var first = proxyManager.builder().build("client", () -> TEN_PER_MINUTE);
+            var second = proxyManager.builder().build("client", () -> TEN_PER_MINUTE);
+
+            // when
+            var consumedByFirst = first.tryConsume(6);
+
+            // then
+            assertThat(consumedByFirst).isTrue();
+            assertThat(second.getAvailableTokens()).isEqualTo(4);
+            assertThat(second.tryConsume(5)).isFalse();
+        }
+
+        @Test
+        void should_keep_keys_independent() {
+            // given
+            var proxyManager = new InMemoryProxyManager(ClientSideConfig.getDefault(), 100);
+            proxyManager.builder().build("a", () -> TEN_PER_MINUTE).tryConsume(10);
+
+            // when
+            var other = proxyManager.builder().build("b", () -> TEN_PER_MINUTE);
+
+            // then
+            assertThat(other.getAvailableTokens()).isEqualTo(10);
+        }
+
+        @Test
+        void should_forget_state_on_remove() {
+            // given
+            var proxyManager = new InMemoryProxyManager(ClientSideConfig.getDefault(), 100);
+            proxyManager.builder().build("client", () -> TEN_PER_MINUTE).tryConsume(10);
+
+            // when
+            proxyManager.removeProxy("client");
+
+            // then
+            assertThat(proxyManager.getProxyConfiguration("client")).isEmpty();
+            assertThat(proxyManager.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Expiration")
+    class Expiration {
+
+        @Test
+        void should_drop_state_once_the_bucket_would_be_full_again() throws InterruptedException {
+            // given
+            var clientSideConfig = ClientSideConfig.getDefault()
+                    .withExpirationAfterWriteStrategy(
+                            ExpirationAfterWriteStrategy.fixedTimeToLive(Duration.ofMillis(50)));
+            var proxyManager = new InMemoryProxyManager(clientSideConfig, 100);
+            proxyManager.builder().build("client", () -> TEN_PER_MINUTE).tryConsume(1);
+
+            // when
+            Thread.sleep(100);
+
+            // then
+            assertThat(proxyManager.getProxyConfiguration("client")).isEmpty();
+        }
+    }
+}
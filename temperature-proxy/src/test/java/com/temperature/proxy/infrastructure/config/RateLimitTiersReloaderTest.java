@@ -0,0 +1,121 @@
+package com.temperature.proxy.infrastructure.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.temperature.proxy.infrastructure.adapter.in.web.filter.ApiKeyTiers;
+import com.temperature.proxy.infrastructure.adapter.in.web.filter.RateLimitTier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("RateLimitTiersReloader")
+class RateLimitTiersReloaderTest {
+
+    @TempDir
+    Path directory;
+
+    private final ApiKeyTiers apiKeyTiers =
+            new ApiKeyTiers(ApiKeyTiers.DEFAULT_HEADER, Map.of("old-key", new RateLimitTier("basic", 10, 0)));
+
+    @Test
+    void should_load_tiers_from_file() throws Exception {
+        // given
+        var file = write(
+                """
+                tiers:
+                  gold:
+                    requests-per-minute: 1000
+                    burst: 50
+                    api-keys: [gold-1, gold-2]
+                  silver:
+                    requests-per-minute: 200
+                    api-keys:
+                      - silver-1
+                """,
+                Instant.parse("2026-01-11T10:00:00Z"));
+        var reloader = new RateLimitTiersReloader(apiKeyTiers, file, Duration.ofSeconds(30));
+
+        // when
+        var reloaded = reloader.reloadIfChanged();
+
+        // then
+        assertThat(reloaded).isTrue();
+        assertThat(apiKeyTiers.forApiKey("gold-2")).isEqualTo(new RateLimitTier("gold", 1000, 50));
+        assertThat(apiKeyTiers.forApiKey("silver-1")).isEqualTo(new RateLimitTier("silver", 200, 0));
+        assertThat(apiKeyTiers.forApiKey("old-key")).isNull();
+    }
+
+    @Test
+    void should_reload_only_when_file_changes() throws Exception {
+        // given
+        var tiers =
+                """
+                tiers:
+                  gold:
+                    requests-per-minute: 1000
+                    api-keys: [gold-1]
+                """;
+        var file = write(tiers, Instant.parse("2026-01-11T10:00:00Z"));
+        var reloader = new RateLimitTiersReloader(apiKeyTiers, file, Duration.ofSeconds(30));
+        reloader.reloadIfChanged();
+
+        // when
+        var unchanged = reloader.reloadIfChanged();
+        write(tiers.replace("1000", "2000"), Instant.parse("2026-01-11T10:05:00Z"));
+        var changed = reloader.reloadIfChanged();
+
+        // then
+        assertThat(unchanged).isFalse();
+        assertThat(changed).isTrue();
+        assertThat(apiKeyTiers.forApiKey("gold-1").requestsPerMinute()).isEqualTo(2000);
+    }
+
+    @Test
+    void should_keep_current_tiers_when_file_is_invalid() throws Exception {
+        // given
+        var file = write(
+                """
+                tiers:
+                  broken:
+                    requests-per-minute: 0
+                    api-keys: [broken-1]
+                """,
+                Instant.parse("2026-01-11T10:00:00Z"));
+        var reloader = new RateLimitTiersReloader(apiKeyTiers, file, Duration.ofSeconds(30));
+
+        // when
+        var reloaded = reloader.reloadIfChanged();
+
+        // then
+        assertThat(reloaded).isFalse();
+        assertThat(apiKeyTiers.forApiKey("old-key")).isNotNull();
+        assertThat(apiKeyTiers.forApiKey("broken-1")).isNull();
+    }
+
+    @Test
+    void should_keep_current_tiers_when_file_is_missing() {
+        // given
+        var reloader =
+                new RateLimitTiersReloader(apiKeyTiers, directory.resolve("missing.yml"), Duration.ofSeconds(30));
+
+        // when
+        var reloaded = reloader.reloadIfChanged();
+
+        // then
+        assertThat(reloaded).isFalse();
+        assertThat(apiKeyTiers.forApiKey("old-key")).isNotNull();
+    }
+
+    private Path write(String content, Instant modifiedAt) throws Exception {
+        var file = directory.resolve("rate-limit-tiers.yml");
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.from(modifiedAt));
+        return file;
+    }
+}
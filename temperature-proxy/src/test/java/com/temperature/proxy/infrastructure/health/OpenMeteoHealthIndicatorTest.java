@@ -0,0 +1,121 @@
+package com.temperature.proxy.infrastructure.health;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import com.temperature.proxy.infrastructure.adapter.out.openmeteo.UpstreamHealthWindow;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OpenMeteoHealthIndicator")
+class OpenMeteoHealthIndicatorTest {
+
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(80);
+
+    @Mock
+    private WeatherDataProvider weatherDataProvider;
+
+    private UpstreamHealthWindow healthWindow;
+    private OpenMeteoHealthIndicator indicator;
+
+    @BeforeEach
+    void setUp() {
+        healthWindow = new UpstreamHealthWindow(Duration.ofMinutes(1));
+        indicator = new OpenMeteoHealthIndicator(healthWindow, weatherDataProvider, 50, 3, Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        indicator.destroy();
+    }
+
+    @Nested
+    @DisplayName("Passive status")
+    class PassiveStatus {
+
+        @Test
+        void should_be_up_while_recent_calls_succeed() {
+            // given
+            for (var i = 0; i < 5; i++) {
+                healthWindow.record(LATENCY, false);
+            }
+
+            // when
+            var health = indicator.health();
+
+            // then
+            assertThat(health.getStatus()).isEqualTo(Status.UP);
+            assertThat(health.getDetails()).containsEntry("calls", 5).containsEntry("meanLatencyMs", 80L);
+        }
+
+        @Test
+        void should_be_down_once_failure_rate_reaches_threshold() {
+            // given
+            healthWindow.record(LATENCY, false);
+            healthWindow.record(LATENCY, true);
+            healthWindow.record(LATENCY, true);
+
+            // when
+            var health = indicator.health();
+
+            // then
+            assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+            assertThat(health.getDetails()).containsEntry("failures", 2);
+        }
+
+        @Test
+        void should_stay_up_on_failures_below_minimum_calls() {
+            // given
+            healthWindow.record(LATENCY, true);
+            healthWindow.record(LATENCY, true);
+
+            // when
+            var health = indicator.health();
+
+            // then
+            assertThat(health.getStatus()).isEqualTo(Status.UP);
+        }
+    }
+
+    @Nested
+    @DisplayName("Active probe")
+    class ActiveProbe {
+
+        @Test
+        void should_probe_in_background_when_there_was_no_recent_traffic() {
+            // when
+            var health = indicator.health();
+
+            // then
+            assertThat(health.getStatus()).isEqualTo(Status.UP);
+            then(weatherDataProvider).should(timeout(1000)).fetchWeatherData(any(Coordinates.class));
+        }
+
+        @Test
+        void should_not_probe_while_real_calls_keep_the_window_fresh() {
+            // given
+            healthWindow.record(LATENCY, false);
+
+            // when
+            indicator.health();
+
+            // then
+            then(weatherDataProvider).should(never()).fetchWeatherData(any(Coordinates.class));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.temperature.proxy.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HotKeyTracker")
+class HotKeyTrackerTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Nested
+    @DisplayName("Top keys")
+    class TopKeys {
+
+        @Test
+        void should_rank_heavy_hitters_above_long_tail() {
+            // given
+            var tracker = createTracker(3);
+
+            // when - three hot keys among 10,000 keys seen once each
+            for (var i = 0; i < 10_000; i++) {
+                tracker.recordLookup(1_000_000L + i, false);
+                if (i % 10 == 0) {
+                    tracker.recordLookup(1, true);
+                }
+                if (i % 20 == 0) {
+                    tracker.recordLookup(2, true);
+                }
+                if (i % 40 == 0) {
+                    tracker.recordLookup(3, true);
+                }
+            }
+
+            // then
+            assertThat(tracker.topKeys(3))
+                    .extracting(HotKeyTracker.HotKey::cacheKey)
+                    .containsExactly(1L, 2L, 3L);
+        }
+
+        @Test
+        void should_report_rate_and_hit_ratio() {
+            // given
+            var tracker = createTracker(5);
+
+            // when - 40 lookups of which 10 missed, over 20 seconds
+            for (var i = 0; i < 40; i++) {
+                tracker.recordLookup(42, i % 4 != 0);
+            }
+            nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(20));
+
+            // then
+            var hotKey = tracker.topKeys(5).getFirst();
+            assertThat(hotKey.lookups()).isEqualTo(40);
+            assertThat(hotKey.requestsPerSecond()).isCloseTo(2.0, within(0.01));
+            assertThat(hotKey.hitRatio()).isCloseTo(0.75, within(0.001));
+        }
+
+        @Test
+        void should_limit_result_size() {
+            // given
+            var tracker = createTracker(5);
+            for (var key = 1; key <= 5; key++) {
+                tracker.recordLookup(key, true);
+            }
+
+            // when/then
+            assertThat(tracker.topKeys(2)).hasSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Windows")
+    class Windows {
+
+        @Test
+        void should_keep_previous_window_after_rotation() {
+            // given
+            var tracker = createTracker(5);
+            for (var i = 0; i < 30; i++) {
+                tracker.recordLookup(7, true);
+            }
+
+            // when
+            nanoTime.addAndGet(Duration.ofSeconds(61).toNanos());
+            tracker.recordLookup(7, true);
+
+            // then
+            assertThat(tracker.topKeys(5).getFirst().lookups()).isEqualTo(31);
+        }
+
+        @Test
+        void should_forget_keys_after_two_idle_windows() {
+            // given
+            var tracker = createTracker(5);
+            tracker.recordLookup(7, true);
+
+            // when
+            nanoTime.addAndGet(Duration.ofMinutes(3).toNanos());
+
+            // then
+            assertThat(tracker.topKeys(5)).isEmpty();
+        }
+    }
+
+    @Test
+    void should_count_every_lookup_from_concurrent_threads() throws Exception {
+        // given
+        var tracker = createTracker(5);
+
+        // when
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (var thread = 0; thread < 8; thread++) {
+                executor.execute(() -> {
+                    for (var i = 0; i < 10_000; i++) {
+                        tracker.recordLookup(9, true);
+                    }
+                });
+            }
+        }
+
+        // then
+        assertThat(tracker.topKeys(1).getFirst().lookups()).isEqualTo(80_000);
+    }
+
+    private HotKeyTracker createTracker(int topK) {
+        return new HotKeyTracker(topK, 1024, Duration.ofMinutes(1), nanoTime::get);
+    }
+}
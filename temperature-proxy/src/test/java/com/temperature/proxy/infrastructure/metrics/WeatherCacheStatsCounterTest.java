@@ -0,0 +1,89 @@
+package com.temperature.proxy.infrastructure.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("WeatherCacheStatsCounter")
+class WeatherCacheStatsCounterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void should_count_hits_and_misses_of_cache_lookups() {
+        // given
+        var cache = Caffeine.newBuilder()
+                .recordStats(() -> new WeatherCacheStatsCounter(meterRegistry, "weather"))
+                .<Long, String>build();
+
+        // when
+        cache.get(1L, key -> "berlin");
+        cache.get(1L, key -> "berlin");
+        cache.getIfPresent(1L);
+        cache.getIfPresent(2L);
+
+        // then
+        assertThat(count("weather.cache.hits")).isEqualTo(2);
+        assertThat(count("weather.cache.misses")).isEqualTo(2);
+        assertThat(cache.stats().hitCount()).isEqualTo(2);
+        assertThat(cache.stats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void should_time_loads_by_outcome() {
+        // given
+        var cache = Caffeine.newBuilder()
+                .recordStats(() -> new WeatherCacheStatsCounter(meterRegistry, "weather"))
+                .<Long, String>build();
+
+        // when
+        cache.get(1L, key -> "berlin");
+        assertThatThrownBy(() -> cache.get(2L, key -> {
+                    throw new IllegalStateException("upstream down");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(loads("success")).isEqualTo(1);
+        assertThat(loads("failure")).isEqualTo(1);
+        assertThat(cache.stats().loadCount()).isEqualTo(2);
+    }
+
+    @Test
+    void should_not_publish_load_timers_for_caches_without_loads() {
+        // given
+        var staleCache = Caffeine.newBuilder()
+                .recordStats(() -> new WeatherCacheStatsCounter(meterRegistry, "weather-stale"))
+                .<Long, String>build();
+        staleCache.put(1L, "berlin");
+
+        // when
+        staleCache.getIfPresent(1L);
+
+        // then
+        assertThat(meterRegistry
+                        .get("weather.cache.hits")
+                        .tag("cache", "weather-stale")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.find("weather.cache.load").timers()).isEmpty();
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).tag("cache", "weather").counter().count();
+    }
+
+    private long loads(String outcome) {
+        return meterRegistry
+                .get("weather.cache.load")
+                .tag("cache", "weather")
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+}
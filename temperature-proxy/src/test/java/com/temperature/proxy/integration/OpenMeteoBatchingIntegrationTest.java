@@ -0,0 +1,112 @@
+package com.temperature.proxy.integration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.temperature.proxy.domain.exception.WeatherProviderException;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.infrastructure.adapter.out.openmeteo.OpenMeteoWeatherAdapter;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest(properties = {"app.open-meteo.batch.enabled=true", "app.open-meteo.batch.window=200ms"})
+@DisplayName("Open-Meteo request batching")
+class OpenMeteoBatchingIntegrationTest {
+
+    private static final String BERLIN_JSON =
+            """
+            {"latitude": 52.52, "longitude": 13.41, "current": {"temperature_2m": 15.5, "wind_speed_10m": 10.2}}""";
+    private static final String WARSAW_JSON =
+            """
+            {"latitude": 52.23, "longitude": 21.01, "current": {"temperature_2m": 9.0, "wind_speed_10m": 4.0}}""";
+
+    private static WireMockServer wireMockServer;
+
+    @Autowired
+    private OpenMeteoWeatherAdapter openMeteoWeatherAdapter;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMockServer =
+                new WireMockServer(WireMockConfiguration.wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        WireMock.configureFor("localhost", wireMockServer.port());
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMockServer.stop();
+    }
+
+    @AfterEach
+    void resetWireMock() {
+        wireMockServer.resetAll();
+    }
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.open-meteo.base-url", () -> wireMockServer.baseUrl() + "/v1/forecast");
+    }
+
+    @Test
+    void should_merge_concurrent_fetches_into_one_multi_location_request() {
+        // given
+        var berlin = Coordinates.of(52.52, 13.41);
+        var warsaw = Coordinates.of(52.23, 21.01);
+        // submission order is not deterministic, so answer both orders
+        stubBatch("52.52,52.23", BERLIN_JSON + "," + WARSAW_JSON);
+        stubBatch("52.23,52.52", WARSAW_JSON + "," + BERLIN_JSON);
+
+        // when
+        var berlinResult = CompletableFuture.supplyAsync(() -> openMeteoWeatherAdapter.fetchWeatherData(berlin));
+        var warsawResult = CompletableFuture.supplyAsync(() -> openMeteoWeatherAdapter.fetchWeatherData(warsaw));
+
+        // then
+        assertThat(berlinResult.join().currentWeather().temperature().celsius()).isEqualTo(15.5);
+        assertThat(warsawResult.join().currentWeather().temperature().celsius()).isEqualTo(9.0);
+        verify(1, getRequestedFor(urlPathEqualTo("/v1/forecast")));
+        verify(getRequestedFor(urlPathEqualTo("/v1/forecast"))
+                .withQueryParam("longitude", matching("13.41,21.01|21.01,13.41")));
+    }
+
+    @Test
+    void should_map_upstream_error_for_batched_fetch() {
+        // given
+        var coordinates = Coordinates.of(52.52, 13.41);
+        stubFor(get(urlPathEqualTo("/v1/forecast")).willReturn(aResponse().withStatus(503)));
+
+        // when/then
+        assertThatThrownBy(() -> openMeteoWeatherAdapter.fetchWeatherData(coordinates))
+                .isInstanceOf(WeatherProviderException.class)
+                .hasMessageContaining("returned an error");
+    }
+
+    private static void stubBatch(String latitudes, String body) {
+        stubFor(get(urlPathEqualTo("/v1/forecast"))
+                .withQueryParam("latitude", equalTo(latitudes))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                        .withBody("[" + body + "]")));
+    }
+}
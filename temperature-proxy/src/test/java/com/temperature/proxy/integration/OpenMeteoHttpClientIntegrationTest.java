@@ -0,0 +1,164 @@
+package com.temperature.proxy.integration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.head;
+import static com.github.tomakehurst.wiremock.client.WireMock.headRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.infrastructure.adapter.out.openmeteo.OpenMeteoClient;
+import com.temperature.proxy.infrastructure.adapter.out.openmeteo.OpenMeteoConnectionPrewarmer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest(properties = "app.open-meteo.http.prewarm-connections=3")
+@DisplayName("Open-Meteo HTTP client")
+class OpenMeteoHttpClientIntegrationTest {
+
+    private static final String POOL_METRIC = "httpcomponents.httpclient.pool.total.connections";
+
+    private static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMockServer =
+                new WireMockServer(WireMockConfiguration.wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        WireMock.configureFor("localhost", wireMockServer.port());
+        stubFor(head(urlPathEqualTo("/v1/forecast")).willReturn(aResponse().withStatus(400)));
+        stubFor(
+                get(urlPathEqualTo("/v1/forecast"))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(200)
+                                        .withHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                                        .withBody(
+                                                """
+                                {"latitude": 52.52, "longitude": 13.41,
+                                 "current": {"temperature_2m": 15.5, "wind_speed_10m": 10.2}}
+                                """)));
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMockServer.stop();
+    }
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.open-meteo.base-url", () -> wireMockServer.baseUrl() + "/v1/forecast");
+    }
+
+    @Nested
+    @DisplayName("Pooled Apache client")
+    class PooledApacheClient {
+
+        @Autowired
+        private OpenMeteoClient openMeteoClient;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Test
+        void should_prewarm_connections_at_startup() throws InterruptedException {
+            // when
+            awaitAvailableConnections(3);
+
+            // then
+            WireMock.verify(3, headRequestedFor(urlPathEqualTo("/v1/forecast")));
+        }
+
+        @Test
+        void should_reuse_pooled_connections_for_sequential_calls() {
+            // when
+            for (var i = 0; i < 10; i++) {
+                openMeteoClient.fetchCurrentWeather(Coordinates.of(52.52, 13.41));
+            }
+
+            // then - at most the pre-warmed connections, never one per call
+            assertThat(poolConnections("available")).isBetween(1.0, 3.0);
+            assertThat(poolConnections("leased")).isZero();
+        }
+
+        @Test
+        void should_export_pool_limits() {
+            // then
+            assertThat(meterRegistry
+                            .get("httpcomponents.httpclient.pool.total.max")
+                            .tag("httpclient", "open-meteo")
+                            .gauge()
+                            .value())
+                    .isEqualTo(50);
+        }
+
+        private void awaitAvailableConnections(int expected) throws InterruptedException {
+            for (var attempt = 0; attempt < 50 && poolConnections("available") < expected; attempt++) {
+                Thread.sleep(100);
+            }
+        }
+
+        private double poolConnections(String state) {
+            return meterRegistry
+                    .get(POOL_METRIC)
+                    .tag("httpclient", "open-meteo")
+                    .tag("state", state)
+                    .gauge()
+                    .value();
+        }
+    }
+
+    @Nested
+    @DisplayName("JDK client")
+    @TestPropertySource(properties = {"app.open-meteo.http.client=jdk", "app.open-meteo.http.prewarm-connections=0"})
+    class JdkClient {
+
+        @Autowired
+        private OpenMeteoClient openMeteoClient;
+
+        @Autowired
+        private ClientHttpRequestFactory requestFactory;
+
+        @Autowired
+        private ObjectProvider<CloseableHttpClient> apacheClient;
+
+        @Autowired
+        private ObjectProvider<OpenMeteoConnectionPrewarmer> prewarmer;
+
+        @Test
+        void should_fetch_weather_through_jdk_http_client() {
+            // when
+            var response = openMeteoClient.fetchCurrentWeather(Coordinates.of(52.52, 13.41));
+
+            // then
+            assertThat(response.current().temperature2m()).isEqualTo(15.5);
+            assertThat(requestFactory).isInstanceOf(JdkClientHttpRequestFactory.class);
+            assertThat(apacheClient.getIfAvailable()).isNull();
+        }
+
+        @Test
+        void should_not_create_prewarmer_without_connections_to_prewarm() {
+            // when/then
+            assertThat(prewarmer.getIfAvailable()).isNull();
+        }
+    }
+}
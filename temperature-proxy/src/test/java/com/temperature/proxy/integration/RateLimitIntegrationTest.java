@@ -3,8 +3,11 @@ package com.temperature.proxy.integration;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesRegex;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -12,6 +15,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.temperature.proxy.infrastructure.adapter.out.ratelimit.InMemoryProxyManager;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +28,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
 @SpringBootTest
@@ -111,7 +117,7 @@ class RateLimitIntegrationTest {
                     .andExpect(status().isTooManyRequests())
                     .andExpect(jsonPath("$.code", is("RATE_LIMIT_EXCEEDED")))
                     .andExpect(jsonPath("$.message", is("Too many requests. Please try again later.")))
-                    .andExpect(header().string("Retry-After", "60"));
+                    .andExpect(header().string("RateLimit-Remaining", "0"));
         }
 
         @Test
@@ -214,13 +220,30 @@ class RateLimitIntegrationTest {
                         .andExpect(status().isOk());
             }
 
-            // then - rate limited response has Retry-After header
+            // then - with 5 requests per minute the next token is at most 12 seconds away
             mockMvc.perform(get("/api/v1/weather/current")
                             .param("lat", "52.52")
                             .param("lon", "13.41")
                             .header("X-Forwarded-For", clientId))
                     .andExpect(header().exists("Retry-After"))
-                    .andExpect(header().string("Retry-After", "60"));
+                    .andExpect(header().string("Retry-After", matchesRegex("[1-9]|1[0-2]")));
+        }
+
+        @Test
+        void should_include_rate_limit_headers_on_allowed_requests() throws Exception {
+            // given
+            var clientId = "headers-test-" + System.nanoTime();
+
+            // when/then
+            mockMvc.perform(get("/api/v1/weather/current")
+                            .param("lat", "52.52")
+                            .param("lon", "13.41")
+                            .header("X-Forwarded-For", clientId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("RateLimit-Limit", "5"))
+                    .andExpect(header().string("RateLimit-Remaining", "4"))
+                    .andExpect(header().string("RateLimit-Reset", matchesRegex("[1-9]|1[0-2]")))
+                    .andExpect(header().doesNotExist("Retry-After"));
         }
     }
 
@@ -256,4 +279,72 @@ class RateLimitIntegrationTest {
                     .andExpect(jsonPath("$.path", is("/api/v1/weather/current")));
         }
     }
+
+    @Nested
+    @DisplayName("Batch requests")
+    class BatchRequests {
+
+        @Test
+        void should_charge_one_token_per_location() throws Exception {
+            // given
+            var clientId = "batch-client-" + System.nanoTime();
+            var body =
+                    """
+                    {"locations": [{"lat": 52.52, "lon": 13.41}, {"lat": 52.52, "lon": 13.41},
+                                   {"lat": 52.52, "lon": 13.41}, {"lat": 52.52, "lon": 13.41}]}
+                    """;
+
+            // when - a four-location batch leaves one of five tokens
+            mockMvc.perform(post("/api/v1/weather/current/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body)
+                            .header("X-Forwarded-For", clientId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results.length()", is(4)));
+
+            // then - a second batch no longer fits
+            mockMvc.perform(post("/api/v1/weather/current/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body)
+                            .header("X-Forwarded-For", clientId))
+                    .andExpect(status().isTooManyRequests());
+            mockMvc.perform(get("/api/v1/weather/current")
+                            .param("lat", "52.52")
+                            .param("lon", "13.41")
+                            .header("X-Forwarded-For", clientId))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Nested
+    @DisplayName("Distributed mode")
+    @TestPropertySource(properties = "app.rate-limit.mode=distributed")
+    class DistributedMode {
+
+        @Autowired
+        private ProxyManager<String> rateLimitProxyManager;
+
+        @Test
+        void should_limit_through_the_shared_store() throws Exception {
+            // given
+            var clientId = "distributed-client-" + System.nanoTime();
+
+            // when - exhaust the limit (5 requests)
+            for (var i = 0; i < 5; i++) {
+                mockMvc.perform(get("/api/v1/weather/current")
+                                .param("lat", "52.52")
+                                .param("lon", "13.41")
+                                .header("X-Forwarded-For", clientId))
+                        .andExpect(status().isOk());
+            }
+
+            // then
+            mockMvc.perform(get("/api/v1/weather/current")
+                            .param("lat", "52.52")
+                            .param("lon", "13.41")
+                            .header("X-Forwarded-For", clientId))
+                    .andExpect(status().isTooManyRequests());
+            assertThat(rateLimitProxyManager).isInstanceOf(InMemoryProxyManager.class);
+        }
+    }
 }
@@ -0,0 +1,120 @@
+package com.temperature.proxy.integration;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.temperature.proxy.domain.exception.WeatherProviderException;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.CurrentWeather;
+import com.temperature.proxy.domain.model.Temperature;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WindSpeed;
+import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import com.temperature.proxy.infrastructure.adapter.in.web.WeatherController;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {"app.cache.ttl=200ms", "app.cache.stale-grace=1m"})
+@AutoConfigureMockMvc
+@DisplayName("Stale-if-error")
+class StaleIfErrorIntegrationTest {
+
+    private static final String WEATHER_ENDPOINT = "/api/v1/weather/current";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private WeatherDataProvider weatherDataProvider;
+
+    @AfterEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void should_serve_expired_entry_when_upstream_fails() throws Exception {
+        assertStaleServedAfterExpiry(Coordinates.of(52.52, 13.41));
+    }
+
+    @Test
+    void should_return_error_when_no_stale_entry_exists() throws Exception {
+        // given
+        given(weatherDataProvider.fetchWeatherData(any(Coordinates.class)))
+                .willThrow(WeatherProviderException.timeout("Weather service did not respond in time", null));
+
+        // when/then
+        mockMvc.perform(get(WEATHER_ENDPOINT).param("lat", "40.00").param("lon", "-3.00"))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(header().doesNotExist(WeatherController.STALE_HEADER));
+    }
+
+    @Test
+    void should_serve_fresh_data_again_once_upstream_recovers() throws Exception {
+        // given
+        var coordinates = Coordinates.of(48.85, 2.35);
+        assertStaleServedAfterExpiry(coordinates);
+        given(weatherDataProvider.fetchWeatherData(any(Coordinates.class)))
+                .willReturn(createWeatherData(coordinates, 18.0));
+
+        // when/then
+        mockMvc.perform(get(WEATHER_ENDPOINT).param("lat", "48.85").param("lon", "2.35"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(WeatherController.STALE_HEADER))
+                .andExpect(jsonPath("$.stale", is(false)))
+                .andExpect(jsonPath("$.current.temperatureC", is(18.0)));
+    }
+
+    @Nested
+    @DisplayName("with virtual threads")
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    class WithVirtualThreads {
+
+        @Test
+        void should_serve_expired_entry_from_async_cache() throws Exception {
+            assertStaleServedAfterExpiry(Coordinates.of(51.51, -0.13));
+        }
+    }
+
+    private void assertStaleServedAfterExpiry(Coordinates coordinates) throws Exception {
+        var lat = String.valueOf(coordinates.latitude());
+        var lon = String.valueOf(coordinates.longitude());
+        given(weatherDataProvider.fetchWeatherData(any(Coordinates.class)))
+                .willReturn(createWeatherData(coordinates, 15.5));
+        mockMvc.perform(get(WEATHER_ENDPOINT).param("lat", lat).param("lon", lon))
+                .andExpect(status().isOk());
+
+        Thread.sleep(300);
+        given(weatherDataProvider.fetchWeatherData(any(Coordinates.class)))
+                .willThrow(WeatherProviderException.unavailable("Weather service is unavailable", null));
+
+        mockMvc.perform(get(WEATHER_ENDPOINT).param("lat", lat).param("lon", lon))
+                .andExpect(status().isOk())
+                .andExpect(header().string(WeatherController.STALE_HEADER, "true"))
+                .andExpect(jsonPath("$.stale", is(true)))
+                .andExpect(jsonPath("$.current.temperatureC", is(15.5)));
+    }
+
+    private WeatherData createWeatherData(Coordinates coordinates, double temperatureC) {
+        var currentWeather = CurrentWeather.of(Temperature.ofCelsius(temperatureC), WindSpeed.ofKmh(10.0));
+        return WeatherData.of(coordinates, currentWeather, Instant.now());
+    }
+}
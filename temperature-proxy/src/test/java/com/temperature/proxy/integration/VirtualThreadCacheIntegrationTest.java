@@ -0,0 +1,127 @@
+package com.temperature.proxy.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.temperature.proxy.application.service.WeatherService;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.CurrentWeather;
+import com.temperature.proxy.domain.model.Temperature;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WindSpeed;
+import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@DisplayName("WeatherService cache on virtual threads")
+class VirtualThreadCacheIntegrationTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Autowired
+    private WeatherService weatherService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private WeatherDataProvider weatherDataProvider;
+
+    @AfterEach
+    void clearCache() {
+        cacheManager.getCache(WeatherService.WEATHER_CACHE_NAME).clear();
+    }
+
+    @Test
+    void should_load_on_virtual_thread() {
+        // given
+        var coordinates = Coordinates.of(52.52, 13.41);
+        var loadedOnVirtualThread = new AtomicBoolean();
+        given(weatherDataProvider.fetchWeatherData(coordinates)).willAnswer(invocation -> {
+            loadedOnVirtualThread.set(Thread.currentThread().isVirtual());
+            return createWeatherData(coordinates);
+        });
+
+        // when
+        var result = weatherService.getCurrentWeather(coordinates);
+
+        // then
+        assertThat(result.location()).isEqualTo(coordinates);
+        assertThat(loadedOnVirtualThread).isTrue();
+    }
+
+    @Test
+    void should_not_pin_carrier_threads_while_upstream_call_blocks() throws Exception {
+        // given
+        given(weatherDataProvider.fetchWeatherData(any(Coordinates.class))).willAnswer(invocation -> {
+            Thread.sleep(50);
+            return createWeatherData(invocation.getArgument(0));
+        });
+        var pinnedEvents = new AtomicInteger();
+
+        // when
+        try (var recording = new RecordingStream()) {
+            recording.enable(PINNED_EVENT).withoutThreshold();
+            recording.onEvent(PINNED_EVENT, event -> pinnedEvents.incrementAndGet());
+            recording.startAsync();
+
+            var results = new ArrayList<Future<WeatherData>>();
+            try (var callers = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (var i = 0; i < 40; i++) {
+                    // four callers per cell, so some wait on an in-flight load
+                    var coordinates = Coordinates.of(50.0 + (i % 10), 10.0);
+                    results.add(callers.submit(() -> weatherService.getCurrentWeather(coordinates)));
+                }
+            }
+            for (var result : results) {
+                assertThat(result.get()).isNotNull();
+            }
+            recording.stop();
+        }
+
+        // then
+        assertThat(pinnedEvents).hasValue(0);
+        then(weatherDataProvider).should(times(10)).fetchWeatherData(any(Coordinates.class));
+    }
+
+    @Test
+    void should_answer_batch_lookups_from_async_cache() {
+        // given
+        var berlin = Coordinates.of(52.52, 13.41);
+        var paris = Coordinates.of(48.85, 2.35);
+        given(weatherDataProvider.fetchWeatherData(berlin)).willReturn(createWeatherData(berlin));
+        given(weatherDataProvider.fetchWeatherData(List.of(paris))).willReturn(List.of(createWeatherData(paris)));
+        var cached = weatherService.getCurrentWeather(berlin);
+
+        // when
+        var results = weatherService.getCurrentWeather(List.of(berlin, paris));
+
+        // then
+        assertThat(results.get(0).weatherData()).isSameAs(cached);
+        assertThat(results.get(1).weatherData().location()).isEqualTo(paris);
+        assertThat(weatherService.getCurrentWeather(paris))
+                .isSameAs(results.get(1).weatherData());
+    }
+
+    private WeatherData createWeatherData(Coordinates coordinates) {
+        var currentWeather = CurrentWeather.of(Temperature.ofCelsius(15.5), WindSpeed.ofKmh(10.2));
+        return WeatherData.of(coordinates, currentWeather, Instant.parse("2026-01-16T10:00:00Z"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.temperature.proxy.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.times;
+
+import com.temperature.proxy.application.service.WeatherService;
+import com.temperature.proxy.domain.exception.WeatherProviderException;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.CurrentWeather;
+import com.temperature.proxy.domain.model.Temperature;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WindSpeed;
+import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = {"app.cache.ttl=10s", "app.cache.refresh-after-write=200ms"})
+@DisplayName("Weather cache refresh-ahead")
+class WeatherCacheRefreshIntegrationTest {
+
+    @Autowired
+    private WeatherService weatherService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private WeatherDataProvider weatherDataProvider;
+
+    @AfterEach
+    void clearCache() {
+        cacheManager.getCache(WeatherService.WEATHER_CACHE_NAME).clear();
+    }
+
+    @Test
+    void should_serve_previous_value_while_refreshing_in_background() throws Exception {
+        // given
+        var coordinates = Coordinates.of(10.0, 20.0);
+        var initialData = createWeatherData(coordinates, 15.0);
+        var refreshedData = createWeatherData(coordinates, 16.0);
+        var reloadStarted = new CountDownLatch(1);
+        var releaseReload = new CountDownLatch(1);
+        given(weatherDataProvider.fetchWeatherData(coordinates))
+                .willReturn(initialData)
+                .willAnswer(invocation -> {
+                    reloadStarted.countDown();
+                    releaseReload.await(5, TimeUnit.SECONDS);
+                    return refreshedData;
+                });
+        weatherService.getCurrentWeather(coordinates);
+
+        // when - entry becomes eligible for refresh
+        Thread.sleep(300);
+        var duringRefresh = weatherService.getCurrentWeather(coordinates);
+        assertThat(reloadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        var stillDuringRefresh = weatherService.getCurrentWeather(coordinates);
+        releaseReload.countDown();
+
+        // then
+        assertThat(duringRefresh).isSameAs(initialData);
+        assertThat(stillDuringRefresh).isSameAs(initialData);
+        assertThat(awaitValue(coordinates, refreshedData)).isTrue();
+        then(weatherDataProvider).should(times(2)).fetchWeatherData(coordinates);
+    }
+
+    @Test
+    void should_keep_previous_value_when_refresh_fails() throws Exception {
+        // given
+        var coordinates = Coordinates.of(11.0, 21.0);
+        var initialData = createWeatherData(coordinates, 15.0);
+        given(weatherDataProvider.fetchWeatherData(coordinates))
+                .willReturn(initialData)
+                .willThrow(WeatherProviderException.unavailable("down", new RuntimeException()));
+        weatherService.getCurrentWeather(coordinates);
+
+        // when
+        Thread.sleep(300);
+        var result = weatherService.getCurrentWeather(coordinates);
+        Thread.sleep(100);
+        var afterFailedRefresh = weatherService.getCurrentWeather(coordinates);
+
+        // then
+        assertThat(result).isSameAs(initialData);
+        assertThat(afterFailedRefresh).isSameAs(initialData);
+        then(weatherDataProvider).should(atLeast(2)).fetchWeatherData(coordinates);
+    }
+
+    private boolean awaitValue(Coordinates coordinates, WeatherData expected) throws InterruptedException {
+        var cache = cacheManager.getCache(WeatherService.WEATHER_CACHE_NAME);
+        for (var i = 0; i < 50; i++) {
+            var wrapper = cache.get(coordinates.cacheKey());
+            if (wrapper != null && wrapper.get() == expected) {
+                return true;
+            }
+            Thread.sleep(20);
+        }
+        return false;
+    }
+
+    private WeatherData createWeatherData(Coordinates coordinates, double temperatureC) {
+        var currentWeather = CurrentWeather.of(Temperature.ofCelsius(temperatureC), WindSpeed.ofKmh(10.0));
+        return WeatherData.of(coordinates, currentWeather, Instant.parse("2026-01-16T10:00:00Z"));
+    }
+}
@@ -0,0 +1,190 @@
+package com.temperature.proxy.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.temperature.proxy.application.service.WeatherService;
+import com.temperature.proxy.domain.model.CoordinateGrid;
+import com.temperature.proxy.domain.model.Coordinates;
+import com.temperature.proxy.domain.model.CurrentWeather;
+import com.temperature.proxy.domain.model.Temperature;
+import com.temperature.proxy.domain.model.WeatherData;
+import com.temperature.proxy.domain.model.WindSpeed;
+import com.temperature.proxy.domain.port.out.WeatherDataProvider;
+import com.temperature.proxy.infrastructure.adapter.out.cache.WeatherCacheSnapshot;
+import com.temperature.proxy.infrastructure.adapter.out.cache.WeatherCacheSnapshotter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = {"app.cache.ttl=60s", "app.cache.snapshot.enabled=true"})
+@DisplayName("Weather cache snapshot")
+class WeatherCacheSnapshotIntegrationTest {
+
+    private static final Path SNAPSHOT_FILE = createSnapshotDirectory().resolve("weather.snapshot");
+
+    @Autowired
+    private WeatherService weatherService;
+
+    @Autowired
+    private WeatherCacheSnapshotter snapshotter;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CoordinateGrid coordinateGrid;
+
+    @MockitoBean
+    private WeatherDataProvider weatherDataProvider;
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.cache.snapshot.path", SNAPSHOT_FILE::toString);
+    }
+
+    @AfterEach
+    void clearCache() {
+        weatherCache().invalidateAll();
+    }
+
+    @Test
+    void should_restore_snapshotted_entries_without_calling_upstream() {
+        // given
+        var coordinates = Coordinates.of(52.52, 13.41, coordinateGrid);
+        given(weatherDataProvider.fetchWeatherData(any(Coordinates.class)))
+                .willReturn(createWeatherData(coordinates, Instant.now()));
+        var original = weatherService.getCurrentWeather(coordinates);
+        assertThat(snapshotter.snapshot()).isEqualTo(1);
+        weatherCache().invalidateAll();
+
+        // when
+        var restored = snapshotter.restore();
+        var result = weatherService.getCurrentWeather(coordinates);
+
+        // then
+        assertThat(restored).isEqualTo(1);
+        assertThat(result).isEqualTo(original);
+        then(weatherDataProvider).should().fetchWeatherData(any(Coordinates.class));
+    }
+
+    @Test
+    void should_keep_remaining_ttl_and_skip_expired_entries() throws IOException {
+        // given
+        var live = createWeatherData(Coordinates.of(48.85, 2.35, coordinateGrid), Instant.now());
+        var expired = createWeatherData(Coordinates.of(40.42, -3.70, coordinateGrid), Instant.now());
+        WeatherCacheSnapshot.write(
+                SNAPSHOT_FILE,
+                List.of(
+                        new WeatherCacheSnapshot.Entry(live, Instant.now().plusSeconds(10)),
+                        new WeatherCacheSnapshot.Entry(expired, Instant.now().minusSeconds(1))));
+
+        // when
+        var restored = snapshotter.restore();
+
+        // then
+        assertThat(restored).isEqualTo(1);
+        var expiresAfter = weatherCache()
+                .policy()
+                .expireVariably()
+                .orElseThrow()
+                .getExpiresAfter(live.location().cacheKey());
+        assertThat(expiresAfter).hasValueSatisfying(remaining -> assertThat(remaining)
+                .isLessThanOrEqualTo(Duration.ofSeconds(10))
+                .isGreaterThan(Duration.ofSeconds(5)));
+        assertThat(weatherCache().getIfPresent(expired.location().cacheKey())).isNull();
+    }
+
+    @Test
+    void should_ignore_corrupt_snapshot() throws IOException {
+        // given
+        Files.write(SNAPSHOT_FILE, new byte[] {1, 2, 3});
+
+        // when
+        var restored = snapshotter.restore();
+
+        // then
+        assertThat(restored).isZero();
+    }
+
+    @Test
+    void should_flush_snapshot_when_stopped() throws IOException {
+        // given
+        var coordinates = Coordinates.of(35.68, 139.69, coordinateGrid);
+        given(weatherDataProvider.fetchWeatherData(any(Coordinates.class)))
+                .willReturn(createWeatherData(coordinates, Instant.now()));
+        weatherService.getCurrentWeather(coordinates);
+        Files.deleteIfExists(SNAPSHOT_FILE);
+
+        // when
+        snapshotter.stop();
+        snapshotter.start();
+
+        // then
+        assertThat(WeatherCacheSnapshot.read(SNAPSHOT_FILE, coordinateGrid))
+                .extracting(entry -> entry.weatherData().location())
+                .containsExactly(coordinates);
+    }
+
+    @Nested
+    @DisplayName("with virtual threads")
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    class WithVirtualThreads {
+
+        @Test
+        void should_restore_into_async_cache() {
+            // given
+            var coordinates = Coordinates.of(59.33, 18.07, coordinateGrid);
+            given(weatherDataProvider.fetchWeatherData(any(Coordinates.class)))
+                    .willReturn(createWeatherData(coordinates, Instant.now()));
+            weatherService.getCurrentWeather(coordinates);
+            snapshotter.snapshot();
+            weatherCache().invalidateAll();
+
+            // when
+            var restored = snapshotter.restore();
+
+            // then
+            assertThat(restored).isEqualTo(1);
+            assertThat(weatherCache().getIfPresent(coordinates.cacheKey())).isNotNull();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<Object, Object> weatherCache() {
+        return (Cache<Object, Object>)
+                cacheManager.getCache(WeatherService.WEATHER_CACHE_NAME).getNativeCache();
+    }
+
+    private static Path createSnapshotDirectory() {
+        try {
+            var directory = Files.createTempDirectory("weather-snapshot");
+            directory.toFile().deleteOnExit();
+            return directory;
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private WeatherData createWeatherData(Coordinates coordinates, Instant retrievedAt) {
+        var currentWeather = CurrentWeather.of(Temperature.ofCelsius(15.5), WindSpeed.ofKmh(10.2));
+        return WeatherData.of(coordinates, currentWeather, retrievedAt);
+    }
+}
@@ -131,7 +131,7 @@ class WeatherServiceCacheIntegrationTest {
             // then
             var cache = cacheManager.getCache(WeatherService.WEATHER_CACHE_NAME);
             assertThat(cache).isNotNull();
-            var cachedValue = cache.get(coordinates.toCacheKey(), WeatherData.class);
+            var cachedValue = cache.get(coordinates.cacheKey(), WeatherData.class);
             assertThat(cachedValue).isEqualTo(weatherData);
         }
 
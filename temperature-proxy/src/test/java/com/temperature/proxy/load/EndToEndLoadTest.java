@@ -0,0 +1,170 @@
+package com.temperature.proxy.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.temperature.proxy.TemperatureProxyApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// Excluded from the default build; run with: mvn test -Pload-test -Dtest=EndToEndLoadTest (or make load-test-e2e).
+// Every setting below can be overridden with -D<property>=<value>. Each distribution gets a fresh application and a
+// fresh stand-in, so hit ratio and upstream calls are not carried over between runs.
+@Slf4j
+@Tag("load")
+@DisplayName("End-to-end load")
+class EndToEndLoadTest {
+
+    private static final int RATE = Integer.getInteger("load.rate", 500);
+    private static final Duration DURATION = duration("load.duration", "20s");
+    private static final Duration WARMUP = duration("load.warmup", "5s");
+    private static final int KEYS = Integer.getInteger("load.keys", 10_000);
+    private static final List<String> DISTRIBUTIONS = Arrays.asList(
+            System.getProperty("load.distributions", "uniform,zipf").split(","));
+    private static final double ZIPF_EXPONENT = Double.parseDouble(System.getProperty("load.zipf-exponent", "1.0"));
+    private static final Duration UPSTREAM_LATENCY = duration("load.upstream.latency", "50ms");
+    private static final Duration UPSTREAM_JITTER = duration("load.upstream.jitter", "20ms");
+    private static final double UPSTREAM_ERROR_RATE =
+            Double.parseDouble(System.getProperty("load.upstream.error-rate", "0.01"));
+
+    @Test
+    void should_sustain_offered_load_for_each_key_distribution() throws Exception {
+        var reports = new ArrayList<LoadReport>();
+        for (var name : DISTRIBUTIONS) {
+            var report = run(KeyDistribution.parse(name, KEYS, ZIPF_EXPONENT));
+            log.info("{} -> {}", report.summary(), report.write());
+            reports.add(report);
+        }
+
+        // an open-model run only proves something if every scheduled request got an HTTP answer
+        assertThat(reports)
+                .allSatisfy(report -> assertThat(report.requests()).isEqualTo((long) RATE * DURATION.toSeconds()));
+    }
+
+    private LoadReport run(KeyDistribution keys) throws Exception {
+        try (var standIn = OpenMeteoStandIn.start(UPSTREAM_LATENCY, UPSTREAM_JITTER, UPSTREAM_ERROR_RATE);
+                var context = startApplication(standIn)) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            var client = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            drive(client, port, keys, WARMUP);
+
+            var meterRegistry = context.getBean(MeterRegistry.class);
+            var hitsBefore = cacheCount(meterRegistry, "weather.cache.hits");
+            var missesBefore = cacheCount(meterRegistry, "weather.cache.misses");
+            var callsBefore = standIn.calls();
+            var run = drive(client, port, keys, DURATION);
+            var hits = cacheCount(meterRegistry, "weather.cache.hits") - hitsBefore;
+            var misses = cacheCount(meterRegistry, "weather.cache.misses") - missesBefore;
+
+            var sorted = LoadReport.sorted(run.latencyNanos());
+            return new LoadReport(
+                    "end-to-end-" + keys.name(),
+                    keys.name(),
+                    RATE,
+                    run.completed(),
+                    run.errors(),
+                    (run.completed() - run.errors()) / (run.elapsedNanos() / 1e9),
+                    LoadReport.percentileMillis(sorted, 50),
+                    LoadReport.percentileMillis(sorted, 99),
+                    LoadReport.percentileMillis(sorted, 99.9),
+                    (standIn.calls() - callsBefore) / (double) Math.max(run.completed(), 1),
+                    hits + misses == 0 ? 0 : hits / (hits + misses));
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(OpenMeteoStandIn standIn) {
+        return new SpringApplicationBuilder(TemperatureProxyApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--app.open-meteo.base-url=" + standIn.baseUrl(),
+                        "--app.open-meteo.timeout=5s",
+                        "--app.open-meteo.connect-timeout=5s",
+                        "--app.rate-limit.requests-per-minute=100000000",
+                        "--logging.level.com.temperature.proxy=WARN");
+    }
+
+    // Open model: request i is due at start + i / rate whether or not earlier ones have completed, and its latency is
+    // measured from that due time, so a stalled server shows up in the percentiles instead of lowering the load
+    private static Run drive(HttpClient client, int port, KeyDistribution keys, Duration duration)
+            throws InterruptedException {
+        var total = (int) (RATE * duration.toSeconds());
+        var intervalNanos = 1_000_000_000L / RATE;
+        var latencies = new AtomicLongArray(total);
+        var errors = new AtomicLong();
+        var completed = new AtomicLong();
+        var lastCompletion = new AtomicLong();
+        var start = System.nanoTime();
+        try (var requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var i = 0; i < total; i++) {
+                var due = start + i * intervalNanos;
+                var wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                var slot = i;
+                var uri = URI.create(
+                        "http://localhost:" + port + "/api/v1/weather/current?" + KeyDistribution.query(keys.next()));
+                requests.execute(() -> {
+                    try {
+                        var request = HttpRequest.newBuilder(uri).build();
+                        var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                        var now = System.nanoTime();
+                        latencies.set(slot, now - due);
+                        completed.incrementAndGet();
+                        lastCompletion.accumulateAndGet(now, Math::max);
+                    } catch (Exception ex) {
+                        log.debug("Load request failed: {}", ex.getMessage());
+                    }
+                });
+            }
+        }
+        // slots of requests that never got an answer stay 0 and are left out of the percentiles
+        var latencyNanos = new long[(int) completed.get()];
+        var next = 0;
+        for (var i = 0; i < total && next < latencyNanos.length; i++) {
+            if (latencies.get(i) > 0) {
+                latencyNanos[next++] = latencies.get(i);
+            }
+        }
+        return new Run(
+                completed.get(),
+                errors.get(),
+                Arrays.copyOf(latencyNanos, next),
+                Math.max(lastCompletion.get() - start, 1));
+    }
+
+    private static double cacheCount(MeterRegistry meterRegistry, String name) {
+        var counter = meterRegistry.find(name).tag("cache", "weather").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+
+    private record Run(long completed, long errors, long[] latencyNanos, long elapsedNanos) {}
+}
@@ -0,0 +1,60 @@
+package com.temperature.proxy.load;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Which of `keys` distinct cache cells the next request asks for: uniform, or Zipf where the cell of rank r is asked
+// for with probability proportional to 1 / r^exponent (sampled by binary search over the precomputed CDF)
+final class KeyDistribution {
+
+    private final String name;
+    private final int keys;
+    private final double[] cumulative;
+
+    private KeyDistribution(String name, int keys, double[] cumulative) {
+        this.name = name;
+        this.keys = keys;
+        this.cumulative = cumulative;
+    }
+
+    static KeyDistribution parse(String name, int keys, double zipfExponent) {
+        return switch (name.strip().toLowerCase(Locale.ROOT)) {
+            case "uniform" -> new KeyDistribution("uniform", keys, null);
+            case "zipf" -> zipf(keys, zipfExponent);
+            default -> throw new IllegalArgumentException("Unknown key distribution: " + name);
+        };
+    }
+
+    private static KeyDistribution zipf(int keys, double exponent) {
+        var cumulative = new double[keys];
+        var sum = 0.0;
+        for (var rank = 1; rank <= keys; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (var i = 0; i < keys; i++) {
+            cumulative[i] /= sum;
+        }
+        return new KeyDistribution("zipf", keys, cumulative);
+    }
+
+    String name() {
+        return name;
+    }
+
+    int next() {
+        var random = ThreadLocalRandom.current();
+        if (cumulative == null) {
+            return random.nextInt(keys);
+        }
+        var index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, keys - 1);
+    }
+
+    // Keys map to distinct cells of the default 0.01 degree grid
+    static String query(int key) {
+        return String.format(
+                Locale.ROOT, "lat=%.2f&lon=%.2f", -80 + (key / 30_000) * 0.01, -150 + (key % 30_000) * 0.01);
+    }
+}
@@ -0,0 +1,67 @@
+package com.temperature.proxy.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// Result of one end-to-end load run, logged and written as JSON under target/load-test/
+record LoadReport(
+        String name,
+        String distribution,
+        int offeredRate,
+        long requests,
+        long errors,
+        double throughput,
+        double p50Millis,
+        double p99Millis,
+        double p999Millis,
+        double upstreamCallsPerRequest,
+        double hitRatio) {
+
+    static final Path DIRECTORY = Path.of("target", "load-test");
+
+    static double percentileMillis(long[] sortedLatencyNanos, double percentile) {
+        if (sortedLatencyNanos.length == 0) {
+            return 0;
+        }
+        var index = (int) Math.ceil(percentile / 100.0 * sortedLatencyNanos.length) - 1;
+        var nanos = sortedLatencyNanos[Math.clamp(index, 0, sortedLatencyNanos.length - 1)];
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    static long[] sorted(long[] latencyNanos) {
+        var copy = latencyNanos.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    Path write() throws IOException {
+        Files.createDirectories(DIRECTORY);
+        var file = DIRECTORY.resolve(name + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+        return file;
+    }
+
+    String summary() {
+        return String.format(
+                Locale.ROOT,
+                "%s (%s, %d req/s offered): %d requests, %d errors, %.0f req/s, p50 %.1f ms, p99 %.1f ms,"
+                        + " p99.9 %.1f ms, %.3f upstream calls/request, hit ratio %.3f",
+                name,
+                distribution,
+                offeredRate,
+                requests,
+                errors,
+                throughput,
+                p50Millis,
+                p99Millis,
+                p999Millis,
+                upstreamCallsPerRequest,
+                hitRatio);
+    }
+}
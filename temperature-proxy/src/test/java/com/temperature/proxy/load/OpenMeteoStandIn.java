@@ -0,0 +1,115 @@
+package com.temperature.proxy.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// A local Open-Meteo forecast endpoint for load tests: answers single and multi-location queries after latency +/-
+// jitter (uniform), fails with 503 at errorRate, and counts calls. Unlike WireMock it keeps no request journal, so
+// its own cost stays flat over long runs.
+final class OpenMeteoStandIn implements AutoCloseable {
+
+    private static final String PATH = "/v1/forecast";
+
+    private final HttpServer server;
+    private final long latencyNanos;
+    private final long jitterNanos;
+    private final double errorRate;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong locations = new AtomicLong();
+
+    private OpenMeteoStandIn(HttpServer server, Duration latency, Duration jitter, double errorRate) {
+        this.server = server;
+        this.latencyNanos = latency.toNanos();
+        this.jitterNanos = jitter.toNanos();
+        this.errorRate = errorRate;
+    }
+
+    static OpenMeteoStandIn start(Duration latency, Duration jitter, double errorRate) throws IOException {
+        var server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+        var standIn = new OpenMeteoStandIn(server, latency, jitter, errorRate);
+        server.createContext(PATH, standIn::handle);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        return standIn;
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + PATH;
+    }
+
+    long calls() {
+        return calls.get();
+    }
+
+    long locations() {
+        return locations.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            calls.incrementAndGet();
+            var random = ThreadLocalRandom.current();
+            var delay = latencyNanos + (jitterNanos > 0 ? random.nextLong(-jitterNanos, jitterNanos + 1) : 0);
+            if (delay > 0) {
+                Thread.sleep(Duration.ofNanos(delay));
+            }
+            if (random.nextDouble() < errorRate) {
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+            var body = body(exchange.getRequestURI().getRawQuery()).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String body(String rawQuery) {
+        var params = new HashMap<String, String>();
+        for (var pair : rawQuery.split("&")) {
+            var separator = pair.indexOf('=');
+            if (separator > 0) {
+                params.put(
+                        pair.substring(0, separator),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        var latitudes = params.getOrDefault("latitude", "0").split(",");
+        var longitudes = params.getOrDefault("longitude", "0").split(",");
+        locations.addAndGet(latitudes.length);
+        if (latitudes.length == 1) {
+            return forecast(latitudes[0], longitudes[0]);
+        }
+        var array = new StringJoiner(",", "[", "]");
+        for (var i = 0; i < latitudes.length; i++) {
+            array.add(forecast(latitudes[i], longitudes[i]));
+        }
+        return array.toString();
+    }
+
+    private static String forecast(String latitude, String longitude) {
+        return String.format(
+                Locale.ROOT,
+                "{\"latitude\":%s,\"longitude\":%s,\"current\":{\"temperature_2m\":15.5,\"wind_speed_10m\":10.2}}",
+                latitude,
+                longitude);
+    }
+}
@@ -0,0 +1,193 @@
+package com.temperature.proxy.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.temperature.proxy.infrastructure.adapter.in.web.dto.ApiError;
+import com.temperature.proxy.infrastructure.adapter.in.web.dto.ErrorCode;
+import com.temperature.proxy.infrastructure.adapter.in.web.dto.PreEncodedApiError;
+import com.temperature.proxy.infrastructure.adapter.in.web.filter.RateLimitFilter;
+import com.temperature.proxy.infrastructure.config.JacksonConfig;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+// Excluded from the default build; run with: mvn test -Pload-test
+@Slf4j
+@Tag("load")
+@DisplayName("Rate-limit rejection throughput")
+class RateLimitRejectionLoadTest {
+
+    private static final Duration WARM_UP = Duration.ofSeconds(3);
+    private static final Duration RUN_TIME = Duration.ofSeconds(10);
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    private static final String PATH = "/api/v1/weather/current";
+    private static final String MESSAGE = "Too many requests. Please try again later.";
+
+    private static final ObjectMapper OBJECT_MAPPER = new JacksonConfig().objectMapper();
+    private static final PreEncodedApiError PRE_ENCODED =
+            PreEncodedApiError.of(ErrorCode.RATE_LIMIT_EXCEEDED, HttpStatus.TOO_MANY_REQUESTS, MESSAGE);
+
+    private static Logger filterLogger;
+    private static Level filterLogLevel;
+
+    // the per-rejection WARN line would otherwise flood the console and dominate the measurement
+    @BeforeAll
+    static void silenceFilterLogging() {
+        filterLogger = (Logger) LoggerFactory.getLogger(RateLimitFilter.class);
+        filterLogLevel = filterLogger.getLevel();
+        filterLogger.setLevel(Level.OFF);
+    }
+
+    @AfterAll
+    static void restoreFilterLogging() {
+        filterLogger.setLevel(filterLogLevel);
+    }
+
+    @Test
+    void should_encode_rejections_faster_than_jackson() throws Exception {
+        // when
+        var jackson = measure(RateLimitRejectionLoadTest::rejectWithJackson);
+        var preEncoded = measure(RateLimitRejectionLoadTest::rejectPreEncoded);
+
+        // then
+        log.info(
+                "{} threads, 429 body only: jackson {} rejections/s, pre-encoded {} rejections/s",
+                THREADS,
+                format(jackson),
+                format(preEncoded));
+        assertThat(preEncoded).isGreaterThan(jackson);
+    }
+
+    @Test
+    void should_sustain_rejections_through_the_filter() throws Exception {
+        // given - one client that has used up its single token
+        var filter = new RateLimitFilter(OBJECT_MAPPER, 1, 10, Optional.empty(), Optional.empty());
+        var status = send(filter);
+        assertThat(status).isEqualTo(200);
+
+        // when
+        var rejections = measure(() -> {
+            if (send(filter) != 429) {
+                throw new IllegalStateException("Expected a rejection");
+            }
+        });
+
+        // then
+        log.info("{} threads, RateLimitFilter end to end: {} rejections/s", THREADS, format(rejections));
+        assertThat(rejections).isPositive();
+    }
+
+    // the previous rejection path: a fresh ApiError serialized through the ObjectMapper
+    private static void rejectWithJackson() throws Exception {
+        var response = new DiscardingResponse();
+        var error = ApiError.of(ErrorCode.RATE_LIMIT_EXCEEDED, MESSAGE, HttpStatus.TOO_MANY_REQUESTS.value(), PATH);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader("Retry-After", "60");
+        response.getWriter().write(OBJECT_MAPPER.writeValueAsString(error));
+    }
+
+    private static void rejectPreEncoded() throws Exception {
+        var response = new DiscardingResponse();
+        var body = PRE_ENCODED.encode(PATH);
+        response.setStatus(PRE_ENCODED.status().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.setHeader("Retry-After", "60");
+        response.getOutputStream().write(body);
+    }
+
+    private static int send(RateLimitFilter filter) throws Exception {
+        var request = new MockHttpServletRequest("GET", PATH);
+        request.addHeader("X-Forwarded-For", "203.0.113.7");
+        var response = new DiscardingResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+
+    private static double measure(Rejection rejection) throws InterruptedException {
+        run(rejection, WARM_UP);
+        return run(rejection, RUN_TIME) / (double) RUN_TIME.toSeconds();
+    }
+
+    private static long run(Rejection rejection, Duration duration) throws InterruptedException {
+        var completed = new LongAdder();
+        var deadline = System.nanoTime() + duration.toNanos();
+        try (var workers = Executors.newFixedThreadPool(THREADS)) {
+            for (var i = 0; i < THREADS; i++) {
+                workers.execute(() -> {
+                    try {
+                        while (System.nanoTime() < deadline) {
+                            rejection.reject();
+                            completed.increment();
+                        }
+                    } catch (Exception ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                });
+            }
+        }
+        return completed.sum();
+    }
+
+    private static String format(double throughput) {
+        return String.format(Locale.ROOT, "%,.0f", throughput);
+    }
+
+    // MockHttpServletResponse copies output one byte at a time; Tomcat writes arrays in bulk, so discard instead
+    private static class DiscardingResponse extends MockHttpServletResponse {
+
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {}
+
+            @Override
+            public void write(int b) {}
+
+            @Override
+            public void write(byte[] b, int off, int len) {}
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            return new PrintWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Rejection {
+        void reject() throws Exception;
+    }
+}
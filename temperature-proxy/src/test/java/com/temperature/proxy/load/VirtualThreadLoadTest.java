@@ -0,0 +1,142 @@
+package com.temperature.proxy.load;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.temperature.proxy.TemperatureProxyApplication;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.http.MediaType;
+
+// Excluded from the default build; run with: mvn test -Pload-test
+@Slf4j
+@Tag("load")
+@DisplayName("Virtual-thread throughput")
+class VirtualThreadLoadTest {
+
+    private static final Duration UPSTREAM_LATENCY = Duration.ofMillis(250);
+    private static final Duration RUN_TIME = Duration.ofSeconds(15);
+    private static final int CLIENTS = 200;
+    private static final int TOMCAT_THREADS = 50;
+
+    private static WireMockServer wireMockServer;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMockServer = new WireMockServer(WireMockConfiguration.wireMockConfig()
+                .dynamicPort()
+                .containerThreads(CLIENTS + 50)
+                .asynchronousResponseEnabled(true)
+                .asynchronousResponseThreads(20));
+        wireMockServer.start();
+        wireMockServer.stubFor(
+                get(urlPathEqualTo("/v1/forecast"))
+                        .willReturn(
+                                aResponse()
+                                        .withStatus(200)
+                                        .withFixedDelay((int) UPSTREAM_LATENCY.toMillis())
+                                        .withHeader("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                                        .withBody(
+                                                """
+                                {"latitude": 52.52, "longitude": 13.41,
+                                 "current": {"temperature_2m": 15.5, "wind_speed_10m": 10.2}}
+                                """)));
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    void should_outperform_platform_threads_when_upstream_is_slow() throws Exception {
+        // when
+        var platform = measureThroughput(false);
+        var virtual = measureThroughput(true);
+
+        // then
+        log.info(
+                "Upstream latency {} ms, {} clients, {} Tomcat threads: platform {} req/s, virtual {} req/s",
+                UPSTREAM_LATENCY.toMillis(),
+                CLIENTS,
+                TOMCAT_THREADS,
+                format(platform),
+                format(virtual));
+        assertThat(virtual).isGreaterThan(platform);
+    }
+
+    private double measureThroughput(boolean virtualThreads) throws Exception {
+        try (var context = new SpringApplicationBuilder(TemperatureProxyApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--app.open-meteo.base-url=" + wireMockServer.baseUrl() + "/v1/forecast",
+                        "--app.open-meteo.timeout=5s",
+                        "--app.open-meteo.connect-timeout=5s",
+                        "--app.rate-limit.requests-per-minute=100000000",
+                        "--logging.level.com.temperature.proxy.infrastructure=WARN")) {
+            var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            return drive(port);
+        }
+    }
+
+    private double drive(int port) throws InterruptedException {
+        var completed = new AtomicInteger();
+        var cell = new AtomicLong();
+        var deadline = System.nanoTime() + RUN_TIME.toNanos();
+        var client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        try (var clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var i = 0; i < CLIENTS; i++) {
+                clients.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        // a new cell per request, so every call misses the cache and waits on the upstream
+                        var next = cell.incrementAndGet();
+                        var uri = URI.create(String.format(
+                                Locale.ROOT,
+                                "http://localhost:%d/api/v1/weather/current?lat=%.2f&lon=%.2f",
+                                port,
+                                -80 + (next / 30_000) * 0.01,
+                                -150 + (next % 30_000) * 0.01));
+                        try {
+                            var response = client.send(
+                                    HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200 && System.nanoTime() < deadline) {
+                                completed.incrementAndGet();
+                            }
+                        } catch (Exception ex) {
+                            return;
+                        }
+                    }
+                });
+            }
+        }
+        return completed.get() / (double) RUN_TIME.toSeconds();
+    }
+
+    private static String format(double throughput) {
+        return String.format(Locale.ROOT, "%.0f", throughput);
+    }
+}